@@ -0,0 +1,42 @@
+package com.spring.aidea.vibefiction.dto.response.novel;
+
+import com.spring.aidea.vibefiction.entity.Genres;
+import com.spring.aidea.vibefiction.entity.Novels;
+import com.spring.aidea.vibefiction.entity.Users;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 메인 피드 카드 하나를 만드는 엔티티 &rarr; DTO 변환 비용을 측정하는 벤치마크입니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@State(Scope.Benchmark)
+public class NovelsResponseDtoSHBenchmark {
+
+    Novels novel;
+
+    @Setup
+    public void setUp() {
+        Users author = Users.builder()
+            .userId(1L)
+            .loginId("benchmark")
+            .nickname("벤치마크")
+            .build();
+        List<Genres> genres = List.of(
+            Genres.builder().genreId(1).name(Genres.GenreType.FANTASY).build(),
+            Genres.builder().genreId(2).name(Genres.GenreType.ROMANCE).build(),
+            Genres.builder().genreId(3).name(Genres.GenreType.ISEKAI).build());
+        novel = Novels.create(author, "벤치마크 소설", "시놉시스", Novels.NovelVisibility.PUBLIC, genres);
+    }
+
+    @Benchmark
+    public NovelsResponseDtoSH from() {
+        return NovelsResponseDtoSH.from(novel);
+    }
+}
@@ -0,0 +1,51 @@
+package com.spring.aidea.vibefiction.global.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 모든 인증 요청마다 실행되는 JWT 검증 비용을 측정하는 벤치마크입니다.
+ * 필터가 한 요청에서 수행하는 검증과 사용자 이름 추출을 함께 측정하며,
+ * 검증된 토큰 캐시를 끈 경우({@code 0})와 켠 경우를 비교합니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@State(Scope.Benchmark)
+public class JwtProviderBenchmark {
+
+    @Param({"0", "10000"})
+    long verifiedCacheSize;
+
+    JwtProvider jwtProvider;
+    String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("oIirSuZv9VNydoYp4h2ARrqwxRyPVZW82XGB2MovuKs=");
+        properties.setExpiration(86_400_000L);
+        properties.setVerifiedCacheSize(verifiedCacheSize);
+        jwtProvider = new JwtProvider(properties);
+        token = jwtProvider.generateToken("benchmark", 1L);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String validateAndGetUsername() {
+        jwtProvider.validateToken(token);
+        return jwtProvider.getUsernameFromToken(token);
+    }
+
+    @Benchmark
+    public String parseVerifiedClaims() {
+        return jwtProvider.parseVerifiedClaims(token).getSubject();
+    }
+}
@@ -0,0 +1,39 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.spring.aidea.vibefiction.dto.response.aiInteractionLog.AiContinueResponseTj;
+import com.spring.aidea.vibefiction.dto.response.aiInteractionLog.AiRecommendNovelResponseTj;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 구분자("---") 기반 AI 응답 파싱 비용을 측정하는 벤치마크입니다.
+ * 응답 길이는 프롬프트의 길이 제한(본문 최대 5000자)에 맞춥니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@State(Scope.Benchmark)
+public class AiResponseParsingBenchmark {
+
+    String recommendText;
+    String continueText;
+
+    @Setup
+    public void setUp() {
+        String content = "그날 밤, 마을에는 낯선 별이 떨어졌다. ".repeat(200);
+        recommendText = "별이 떨어진 마을\n---\n제1화: 낯선 별\n---\n" + content;
+        continueText = "제2화: 별의 주인\n---\n" + content;
+    }
+
+    @Benchmark
+    public AiRecommendNovelResponseTj parseRecommendResponse() {
+        return AiAssistServiceTj.toRecommendResponse(1L, recommendText);
+    }
+
+    @Benchmark
+    public AiContinueResponseTj parseContinueResponse() {
+        return AiAssistServiceTj.toContinueResponse(1L, continueText);
+    }
+}
@@ -0,0 +1,69 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.spring.aidea.vibefiction.entity.Chapters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스토리 컨텍스트 구성 비용을 측정하는 벤치마크입니다.
+ * <p>
+ * 전체 회차로 요약을 다시 만드는 경우({@link #rebuildSummary})와 회차 하나를 덧붙이는 경우({@link #appendOneChapter})를
+ * 회차 수별로 비교합니다. 이어쓰기 요청마다 전체 회차를 이어 붙이던 방식 대신 점진적 갱신을 쓰는 근거가 됩니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@State(Scope.Benchmark)
+public class StoryContextBenchmark {
+
+    @Param({"10", "100", "500"})
+    int chapterCount;
+
+    List<Chapters> chapters;
+    String summaryBeforeLast;
+    Chapters lastChapter;
+
+    @Setup
+    public void setUp() {
+        chapters = new ArrayList<>(chapterCount);
+        for (int i = 1; i <= chapterCount; i++) {
+            chapters.add(Chapters.builder()
+                .chapterNumber(i)
+                .title("제목 " + i)
+                .content(("회차 " + i + "의 본문입니다.\n  주인공은 다음 장소로 향했다. ").repeat(150))
+                .build());
+        }
+        lastChapter = chapters.get(chapterCount - 1);
+        summaryBeforeLast = summarize(chapters.subList(0, chapterCount - 1));
+    }
+
+    @Benchmark
+    public String rebuildSummary() {
+        return summarize(chapters);
+    }
+
+    @Benchmark
+    public String appendOneChapter() {
+        return StoryContextServiceTj.appendDigest(summaryBeforeLast, StoryContextServiceTj.toDigest(lastChapter));
+    }
+
+    @Benchmark
+    public String formatRecentChapters() {
+        int from = Math.max(0, chapterCount - StoryContextServiceTj.RECENT_CHAPTER_COUNT);
+        return StoryContextServiceTj.formatChapters(chapters.subList(from, chapterCount));
+    }
+
+    private static String summarize(List<Chapters> chapters) {
+        String summary = "";
+        for (Chapters chapter : chapters) {
+            summary = StoryContextServiceTj.appendDigest(summary, StoryContextServiceTj.toDigest(chapter));
+        }
+        return summary;
+    }
+}
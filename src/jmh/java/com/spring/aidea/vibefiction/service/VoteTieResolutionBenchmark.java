@@ -0,0 +1,48 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.spring.aidea.vibefiction.entity.Proposals;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 투표 마감 시 최다 득표 제안(동점 포함)을 고르는 비용을 제안 수별로 측정하는 벤치마크입니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@State(Scope.Benchmark)
+public class VoteTieResolutionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int proposalCount;
+
+    /** {@code true}이면 최다 득표 제안 두 개가 동점입니다. */
+    @Param({"false", "true"})
+    boolean tied;
+
+    List<Proposals> proposals;
+
+    @Setup
+    public void setUp() {
+        proposals = new ArrayList<>(proposalCount);
+        for (int i = 0; i < proposalCount; i++) {
+            boolean top = (i == 0) || (tied && i == proposalCount - 1);
+            proposals.add(Proposals.builder()
+                .proposalId((long) i)
+                .voteCount(top ? 100 : i % 50)
+                .status(Proposals.Status.VOTING)
+                .build());
+        }
+    }
+
+    @Benchmark
+    public List<Proposals> findTopProposals() {
+        return VoteServiceMj.findTopProposals(proposals);
+    }
+}
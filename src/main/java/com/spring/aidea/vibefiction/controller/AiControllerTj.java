@@ -4,18 +4,24 @@ import com.spring.aidea.vibefiction.dto.request.aiInteractionLog.AiContinueReque
 import com.spring.aidea.vibefiction.dto.request.aiInteractionLog.AiRecommendNovelRequestTj;
 import com.spring.aidea.vibefiction.dto.response.aiInteractionLog.AiContinueResponseTj;
 import com.spring.aidea.vibefiction.dto.response.aiInteractionLog.AiRecommendNovelResponseTj;
-import com.spring.aidea.vibefiction.entity.Users;
 import com.spring.aidea.vibefiction.global.common.ApiResponse;
 import com.spring.aidea.vibefiction.global.exception.BusinessException;
-import com.spring.aidea.vibefiction.global.exception.ErrorCode;
-import com.spring.aidea.vibefiction.repository.UsersRepository;
+import com.spring.aidea.vibefiction.global.jwt.AuthUser;
 import com.spring.aidea.vibefiction.service.AiAssistServiceTj;
+import com.spring.aidea.vibefiction.service.AiGateway;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * AI 기반의 보조 기능(소설 추천, 이어쓰기 제안) API 요청을 처리하는 컨트롤러입니다.
@@ -26,34 +32,40 @@ import org.springframework.web.bind.annotation.*;
  * @author 왕택준
  * @since 2025.08
  */
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/ai")
 public class AiControllerTj {
 
+    /** AI 스트리밍 응답의 최대 유지 시간(ms)입니다. 5000자 분량의 생성도 충분히 끝날 수 있는 값으로 설정합니다. */
+    private static final long AI_STREAM_TIMEOUT_MS = 180_000L;
+
     private final AiAssistServiceTj aiAssistServiceTj;
-    private final UsersRepository usersRepository;
+    /** AI 호출을 요청 스레드와 분리하여 전용 스레드 풀에서 실행하고, 동시 실행 수를 제한하는 게이트웨이입니다. */
+    private final AiGateway aiGateway;
 
     /**
      * 사용자가 입력한 장르와 시놉시스를 기반으로 AI가 새로운 소설의 제목과 1화 내용을 생성하여 추천합니다.
      *
      * @param req AI 추천에 필요한 소설 장르(genre)와 시놉시스(synopsis)를 담은 DTO.
+     * <p>
+     * AI 호출은 {@link AiGateway}를 통해 전용 스레드에서 실행되며, 호출이 끝날 때까지 요청 스레드를 점유하지 않습니다.
+     *
      * @return 성공 시 200 (OK) 상태 코드와 함께 추천 결과를 담은 {@link ApiResponse} 객체를 반환합니다.
+     *         AI 요청이 몰려 한도를 넘은 경우 429 (Too Many Requests)를 반환합니다.
      */
     @PostMapping("/novels/recommend")
-    public ResponseEntity<ApiResponse<AiRecommendNovelResponseTj>> recommend(
-        @Valid @RequestBody AiRecommendNovelRequestTj req) {
-
-        // SecurityContextHolder를 통해 인증된 사용자의 ID를 조회
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String loginId = authentication.getName();
-        Users user = usersRepository.findByLoginId(loginId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "인증된 사용자를 DB에서 찾을 수 없습니다."));
-        Long userId = user.getUserId();
-
-        // 인증된 사용자의 ID와 요청 데이터를 서비스 레이어로 전달하여 AI 추천 로직 수행
-        AiRecommendNovelResponseTj responseData = aiAssistServiceTj.recommendForNewNovel(userId, req);
-        return ResponseEntity.ok(ApiResponse.success("AI 소설 추천 성공", responseData));
+    public CompletableFuture<ResponseEntity<ApiResponse<AiRecommendNovelResponseTj>>> recommend(
+        @Valid @RequestBody AiRecommendNovelRequestTj req,
+        @AuthenticationPrincipal AuthUser authUser) {
+
+        // JWT 클레임으로 만들어진 인증 주체에서 사용자 ID를 바로 꺼냄 (DB 조회 없음)
+        Long userId = AuthUser.requireUserId(authUser);
+
+        // 인증된 사용자의 ID와 요청 데이터를 서비스 레이어로 전달하여 AI 추천 로직 수행 (AI 전용 스레드에서 실행)
+        return aiGateway.submit(userId, () -> aiAssistServiceTj.recommendForNewNovel(userId, req))
+            .thenApply(responseData -> ResponseEntity.ok(ApiResponse.success("AI 소설 추천 성공", responseData)));
     }
 
     /**
@@ -62,21 +74,85 @@ public class AiControllerTj {
      * @param chapterId   이어쓰기를 제안받을 대상 회차의 고유 ID.
      * @param req         AI 이어쓰기 생성에 필요한 가이드라인(guideline) 등의 정보를 담은 DTO.
      * @return 성공 시 200 (OK) 상태 코드와 함께 제안된 내용을 담은 {@link ApiResponse} 객체를 반환합니다.
+     *         AI 요청이 몰려 한도를 넘은 경우 429 (Too Many Requests)를 반환합니다.
      */
     @PostMapping("/chapters/{chapterId}/continue")
-    public ResponseEntity<ApiResponse<AiContinueResponseTj>> cont(
+    public CompletableFuture<ResponseEntity<ApiResponse<AiContinueResponseTj>>> cont(
+        @PathVariable Long chapterId,
+        @Valid @RequestBody AiContinueRequestTj req,
+        @AuthenticationPrincipal AuthUser authUser) {
+
+        // JWT 클레임으로 만들어진 인증 주체에서 사용자 ID를 바로 꺼냄 (DB 조회 없음)
+        Long userId = AuthUser.requireUserId(authUser);
+
+        // 인증된 사용자 ID, 대상 회차 ID, 요청 데이터를 서비스 레이어로 전달하여 AI 이어쓰기 로직 수행 (AI 전용 스레드에서 실행)
+        return aiGateway.submit(userId, () -> aiAssistServiceTj.continueForChapter(userId, chapterId, req))
+            .thenApply(responseData -> ResponseEntity.ok(ApiResponse.success("AI 이어쓰기 추천 성공", responseData)));
+    }
+
+    /**
+     * 특정 소설 회차에 이어질 다음 내용을 AI가 생성하는 즉시, Server-Sent Events(SSE)로 흘려보냅니다.
+     * <p>
+     * {@link #cont}와 동일한 작업을 수행하지만, 전체 응답이 완성될 때까지 기다리지 않고
+     * 생성된 텍스트 조각을 곧바로 전송하여 에디터에 글이 써지는 모습을 보여줄 수 있습니다.
+     * <ul>
+     *   <li>{@code chunk}: 새로 생성된 텍스트 조각. {@code {"text": "..."}} 형식의 JSON입니다.</li>
+     *   <li>{@code done}: 스트림이 끝난 뒤, 제목/내용이 분리된 최종 결과({@link AiContinueResponseTj}).</li>
+     *   <li>{@code error}: 생성 도중 오류가 발생한 경우의 안내 메시지.</li>
+     * </ul>
+     *
+     * @param chapterId 이어쓰기를 제안받을 대상 회차의 고유 ID.
+     * @param req       AI 이어쓰기 생성에 필요한 가이드라인(guideline) 등의 정보를 담은 DTO.
+     * @return AI 생성 결과를 흘려보낼 {@link SseEmitter}.
+     * @throws BusinessException {@code AI_TOO_MANY_REQUESTS}: AI 요청 한도를 넘은 경우. 스트림을 열기 전에 429로 응답합니다.
+     */
+    @PostMapping(value = "/chapters/{chapterId}/continue/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter contStream(
         @PathVariable Long chapterId,
-        @Valid @RequestBody AiContinueRequestTj req) {
-
-        // SecurityContextHolder를 통해 인증된 사용자의 ID를 조회
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String loginId = authentication.getName();
-        Users user = usersRepository.findByLoginId(loginId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "인증된 사용자를 DB에서 찾을 수 없습니다."));
-        Long userId = user.getUserId();
-
-        // 인증된 사용자 ID, 대상 회차 ID, 요청 데이터를 서비스 레이어로 전달하여 AI 이어쓰기 로직 수행
-        AiContinueResponseTj responseData = aiAssistServiceTj.continueForChapter(userId, chapterId, req);
-        return ResponseEntity.ok(ApiResponse.success("AI 이어쓰기 추천 성공", responseData));
+        @Valid @RequestBody AiContinueRequestTj req,
+        @AuthenticationPrincipal AuthUser authUser) {
+
+        // 인증 주체는 요청 스레드에서 주입되므로, 작업 스레드로 넘기기 전에 사용자 ID를 확정
+        Long userId = AuthUser.requireUserId(authUser);
+
+        SseEmitter emitter = new SseEmitter(AI_STREAM_TIMEOUT_MS);
+        // 클라이언트가 도중에 연결을 끊더라도 AI 생성과 로그 기록은 끝까지 진행하기 위한 플래그
+        AtomicBoolean clientGone = new AtomicBoolean(false);
+        emitter.onCompletion(() -> clientGone.set(true));
+        emitter.onTimeout(() -> clientGone.set(true));
+
+        // 한도 초과 시 여기서 BusinessException이 던져져, SSE 스트림이 아닌 일반 JSON 에러(429)로 응답
+        aiGateway.submit(userId, () -> {
+            try {
+                AiContinueResponseTj result = aiAssistServiceTj.continueForChapterStream(userId, chapterId, req,
+                    chunk -> sendEvent(emitter, clientGone, "chunk", Map.of("text", chunk)));
+                sendEvent(emitter, clientGone, "done", result);
+                emitter.complete();
+            } catch (Exception e) {
+                log.error("AI 이어쓰기 스트리밍 중 오류 발생 (챕터 ID: {})", chapterId, e);
+                sendEvent(emitter, clientGone, "error", Map.of("message", "AI 이어쓰기 생성 중 오류가 발생했습니다."));
+                emitter.complete();
+            }
+            return null;
+        });
+        return emitter;
+    }
+
+    /**
+     * SSE 이벤트 하나를 JSON 형식으로 전송합니다.
+     * <p>
+     * 텍스트 조각에 줄바꿈이 섞여 있어도 SSE 프레임이 깨지지 않도록 항상 JSON으로 감싸서 보냅니다.
+     * 클라이언트 연결이 이미 끊긴 경우에는 전송을 건너뜁니다.
+     */
+    private void sendEvent(SseEmitter emitter, AtomicBoolean clientGone, String name, Object data) {
+        if (clientGone.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            clientGone.set(true);
+            log.debug("AI 스트리밍 클라이언트 연결이 끊어졌습니다: {}", e.getMessage());
+        }
     }
 }
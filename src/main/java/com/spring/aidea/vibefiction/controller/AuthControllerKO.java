@@ -3,16 +3,21 @@ package com.spring.aidea.vibefiction.controller;
 import com.spring.aidea.vibefiction.dto.request.user.LoginRequestKO;
 import com.spring.aidea.vibefiction.dto.request.user.SignUpRequestKO;
 import com.spring.aidea.vibefiction.dto.response.user.AuthResponseKO;
+import com.spring.aidea.vibefiction.dto.response.user.AvailabilityResponseKO;
 import com.spring.aidea.vibefiction.dto.response.user.UserResponseKO;
 import com.spring.aidea.vibefiction.global.common.ApiResponse;
 import com.spring.aidea.vibefiction.service.LoginServiceKO;
 import com.spring.aidea.vibefiction.service.SignUpServiceKO;
+import com.spring.aidea.vibefiction.service.UserAvailabilityIndex;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @Slf4j
@@ -21,6 +26,7 @@ public class AuthControllerKO {
 
     private final SignUpServiceKO signUpServiceKO;
     private final LoginServiceKO loginServiceKO;
+    private final UserAvailabilityIndex userAvailabilityIndex;
 
 
     /**
@@ -42,17 +48,17 @@ public class AuthControllerKO {
     /**
      *  로그인 API
      *  POST: /api/auth/login
+     *  - 비밀번호 확인(BCrypt)은 해시 전용 스레드에서 실행되며, 그동안 요청 스레드를 점유하지 않음
+     *  - 로그인이 몰려 해시 대기열이 가득 차면 429
      */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody @Valid LoginRequestKO requestDto) {
+    public CompletableFuture<ResponseEntity<ApiResponse<AuthResponseKO>>> login(@RequestBody @Valid LoginRequestKO requestDto) {
         log.info("로그인요청 {}",requestDto.getLoginIdOrEmail());
 
-        AuthResponseKO response = loginServiceKO.authenticate(requestDto);
-
-
-        return ResponseEntity.ok().body(
+        return loginServiceKO.authenticateAsync(requestDto)
+            .thenApply(response -> ResponseEntity.ok().body(
                 ApiResponse.success("로그인이 완료되었습니다.",response)
-        );
+            ));
     }
 
     /**
@@ -102,4 +108,23 @@ public class AuthControllerKO {
                 exists
             ));
     }
+
+    /**
+     * 사용자명/이메일/닉네임 중복 일괄 체크 API
+     * GET /api/auth/check-availability?loginId=xxx&email=xxx&nickname=xxx (모두 선택, 하나 이상 필요)
+     * - 회원가입 제출 전에 세 항목을 한 번의 요청으로 확인
+     * - 클라이언트(IP)별 분당 호출 수 제한 (auth.availability.batch-requests-per-minute)
+     */
+    @GetMapping("/check-availability")
+    public ResponseEntity<?> checkAvailability(
+        @RequestParam(required = false) String loginId,
+        @RequestParam(required = false) String email,
+        @RequestParam(required = false) String nickname,
+        HttpServletRequest request) {
+
+        AvailabilityResponseKO result = userAvailabilityIndex.checkAll(request.getRemoteAddr(), loginId, email, nickname);
+
+        return ResponseEntity.ok()
+            .body(ApiResponse.success("중복 확인이 완료되었습니다.", result));
+    }
 }
@@ -1,15 +1,19 @@
 package com.spring.aidea.vibefiction.controller;
 
+import com.spring.aidea.vibefiction.dto.response.chapter.ChapterContentResponseSH;
 import com.spring.aidea.vibefiction.dto.response.chapter.ChapterResponseSH;
+import com.spring.aidea.vibefiction.dto.response.chapter.ChapterTocResponseSH;
 import com.spring.aidea.vibefiction.global.exception.BusinessException;
 import com.spring.aidea.vibefiction.global.exception.ErrorCode;
 import com.spring.aidea.vibefiction.service.ChapterServiceSH;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -51,4 +55,47 @@ public class ChapterControllerSH {
 
         return ResponseEntity.ok().body(chapters);
     }
+
+
+    /**
+     * 소설의 목차(회차 메타데이터 목록)를 반환합니다.
+     * 본문(content)은 포함하지 않으므로, 회차가 많은 소설도 목차를 가볍게 그릴 수 있습니다.
+     *
+     * @param novelId
+     * @return - 예시 { "chapterId": 3, "novelId": 3, "chapterNumber": 1, "title": "입학 통지서",
+     *                  "author": "이야기꾼조씨", "status": "PUBLISHED", "createdAt": "2025-08-01T10:00:00" }
+     */
+    @GetMapping("/{novelId}/toc")
+    public ResponseEntity<List<ChapterTocResponseSH>> findChapterToc(@PathVariable Long novelId) {
+
+        List<ChapterTocResponseSH> toc = chapterServiceSH.findChapterToc(novelId);
+        if (toc.isEmpty()) throw new BusinessException(ErrorCode.CHAPTER_NOT_FOUND);
+
+        return ResponseEntity.ok().body(toc);
+    }
+
+
+    /**
+     * 회차 하나의 본문을 반환합니다. ETag 기반 조건부 요청(If-None-Match)을 지원합니다.
+     * <p>
+     * 브라우저가 이전에 받은 ETag를 보내고 본문이 바뀌지 않았다면, 본문을 읽지 않고 304 (Not Modified)로 응답합니다.
+     * {@code Cache-Control: no-cache}로 매번 재검증하게 하여, 회차가 삭제되면 바로 반영되도록 합니다.
+     *
+     * @param chapterId
+     * @return 200 (본문 포함) 또는 304 (본문 없음)
+     */
+    @GetMapping("/{chapterId}/content")
+    public ResponseEntity<ChapterContentResponseSH> findChapterContent(@PathVariable Long chapterId, WebRequest webRequest) {
+
+        String eTag = chapterServiceSH.getChapterContentETag(chapterId);
+        if (webRequest.checkNotModified(eTag)) {
+            // 304 응답은 Spring이 처리 (ETag 헤더 포함)
+            return null;
+        }
+
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache())
+            .body(chapterServiceSH.findChapterContent(chapterId));
+    }
 }
@@ -3,19 +3,15 @@ package com.spring.aidea.vibefiction.controller;
 import com.spring.aidea.vibefiction.dto.request.chapter.ChapterCreateRequestTj;
 import com.spring.aidea.vibefiction.dto.response.chapter.ChapterCreateResponseTj;
 import com.spring.aidea.vibefiction.dto.response.chapter.ChapterResponseSH;
-import com.spring.aidea.vibefiction.entity.Users;
 import com.spring.aidea.vibefiction.global.common.ApiResponse;
-import com.spring.aidea.vibefiction.global.exception.BusinessException;
-import com.spring.aidea.vibefiction.global.exception.ErrorCode;
-import com.spring.aidea.vibefiction.repository.UsersRepository;
+import com.spring.aidea.vibefiction.global.jwt.AuthUser;
 import com.spring.aidea.vibefiction.service.ChapterServiceSH;
 import com.spring.aidea.vibefiction.service.ChapterServiceTj;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -35,7 +31,6 @@ import java.util.List;
 public class ChapterControllerTj {
 
     private final ChapterServiceTj chapterServiceTj;
-    private final UsersRepository usersRepository;
 
     /**
      * 특정 소설에 새로운 회차를 생성하고 등록합니다.
@@ -47,14 +42,11 @@ public class ChapterControllerTj {
     @PostMapping
     public ResponseEntity<ApiResponse<ChapterCreateResponseTj>> create(
         @PathVariable Long novelId,
-        @Valid @RequestBody ChapterCreateRequestTj req) {
-
-        // SecurityContextHolder를 통해 인증된 사용자의 ID를 조회
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String loginId = authentication.getName();
-        Users author = usersRepository.findByLoginId(loginId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "인증된 사용자를 DB에서 찾을 수 없습니다."));
-        Long authorId = author.getUserId();
+        @Valid @RequestBody ChapterCreateRequestTj req,
+        @AuthenticationPrincipal AuthUser authUser) {
+
+        // JWT 클레임으로 만들어진 인증 주체에서 사용자 ID를 바로 꺼냄 (DB 조회 없음)
+        Long authorId = AuthUser.requireUserId(authUser);
 
         // 서비스 레이어로 소설 ID, 작가 ID, 요청 데이터를 전달하여 회차 생성 로직 수행
         ChapterCreateResponseTj result = chapterServiceTj.create(novelId, authorId, req, null);
@@ -1,5 +1,6 @@
 package com.spring.aidea.vibefiction.controller;
 
+import com.spring.aidea.vibefiction.dto.response.novel.NovelFeedResponseSH;
 import com.spring.aidea.vibefiction.dto.response.novel.NovelsResponseDtoSH;
 import com.spring.aidea.vibefiction.global.exception.BusinessException;
 import com.spring.aidea.vibefiction.global.exception.ErrorCode;
@@ -12,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -38,6 +40,20 @@ public class MainPageControllerSH {
     }
 
 
+    /**
+     * 메인 피드(무한 스크롤)용 커서 기반 소설 목록 조회
+     * - 첫 요청은 cursor 없이 호출하고, 이후에는 응답의 nextCursor를 그대로 전달
+     * - OFFSET 방식과 달리 스크롤이 깊어져도 조회 비용이 페이지 크기만큼으로 일정
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<NovelFeedResponseSH> findNovelsFeed(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "8") int size) {
+
+        return ResponseEntity.ok(mainPageServiceSH.findNovelsFeed(cursor, size));
+    }
+
+
     @GetMapping("/{NovelId}")
     public ResponseEntity<?> findNovelById(@PathVariable Long NovelId) {
         NovelsResponseDtoSH foundNovel = mainPageServiceSH.findNovelById(NovelId);
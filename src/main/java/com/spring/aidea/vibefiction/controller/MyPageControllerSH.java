@@ -1,17 +1,12 @@
 package com.spring.aidea.vibefiction.controller;
 
-// import 문에 UserDetails 추가
 import com.spring.aidea.vibefiction.dto.request.user.UserUpdateRequestSH;
 import com.spring.aidea.vibefiction.dto.response.user.MyPageResponseSH;
-import com.spring.aidea.vibefiction.entity.Users;
-import com.spring.aidea.vibefiction.global.exception.BusinessException;
-import com.spring.aidea.vibefiction.global.exception.ErrorCode;
-import com.spring.aidea.vibefiction.repository.UsersRepository;
+import com.spring.aidea.vibefiction.global.jwt.AuthUser;
 import com.spring.aidea.vibefiction.service.MyPageServiceSH;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -24,22 +19,15 @@ import org.springframework.web.multipart.MultipartFile;
 public class MyPageControllerSH {
 
     public final MyPageServiceSH myPageServiceSH;
-    public final UsersRepository usersRepository;
 
     @GetMapping
 
 
-    public ResponseEntity<?> getMyPage(@AuthenticationPrincipal UserDetails userDetails){
+    public ResponseEntity<?> getMyPage(@AuthenticationPrincipal AuthUser authUser){
 
 
-        String loginId = userDetails.getUsername();
-
-        Users users = usersRepository.findByLoginId(loginId)
-            .orElseGet(() -> usersRepository.findByEmail(loginId).orElseThrow(
-                () -> new BusinessException(ErrorCode.USER_NOT_FOUND)
-            ));
-
-        Long userid = users.getUserId();
+        // JWT 클레임으로 만들어진 인증 주체에서 사용자 ID를 바로 꺼냄 (DB 조회 없음)
+        Long userid = AuthUser.requireUserId(authUser);
 
         MyPageResponseSH userAndNovels = myPageServiceSH.findUserAndNovelsById(userid);
 
@@ -49,7 +37,7 @@ public class MyPageControllerSH {
     @PostMapping
     public ResponseEntity<?> updateProfile(
 
-        @AuthenticationPrincipal UserDetails userDetails,
+        @AuthenticationPrincipal AuthUser authUser,
         @RequestParam(required = false) String nickname,
         @RequestParam(required = false) String email,
         @RequestParam(required = false) String password,
@@ -57,8 +45,6 @@ public class MyPageControllerSH {
         @RequestParam(required = false) MultipartFile profileImage
     ) {
 
-        String loginId = userDetails.getUsername();
-
         UserUpdateRequestSH updateRequest = new UserUpdateRequestSH();
 
 
@@ -75,12 +61,7 @@ public class MyPageControllerSH {
             updateRequest.setProfileImage(profileImage);
         }
 
-        Users users = usersRepository.findByLoginId(loginId)
-            .orElseGet(() -> usersRepository.findByEmail(loginId).orElseThrow(
-                () -> new BusinessException(ErrorCode.USER_NOT_FOUND)
-            ));
-
-        Long userid = users.getUserId();
+        Long userid = AuthUser.requireUserId(authUser);
 
         myPageServiceSH.updateUserProfile(userid, updateRequest, currentPassword);
 
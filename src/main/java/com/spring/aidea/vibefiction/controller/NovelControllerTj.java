@@ -2,18 +2,14 @@ package com.spring.aidea.vibefiction.controller;
 
 import com.spring.aidea.vibefiction.dto.request.novel.NovelCreateRequestTj;
 import com.spring.aidea.vibefiction.dto.response.novel.NovelCreateResponseTj;
-import com.spring.aidea.vibefiction.entity.Users;
 import com.spring.aidea.vibefiction.global.common.ApiResponse;
-import com.spring.aidea.vibefiction.global.exception.BusinessException;
-import com.spring.aidea.vibefiction.global.exception.ErrorCode;
-import com.spring.aidea.vibefiction.repository.UsersRepository;
+import com.spring.aidea.vibefiction.global.jwt.AuthUser;
 import com.spring.aidea.vibefiction.service.NovelServiceTj;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -31,7 +27,6 @@ import org.springframework.web.bind.annotation.*;
 public class NovelControllerTj {
 
     private final NovelServiceTj novelServiceTj;
-    private final UsersRepository usersRepository;
 
     /**
      * 인증된 사용자의 새로운 소설 작품을 생성합니다.
@@ -41,14 +36,11 @@ public class NovelControllerTj {
      */
     @PostMapping
     public ResponseEntity<ApiResponse<NovelCreateResponseTj>> create(
-        @Valid @RequestBody NovelCreateRequestTj req) {
+        @Valid @RequestBody NovelCreateRequestTj req,
+        @AuthenticationPrincipal AuthUser authUser) {
 
-        // SecurityContextHolder를 통해 인증된 사용자의 ID를 조회
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String loginId = authentication.getName();
-        Users author = usersRepository.findByLoginId(loginId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "인증된 사용자를 DB에서 찾을 수 없습니다."));
-        Long authorId = author.getUserId();
+        // JWT 클레임으로 만들어진 인증 주체에서 사용자 ID를 바로 꺼냄 (DB 조회 없음)
+        Long authorId = AuthUser.requireUserId(authUser);
 
         // 인증된 사용자(작가)의 ID와 소설 생성 요청 데이터를 서비스 레이어로 전달하여 처리
         NovelCreateResponseTj result = novelServiceTj.create(authorId, req);
@@ -3,18 +3,14 @@ package com.spring.aidea.vibefiction.controller;
 import com.spring.aidea.vibefiction.dto.request.proposal.ProposalCreateRequestTj;
 import com.spring.aidea.vibefiction.dto.response.proposal.ProposalCreateResponseTj;
 import com.spring.aidea.vibefiction.dto.response.proposal.ProposalSummaryResponseTj;
-import com.spring.aidea.vibefiction.entity.Users;
 import com.spring.aidea.vibefiction.global.common.ApiResponse;
-import com.spring.aidea.vibefiction.global.exception.BusinessException;
-import com.spring.aidea.vibefiction.global.exception.ErrorCode;
-import com.spring.aidea.vibefiction.repository.UsersRepository;
+import com.spring.aidea.vibefiction.global.jwt.AuthUser;
 import com.spring.aidea.vibefiction.service.ProposalServiceTj;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -35,7 +31,6 @@ import java.util.List;
 public class ProposalControllerTj {
 
     private final ProposalServiceTj proposalServiceTj;
-    private final UsersRepository usersRepository;
 
     /**
      * 인증된 사용자가 특정 회차에 대한 새로운 이어쓰기 내용을 제안하고 등록합니다.
@@ -50,14 +45,11 @@ public class ProposalControllerTj {
     @PostMapping
     public ResponseEntity<ApiResponse<ProposalCreateResponseTj>> create(
         @PathVariable Long chapterId,
-        @Valid @RequestBody ProposalCreateRequestTj req) {
+        @Valid @RequestBody ProposalCreateRequestTj req,
+        @AuthenticationPrincipal AuthUser authUser) {
 
-        // SecurityContextHolder를 통해 인증된 사용자의 ID를 조회
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String loginId = authentication.getName();
-        Users proposer = usersRepository.findByLoginId(loginId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "인증된 사용자를 DB에서 찾을 수 없습니다."));
-        Long proposerId = proposer.getUserId();
+        // JWT 클레임으로 만들어진 인증 주체에서 사용자 ID를 바로 꺼냄 (DB 조회 없음)
+        Long proposerId = AuthUser.requireUserId(authUser);
 
         // 인증된 제안자 ID와 요청 데이터를 서비스 레이어로 전달하여 제안 생성 처리
         ProposalCreateResponseTj result = proposalServiceTj.create(chapterId, proposerId, req);
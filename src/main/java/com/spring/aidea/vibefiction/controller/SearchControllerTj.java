@@ -0,0 +1,55 @@
+package com.spring.aidea.vibefiction.controller;
+
+import com.spring.aidea.vibefiction.dto.response.search.SearchResponseTj;
+import com.spring.aidea.vibefiction.global.common.ApiResponse;
+import com.spring.aidea.vibefiction.global.exception.BusinessException;
+import com.spring.aidea.vibefiction.global.exception.ErrorCode;
+import com.spring.aidea.vibefiction.service.NovelSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 소설/회차 전문 검색 API 요청을 처리하는 컨트롤러입니다.
+ *
+ * 검색은 DB가 아닌 내장 검색 색인({@link NovelSearchIndex})에서 수행되므로, 본문(MEDIUMTEXT)을
+ * {@code LIKE}로 훑지 않습니다. 공개 소설만 색인되므로 누구나 호출할 수 있습니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/search")
+public class SearchControllerTj {
+
+    /** 검색어 최대 길이. 긴 입력은 분석 비용만 키우고 순위에 도움이 되지 않습니다. */
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final NovelSearchIndex novelSearchIndex;
+
+    /**
+     * 검색어와 관련도가 높은 순서로 소설과 회차를 찾습니다.
+     *
+     * @param q    검색어 (제목, 시놉시스, 장르, 회차 본문 대상)
+     * @param type 결과 종류 필터 ({@code NOVEL} | {@code CHAPTER}). 생략하면 둘 다.
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (최대 {@code search.max-page-size})
+     * @return 관련도 순으로 정렬된 검색 결과 페이지
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<SearchResponseTj>> search(
+        @RequestParam String q,
+        @RequestParam(required = false) NovelSearchIndex.DocumentType type,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "10") int size) {
+
+        String query = q.strip();
+        if (query.isEmpty() || query.length() > MAX_QUERY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        SearchResponseTj result = novelSearchIndex.search(query, type, page, size);
+        return ResponseEntity.ok(ApiResponse.success("검색 성공", result));
+    }
+}
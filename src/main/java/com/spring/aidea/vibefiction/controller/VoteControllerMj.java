@@ -5,13 +5,18 @@ import com.spring.aidea.vibefiction.dto.request.vote.VoteRequestMj;
 import com.spring.aidea.vibefiction.dto.response.vote.VoteListAndClosingResponseMj;
 import com.spring.aidea.vibefiction.global.common.ApiResponse;
 import com.spring.aidea.vibefiction.service.VoteServiceMj;
+import com.spring.aidea.vibefiction.service.VoteTallyBroadcaster;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
 
 @RestController
 @RequiredArgsConstructor
@@ -20,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class VoteControllerMj {
 
     private final VoteServiceMj voteServiceMj;
+    private final VoteTallyBroadcaster voteTallyBroadcaster;
 
     /**
      * 특정 소설의 투표 제안 목록을 페이지네이션하여 조회합니다.
@@ -39,6 +45,21 @@ public class VoteControllerMj {
         return ApiResponse.success("투표 제안 목록을 성공적으로 조회했습니다.", response);
     }
 
+    /**
+     * 회차의 투표 현황을 실시간으로 구독하는 SSE API
+     * GET /api/vote/chapters/{chapterId}/stream
+     * 250ms 단위로 모은 투표 수 변화량(tally)과 마감(closed) 이벤트를 전송하므로, 목록을 반복 조회할 필요가 없습니다.
+     */
+    @GetMapping(value = "/chapters/{chapterId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamTally(@PathVariable Long chapterId) {
+        try {
+            LocalDateTime deadline = voteServiceMj.getVotingDeadline(chapterId);
+            return ResponseEntity.ok(voteTallyBroadcaster.subscribe(chapterId, deadline));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
     /**
      * 투표 요청 API
      * POST /api/vote/do
@@ -44,4 +44,12 @@ public class AiRecommendNovelRequestTj {
      */
     @NotBlank(message = "소설 시놉시스는 비어 있을 수 없습니다.")
     private String synopsis;
+
+    /**
+     * 캐시된 추천 결과를 사용하지 않고 AI에게 새로 생성을 요청할지 여부입니다.
+     * <p>
+     * 같은 장르/시놉시스의 추천 결과는 일정 시간 캐시되므로, 사용자가 "다시 추천"을 원할 때 {@code true}로 보냅니다.
+     * 새로 생성된 결과는 다시 캐시에 저장됩니다.
+     */
+    private boolean regenerate;
 }
@@ -0,0 +1,40 @@
+package com.spring.aidea.vibefiction.dto.response.chapter;
+
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.*;
+
+/**
+ * 회차 하나의 본문을 읽기 위한 DTO입니다. ({@code GET /api/chapters/{chapterId}/content})
+ *
+ * @author SH (Original Author)
+ * @author 왕택준 (Refactored by)
+ * @since 2025.08
+ */
+@Getter
+@ToString(exclude = "content")
+@EqualsAndHashCode
+@NoArgsConstructor
+public class ChapterContentResponseSH {
+
+    private Long chapterId;
+    private Long novelId;
+    private Integer chapterNumber;
+    private String title;
+    private String content;
+    private String author;
+
+
+    @QueryProjection
+    public ChapterContentResponseSH(
+        Long chapterId, Long novelId, Integer chapterNumber,
+        String title, String content, String author) {
+
+        this.chapterId = chapterId;
+        this.novelId = novelId;
+        this.chapterNumber = chapterNumber;
+        this.title = title;
+        this.content = content;
+        this.author = author;
+    }
+}
@@ -0,0 +1,48 @@
+package com.spring.aidea.vibefiction.dto.response.chapter;
+
+
+import com.querydsl.core.annotations.QueryProjection;
+import com.spring.aidea.vibefiction.entity.Chapters;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 소설의 목차(회차 목록)를 그리기 위한 회차 메타데이터 DTO입니다.
+ * <p>
+ * 본문(content, MEDIUMTEXT)은 포함하지 않습니다. 본문은 독자가 회차를 열 때
+ * {@code GET /api/chapters/{chapterId}/content}로 한 회차씩 조회합니다.
+ *
+ * @author SH (Original Author)
+ * @author 왕택준 (Refactored by)
+ * @since 2025.08
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+public class ChapterTocResponseSH {
+
+    private Long chapterId;
+    private Long novelId;
+    private Integer chapterNumber;
+    private String title;
+    private String author;
+    private String status;
+    private LocalDateTime createdAt;
+
+
+    @QueryProjection
+    public ChapterTocResponseSH(
+        Long chapterId, Long novelId, Integer chapterNumber,
+        String title, String author, Chapters.Status status, LocalDateTime createdAt) {
+
+        this.chapterId = chapterId;
+        this.novelId = novelId;
+        this.chapterNumber = chapterNumber;
+        this.title = title;
+        this.author = author;
+        this.status = status.name();
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,31 @@
+package com.spring.aidea.vibefiction.dto.response.novel;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 메인 피드(무한 스크롤)의 커서 기반 페이지 응답 DTO입니다.
+ * <p>
+ * 클라이언트는 다음 페이지를 요청할 때 {@link #nextCursor}를 그대로 {@code cursor} 파라미터로 전달합니다.
+ * 커서의 내부 형식은 서버 구현에 속하므로 클라이언트가 해석하거나 만들어서는 안 됩니다.
+ *
+ * @author SH
+ * @since 2025.08
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NovelFeedResponseSH {
+
+    /** 이번 페이지의 소설 목록 (최신순) */
+    private List<NovelsResponseDtoSH> novels;
+
+    /** 다음 페이지를 요청할 때 사용할 불투명(opaque) 커서. 다음 페이지가 없으면 {@code null} */
+    private String nextCursor;
+
+    /** 다음 페이지 존재 여부 */
+    private boolean hasNext;
+}
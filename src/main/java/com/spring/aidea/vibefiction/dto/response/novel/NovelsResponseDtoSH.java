@@ -3,9 +3,11 @@ package com.spring.aidea.vibefiction.dto.response.novel;
 import com.spring.aidea.vibefiction.entity.Genres;
 import com.spring.aidea.vibefiction.entity.NovelGenres;
 import com.spring.aidea.vibefiction.entity.Novels;
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -48,12 +50,43 @@ public class NovelsResponseDtoSH {
     /** 소설의 총 조회수 */
     private Long viewCount;
 
-    /** 소설에 부여된 장르 목록 (Enum 상수명, e.g., "FANTASY", "ROMANCE") */
+    /** 소설에 부여된 장르 목록 (장르의 한글 설명, e.g., "판타지", "로맨스") */
+    @Setter
     private List<String> genres;
 
     /** 소설이 마지막으로 업데이트된 일시 */
     private LocalDateTime lastUpdatedAt;
 
+    /** 소설이 생성된 일시 (메인 피드의 정렬 및 커서 기준) */
+    private LocalDateTime createdAt;
+
+
+    /**
+     * QueryDSL DTO Projection 전용 생성자입니다.
+     * <p>
+     * 소설과 작가 정보를 한 번의 조인 쿼리로 바로 DTO로 조회하기 위해 사용됩니다.
+     * 장르 목록은 한 번의 조회로 채울 수 없으므로, 여러 소설의 장르를 한꺼번에 조회한 뒤
+     * {@link #setGenres}로 채웁니다. ({@code NovelsRepositoryImpl} 참고)
+     */
+    @QueryProjection
+    public NovelsResponseDtoSH(
+        Long novelId, String title, Long authorId, String authorName, String coverImageUrl,
+        String synopsis, Novels.NovelStatus status, Long viewCount,
+        LocalDateTime lastUpdatedAt, LocalDateTime createdAt) {
+
+        this.novelId = novelId;
+        this.title = title;
+        this.authorId = authorId;
+        this.authorName = authorName;
+        this.coverImageUrl = coverImageUrl;
+        this.synopsis = synopsis;
+        this.status = status.name();
+        this.viewCount = viewCount;
+        this.genres = new ArrayList<>();
+        this.lastUpdatedAt = lastUpdatedAt;
+        this.createdAt = createdAt;
+    }
+
 
     /**
      * Novels 엔티티를 클라이언트에 전달할 DTO 형태로 변환하는 정적 팩토리 메서드입니다.
@@ -80,6 +113,7 @@ public class NovelsResponseDtoSH {
                 .collect(Collectors.toList())
             )
             .lastUpdatedAt(novels.getLastUpdatedAt())
+            .createdAt(novels.getCreatedAt())
             .build();
     }
 }
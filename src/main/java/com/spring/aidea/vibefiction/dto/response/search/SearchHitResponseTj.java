@@ -0,0 +1,46 @@
+package com.spring.aidea.vibefiction.dto.response.search;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 작품 검색 결과 한 건(소설 또는 회차)을 나타내는 응답 DTO입니다.
+ * <p>
+ * {@link #type}이 {@code NOVEL}이면 회차 관련 필드({@code chapterId}, {@code chapterNumber})는 {@code null}이고,
+ * {@code CHAPTER}이면 {@code genres}가 비어 있습니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchHitResponseTj {
+
+    /** 결과 종류 ({@code NOVEL} | {@code CHAPTER}) */
+    private String type;
+
+    private Long novelId;
+
+    /** 소설 제목. 회차 결과에서도 어느 소설의 회차인지 보여주기 위해 채워집니다. */
+    private String novelTitle;
+
+    private Long chapterId;
+
+    private Integer chapterNumber;
+
+    /** 검색어와 일치한 문서의 제목 (소설 결과는 소설 제목, 회차 결과는 회차 제목) */
+    private String title;
+
+    /** 시놉시스 또는 회차 본문의 앞부분 */
+    private String preview;
+
+    /** 소설의 장르 이름 목록 (한글) */
+    private List<String> genres;
+
+    /** 검색어와의 관련도 점수. 같은 검색 안에서의 순위 비교에만 의미가 있습니다. */
+    private float score;
+}
@@ -0,0 +1,42 @@
+package com.spring.aidea.vibefiction.dto.response.search;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 작품 검색의 페이지 응답 DTO입니다. 결과는 관련도 순으로 정렬됩니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResponseTj {
+
+    /** 요청한 검색어 */
+    private String query;
+
+    /** 현재 페이지 번호 (0부터 시작) */
+    private int page;
+
+    /** 페이지 크기 */
+    private int size;
+
+    /**
+     * 검색어와 일치한 전체 문서 수입니다.
+     * 색인 엔진이 순위 계산을 일찍 끝낸 경우 실제보다 작을 수 있으며, 이때 {@link #totalHitsExact}가 {@code false}입니다.
+     */
+    private long totalHits;
+
+    private boolean totalHitsExact;
+
+    /** 다음 페이지 존재 여부. 최대 조회 범위({@code search.max-result-window})를 넘는 페이지는 없는 것으로 봅니다. */
+    private boolean hasNext;
+
+    /** 이번 페이지의 검색 결과 (관련도 순) */
+    private List<SearchHitResponseTj> hits;
+}
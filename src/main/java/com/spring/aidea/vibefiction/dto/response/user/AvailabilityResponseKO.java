@@ -0,0 +1,25 @@
+package com.spring.aidea.vibefiction.dto.response.user;
+
+import lombok.*;
+
+/**
+ * 회원가입 아이디/이메일/닉네임 중복 여부를 한 번에 확인한 결과 응답 객체입니다.
+ * <p>
+ * 개별 중복 체크 API와 같이 {@code true}이면 이미 사용 중이라는 뜻이며,
+ * 요청하지 않은 항목은 {@code null}입니다.
+ *
+ * @author 고동현 (Original Author)
+ * @author 왕택준 (Refactored by)
+ * @since 2025.08
+ */
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class AvailabilityResponseKO {
+
+    private Boolean loginIdTaken;
+    private Boolean emailTaken;
+    private Boolean nicknameTaken;
+}
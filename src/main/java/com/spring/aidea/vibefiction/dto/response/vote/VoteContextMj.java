@@ -0,0 +1,48 @@
+package com.spring.aidea.vibefiction.dto.response.vote;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 투표 등록 전 검증에 필요한 값을 한 번의 쿼리로 모아 담는 내부용 DTO입니다.
+ * <p>
+ * 사용자, 제안, 제안이 속한 회차(마감 시간 계산용 생성일시), 제안자,
+ * 그리고 해당 사용자가 이 회차에 이미 투표한 제안 ID를 함께 조회합니다.
+ *
+ * @author 송민재
+ * @since 2025.08
+ */
+@Getter
+@ToString
+public class VoteContextMj {
+
+    private final Long userId;
+    private final Long proposalId;
+    private final Long chapterId;
+    private final LocalDateTime chapterCreatedAt;
+    private final Long proposerId;
+    /** 이 사용자가 같은 회차에서 이미 투표한 제안 ID. 투표한 적이 없으면 {@code null} */
+    private final Long votedProposalId;
+
+    @QueryProjection
+    public VoteContextMj(Long userId, Long proposalId, Long chapterId, LocalDateTime chapterCreatedAt,
+                         Long proposerId, Long votedProposalId) {
+        this.userId = userId;
+        this.proposalId = proposalId;
+        this.chapterId = chapterId;
+        this.chapterCreatedAt = chapterCreatedAt;
+        this.proposerId = proposerId;
+        this.votedProposalId = votedProposalId;
+    }
+
+    public boolean hasVotedInChapter() {
+        return votedProposalId != null;
+    }
+
+    public boolean isProposer() {
+        return proposerId.equals(userId);
+    }
+}
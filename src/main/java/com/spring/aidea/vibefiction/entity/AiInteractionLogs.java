@@ -2,6 +2,7 @@ package com.spring.aidea.vibefiction.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 import org.hibernate.annotations.CreationTimestamp;
 
@@ -22,7 +23,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@ToString(exclude = {"user", "basedOnChapter", "relatedProposal"})
+@ToString(exclude = {"user", "basedOnChapter", "relatedProposal", "resultCompressed"})
 @Comment("AI 상호작용 기록 테이블")
 public class AiInteractionLogs {
 
@@ -71,6 +72,7 @@ public class AiInteractionLogs {
 
     /**
      * [리팩토링-TO-BE] AI에게 전달된 전체 프롬프트 문자열입니다.
+     * 공유 블록 형식({@link #templateHash})으로 저장된 로그에서는 {@code null}입니다.
      * {@code columnDefinition = "MEDIUMTEXT"} 설정을 통해, DB 컬럼 타입을 명시적으로 지정하여
      * 길이 제한 없이 긴 프롬프트를 안정적으로 저장할 수 있습니다.
      */
@@ -81,11 +83,44 @@ public class AiInteractionLogs {
     /**
      * [리팩토링-TO-BE] AI로부터 받은 원본 결과 문자열입니다.
      * {@code columnDefinition = "MEDIUMTEXT"} 설정을 통해 긴 생성 결과를 그대로 저장할 수 있습니다.
+     * 압축 형식({@link #resultCompressed})으로 저장된 로그에서는 {@code null}입니다.
      */
     @Column(name = "result", columnDefinition = "MEDIUMTEXT")
     @Comment("AI 생성 결과")
     private String result;
 
+    /**
+     * 프롬프트 템플릿이 담긴 {@link AiPromptBlocks}의 해시입니다.
+     * <p>
+     * 프롬프트는 "템플릿 블록 + 스토리 컨텍스트 블록 + 요청별 인자({@link #promptArgs})"로 나뉘어 저장되며,
+     * 원래 프롬프트는 {@code AiPromptArchive}로 다시 조립할 수 있습니다.
+     * 이 형식 이전의 로그는 {@code null}이며 {@link #prompt}에 원문이 있습니다.
+     */
+    @Column(name = "template_hash", length = 64)
+    @Comment("프롬프트 템플릿 블록 해시")
+    private String templateHash;
+
+    /**
+     * 스토리 컨텍스트가 담긴 {@link AiPromptBlocks}의 해시입니다. 컨텍스트가 없는 요청(새 소설 추천)은 {@code null}입니다.
+     */
+    @Column(name = "context_hash", length = 64)
+    @Comment("스토리 컨텍스트 블록 해시")
+    private String contextHash;
+
+    /**
+     * 스토리 컨텍스트를 제외한 요청별 프롬프트 인자(제목, 장르, 사용자 지시문 등)의 JSON 배열입니다.
+     */
+    @Column(name = "prompt_args", columnDefinition = "TEXT")
+    @Comment("프롬프트 인자(JSON, 컨텍스트 제외)")
+    private String promptArgs;
+
+    /**
+     * gzip으로 압축한 AI 생성 결과입니다.
+     */
+    @Column(name = "result_gz", columnDefinition = "MEDIUMBLOB")
+    @Comment("AI 생성 결과(gzip)")
+    private byte[] resultCompressed;
+
     /**
      * 이어쓰기 제안 생성 시, AI가 참고한 기반 회차 정보입니다.
      */
@@ -102,6 +137,16 @@ public class AiInteractionLogs {
     @Comment("이 로그를 통해 최종 등록된 제안의 ID")
     private Proposals relatedProposal;
 
+    /**
+     * AI를 실제로 호출하지 않고 캐시된 응답으로 처리되었는지 여부입니다.
+     * 캐시 적중률과 실제 API 호출 수(비용)를 로그만으로 구분하기 위해 기록합니다.
+     */
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "cached", nullable = false)
+    @Comment("캐시된 응답 사용 여부")
+    private boolean cached = false;
+
     /**
      * 이 로그가 생성된 일시입니다.
      */
@@ -0,0 +1,61 @@
+package com.spring.aidea.vibefiction.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 AI 상호작용 로그가 공유하는 프롬프트 조각(템플릿, 스토리 컨텍스트)을 한 번만 저장하는 엔티티입니다.
+ * <p>
+ * <b>[설계 의도]</b>
+ * 같은 회차를 기준으로 한 이어쓰기 요청은 모두 같은 스토리 컨텍스트를, 같은 종류의 요청은 모두 같은 템플릿을 프롬프트에 담습니다.
+ * 이를 로그마다 그대로 저장하면 소설이 길어질수록 로그 테이블이 빠르게 커지므로, 원문의 SHA-256 해시를 키로
+ * gzip 압축한 내용을 한 번만 저장하고 {@link AiInteractionLogs}는 해시만 참조합니다.
+ * 내용이 같으면 키도 같으므로 이 테이블의 행은 수정되지 않습니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Entity
+@Table(name = "ai_prompt_blocks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "content")
+@Comment("AI 프롬프트 공유 블록 테이블")
+public class AiPromptBlocks {
+
+    /**
+     * 원문(UTF-8)의 SHA-256 해시(16진수)이자 이 테이블의 Primary Key입니다.
+     */
+    @Id
+    @Column(name = "block_hash", length = 64)
+    @Comment("원문 SHA-256 해시")
+    private String blockHash;
+
+    /**
+     * gzip으로 압축한 원문입니다.
+     */
+    @Column(name = "content", columnDefinition = "MEDIUMBLOB", nullable = false)
+    @Comment("gzip 압축된 원문")
+    private byte[] content;
+
+    /**
+     * 압축 전 원문의 길이(자)입니다. 압축률 확인용입니다.
+     */
+    @Column(name = "original_length", nullable = false)
+    @Comment("원문 길이")
+    private Integer originalLength;
+
+    /**
+     * 이 블록이 처음 저장된 일시입니다.
+     */
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Comment("생성일시")
+    private LocalDateTime createdAt;
+}
@@ -11,7 +11,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "chapters")
+@Table(name = "chapters",
+    uniqueConstraints = @UniqueConstraint(
+        name = "UK_Chapters_Novel_ChapterNumber", // 같은 소설에 같은 회차 번호가 두 번 발급되지 않도록 DB가 보장
+        columnNames = {"novel_id", "chapter_number"}
+    )
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -89,11 +94,12 @@ public class Chapters {
      * 새로운 회차(Chapter) 엔티티를 생성하고 초기화하는 정적 팩토리 메서드입니다.
      *
      * 이 메서드는 회차 생성에 필요한 복잡한 초기화 로직을 캡슐화합니다. 특히, 회차 번호는
-     * 부모 소설({@code novel})에 이미 등록된 회차의 개수를 기반으로 자동으로 설정하여 일관성을 보장합니다.
+     * 부모 소설({@code novel})의 회차 번호 발급기({@link Novels#allocateChapterNumber()})에서 받아 일관성을 보장합니다.
      * <p>
      * <b>[주요 로직]</b>
-     *  회차 번호는 {@code novel.getChapters().size() + 1}로 계산됩니다. 이 방식은 부모 소설이
-     *  아직 영속화되지 않은 상태(ID가 없는 상태)에서도 안전하게 동작합니다.
+     *  회차 목록({@code novel.getChapters()})을 로딩하지 않고 소설의 마지막 회차 번호 + 1을 사용합니다.
+     *  아직 영속화되지 않은 소설(소설 생성과 함께 만드는 1화)에만 사용할 수 있으며,
+     *  저장된 소설에 회차를 추가할 때는 {@code ChapterServiceTj.create}를 사용합니다.
      *
      * @param novel        이 회차가 종속될 부모 {@link Novels} 엔티티.
      * @param author       이 회차를 작성한 사용자({@link Users}) 엔티티.
@@ -107,8 +113,8 @@ public class Chapters {
      * @since 2025.08
      */
     public static Chapters create(Novels novel, Users author, String title, String content, Proposals fromProposal) {
-        // [비즈니스 규칙] 회차 번호는 항상 기존 회차 수 + 1로 자동 부여
-        int chapterNumber = novel.getChapters().size() + 1;
+        // [비즈니스 규칙] 회차 번호는 소설의 회차 번호 발급기에서 자동 부여
+        int chapterNumber = novel.allocateChapterNumber();
 
         return Chapters.builder()
             .novel(novel)
@@ -0,0 +1,83 @@
+package com.spring.aidea.vibefiction.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 이어쓰기 프롬프트에 사용할 소설별 스토리 컨텍스트를 미리 계산해 보관하는 엔티티입니다.
+ * <p>
+ * <b>[설계 의도]</b>
+ * AI 이어쓰기 요청마다 모든 회차 본문(MEDIUMTEXT)을 읽어 이어 붙이면, 소설이 길어질수록 비용이 선형으로 늘고
+ * 결국 모델의 컨텍스트 한도를 넘게 됩니다. 이 엔티티는 회차가 추가될 때마다 점진적으로 갱신되며,
+ * 오래된 회차는 요약(발췌) 형태로, 최근 몇 개 회차는 원문 그대로 보관합니다.
+ * AI 요청 시에는 이 레코드 하나만 읽으면 됩니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Entity
+@Table(name = "novel_story_contexts")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@ToString(exclude = {"novel", "summary", "recentChapters"})
+@Comment("소설별 AI 스토리 컨텍스트 테이블")
+public class NovelStoryContexts {
+
+    /**
+     * 컨텍스트가 속한 소설의 ID이자 이 테이블의 Primary Key입니다. (소설과 1:1)
+     */
+    @Id
+    @Column(name = "novel_id")
+    @Comment("소설 ID")
+    private Long novelId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "novel_id")
+    private Novels novel;
+
+    /**
+     * 최근 회차 구간보다 오래된 회차들의 요약입니다. 회차마다 한 줄씩, 회차 번호 순으로 누적됩니다.
+     */
+    @Column(name = "summary", columnDefinition = "MEDIUMTEXT", nullable = false)
+    @Comment("오래된 회차들의 누적 요약")
+    private String summary;
+
+    /**
+     * 최근 회차들의 원문을 프롬프트 형식으로 이어 붙인 텍스트입니다.
+     */
+    @Column(name = "recent_chapters", columnDefinition = "MEDIUMTEXT", nullable = false)
+    @Comment("최근 회차 원문")
+    private String recentChapters;
+
+    /**
+     * 이 컨텍스트에 반영된 마지막 회차 번호입니다. 실제 마지막 회차 번호보다 작으면 컨텍스트가 뒤처진 것으로 판단합니다.
+     */
+    @Column(name = "last_chapter_number", nullable = false)
+    @Comment("컨텍스트에 반영된 마지막 회차 번호")
+    private Integer lastChapterNumber;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    @Comment("최종 갱신일시")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 새로운 회차가 반영된 내용으로 컨텍스트를 갱신합니다. (JPA 변경 감지로 UPDATE)
+     *
+     * @param summary           갱신된 누적 요약.
+     * @param recentChapters    갱신된 최근 회차 원문.
+     * @param lastChapterNumber 반영된 마지막 회차 번호.
+     */
+    public void update(String summary, String recentChapters, Integer lastChapterNumber) {
+        this.summary = summary;
+        this.recentChapters = recentChapters;
+        this.lastChapterNumber = lastChapterNumber;
+    }
+}
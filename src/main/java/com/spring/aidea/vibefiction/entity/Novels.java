@@ -2,6 +2,7 @@ package com.spring.aidea.vibefiction.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -14,7 +15,12 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Entity
-@Table(name = "novels")
+@Table(name = "novels",
+    indexes = @Index(
+        name = "IDX_Novels_CreatedAt_NovelId", // 메인 피드 커서 페이지네이션(createdAt, novelId 역순)용 복합 인덱스
+        columnList = "created_at, novel_id"
+    )
+)
 @Getter
 @EqualsAndHashCode(of = "novelId")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -72,6 +78,17 @@ public class Novels {
     @Comment("최종 수정일시")
     private LocalDateTime lastUpdatedAt;
 
+    /**
+     * 이 소설에서 마지막으로 발급한 회차 번호입니다. (회차 번호 발급기)
+     * <p>
+     * 영속화된 소설의 회차 번호는 {@code NovelsRepository.incrementLastChapterNumber}의 원자적 UPDATE로만 발급되므로,
+     * 엔티티 변경 감지가 오래된 값으로 덮어쓰지 않도록 {@code updatable = false}로 둡니다.
+     */
+    @ColumnDefault("0")
+    @Column(name = "last_chapter_number", nullable = false, updatable = false)
+    @Comment("마지막으로 발급한 회차 번호")
+    private Integer lastChapterNumber;
+
     public enum NovelStatus {
         ONGOING,
         AWAITING_AUTHOR,
@@ -125,6 +142,7 @@ public class Novels {
         if (this.visibility == null) this.visibility = visibility.PUBLIC;
         if (this.status == null) this.status = status.ONGOING;
         if (this.viewCount == null) this.viewCount = 0L;
+        if (this.lastChapterNumber == null) this.lastChapterNumber = 0;
         if (this.coverImageUrl == null || this.coverImageUrl.isBlank()) {
             this.coverImageUrl = "/img/Relai-logo-400X550-bg-white.png";
         }
@@ -190,4 +208,23 @@ public class Novels {
         chapter.setNovel(this);
     }
 
+    /**
+     * 아직 영속화되지 않은 새 소설에서 다음 회차 번호를 발급합니다.
+     * <p>
+     * 소설 생성과 함께 1화를 만드는 경우처럼, 다른 트랜잭션이 이 소설을 볼 수 없는 상태에서만 사용합니다.
+     * 이미 저장된 소설의 회차 번호는 동시 요청에 안전하도록 {@code NovelsRepository.incrementLastChapterNumber}로 발급해야 합니다.
+     *
+     * @return 새로 발급된 회차 번호 (1부터 시작)
+     * @throws IllegalStateException 이미 영속화된 소설에 대해 호출한 경우
+     * @author 왕택준
+     * @since 2025.08
+     */
+    public int allocateChapterNumber() {
+        if (this.novelId != null) {
+            throw new IllegalStateException("저장된 소설의 회차 번호는 NovelsRepository.incrementLastChapterNumber로 발급해야 합니다.");
+        }
+        this.lastChapterNumber = (this.lastChapterNumber == null ? 0 : this.lastChapterNumber) + 1;
+        return this.lastChapterNumber;
+    }
+
 }
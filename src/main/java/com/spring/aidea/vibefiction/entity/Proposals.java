@@ -9,7 +9,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "proposals")
+@Table(name = "proposals",
+    indexes = @Index(
+        name = "IDX_Proposals_Status_VoteDeadline", // 투표 자동 마감 대상(VOTING + 마감 경과) 조회용 복합 인덱스
+        columnList = "status, vote_deadline"
+    )
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -4,13 +4,19 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "votes",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "proposal_id"}))
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"user_id", "proposal_id"}),
+                // 한 회차에서 한 제안에만 투표할 수 있다는 규칙을 DB가 보장 (동시 요청의 중복 투표 차단)
+                @UniqueConstraint(name = "UK_Votes_User_Chapter", columnNames = {"user_id", "chapter_id"})
+        })
+@Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA를 위한 기본 생성자
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -29,6 +35,15 @@ public class Votes {
     @JoinColumn(name = "proposal_id", nullable = false)
     private Proposals proposal;
 
+    /**
+     * 투표한 제안이 속한 회차입니다. {@code proposal.chapter}를 비정규화한 값으로,
+     * (user_id, chapter_id) 유니크 제약을 걸기 위해 사용합니다.
+     * 컬럼 추가 이전의 투표 행은 {@code DataInitializer}가 시작 시 채웁니다.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chapter_id")
+    private Chapters chapter;
+
     @Column(name = "voted_at", nullable = false, updatable = false)
     private LocalDateTime votedAt;
 
@@ -0,0 +1,16 @@
+package com.spring.aidea.vibefiction.event;
+
+/**
+ * 소설에 새로운 회차가 추가되었을 때 발행되는 도메인 이벤트입니다.
+ * <p>
+ * {@code ChapterServiceTj.create}가 트랜잭션 안에서 발행합니다. 작가가 직접 회차를 쓴 경우와
+ * 투표 마감으로 제안이 채택되어 회차가 만들어진 경우 모두 발행됩니다.
+ *
+ * @param novelId       회차가 추가된 소설의 고유 ID.
+ * @param chapterId     새로 생성된 회차의 고유 ID.
+ * @param chapterNumber 새로 생성된 회차의 번호.
+ * @author 왕택준
+ * @since 2025.08
+ */
+public record ChapterCreatedEvent(Long novelId, Long chapterId, Integer chapterNumber) {
+}
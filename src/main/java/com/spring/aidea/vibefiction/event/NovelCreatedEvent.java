@@ -0,0 +1,14 @@
+package com.spring.aidea.vibefiction.event;
+
+/**
+ * 새로운 소설이 생성되었을 때 발행되는 도메인 이벤트입니다.
+ * <p>
+ * {@code NovelServiceTj.create}가 트랜잭션 안에서 발행하며, 구독자는 주로
+ * {@code @TransactionalEventListener}로 커밋 이후에 처리합니다. (예: 메인 피드 캐시 무효화)
+ *
+ * @param novelId 생성된 소설의 고유 ID.
+ * @author 왕택준
+ * @since 2025.08
+ */
+public record NovelCreatedEvent(Long novelId) {
+}
@@ -0,0 +1,15 @@
+package com.spring.aidea.vibefiction.event;
+
+/**
+ * 회차에 새로운 이어쓰기 제안이 등록되었을 때 발행되는 도메인 이벤트입니다.
+ * <p>
+ * {@code ProposalServiceTj.create}가 트랜잭션 안에서 발행합니다.
+ *
+ * @param novelId    제안이 등록된 소설의 고유 ID.
+ * @param chapterId  제안이 등록된 회차의 고유 ID.
+ * @param proposalId 새로 등록된 제안의 고유 ID.
+ * @author 왕택준
+ * @since 2025.08
+ */
+public record ProposalCreatedEvent(Long novelId, Long chapterId, Long proposalId) {
+}
@@ -0,0 +1,14 @@
+package com.spring.aidea.vibefiction.event;
+
+/**
+ * 사용자의 닉네임이 바뀌었을 때 발행되는 도메인 이벤트입니다.
+ * <p>
+ * {@code MyPageServiceSH.updateUserProfile}이 트랜잭션 안에서 발행합니다.
+ * 소설 피드/상세 캐시는 작가 닉네임을 함께 담고 있으므로, 이 이벤트를 받아 무효화합니다.
+ *
+ * @param userId 닉네임이 바뀐 사용자의 고유 ID.
+ * @author 왕택준
+ * @since 2025.08
+ */
+public record UserNicknameChangedEvent(Long userId) {
+}
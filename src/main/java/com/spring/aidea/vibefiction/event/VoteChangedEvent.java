@@ -0,0 +1,15 @@
+package com.spring.aidea.vibefiction.event;
+
+/**
+ * 제안에 대한 투표가 등록되거나 취소되었을 때 발행되는 도메인 이벤트입니다.
+ * <p>
+ * {@code VoteServiceMj.createVote}/{@code cancelVote}가 트랜잭션 안에서 발행합니다.
+ *
+ * @param chapterId  투표 대상 제안이 속한 회차의 고유 ID.
+ * @param proposalId 투표 대상 제안의 고유 ID.
+ * @param delta      투표 수 변화량. 투표는 {@code +1}, 취소는 {@code -1}.
+ * @author 왕택준
+ * @since 2025.08
+ */
+public record VoteChangedEvent(Long chapterId, Long proposalId, int delta) {
+}
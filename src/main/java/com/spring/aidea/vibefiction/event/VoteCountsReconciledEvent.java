@@ -0,0 +1,16 @@
+package com.spring.aidea.vibefiction.event;
+
+import java.util.List;
+
+/**
+ * 제안의 투표 수({@code proposals.vote_count})가 투표 기록과 달라 보정되었을 때 발행되는 도메인 이벤트입니다.
+ * <p>
+ * {@code VoteCountReconciler}가 트랜잭션 안에서 발행합니다. 보정된 투표 수는 변화량으로 전달할 수 없으므로,
+ * 메모리 순위표({@code VoteLeaderboard})는 이 이벤트를 받아 해당 회차의 순위표를 버리고 다음 조회 때 다시 만듭니다.
+ *
+ * @param chapterIds 투표 수가 보정된 제안이 속한 회차 ID 목록.
+ * @author 왕택준
+ * @since 2025.08
+ */
+public record VoteCountsReconciledEvent(List<Long> chapterIds) {
+}
@@ -0,0 +1,17 @@
+package com.spring.aidea.vibefiction.event;
+
+/**
+ * 한 회차에 대한 이어쓰기 제안 투표가 마감되었을 때 발행되는 도메인 이벤트입니다.
+ * <p>
+ * {@code VoteServiceMj.finalizeVoting}이 트랜잭션 안에서 발행합니다.
+ * 단독 최다 득표로 제안이 채택된 경우에만 {@code adoptedProposalId}가 채워지며,
+ * 동률이나 무투표로 보류(PENDING)된 경우에는 {@code null}입니다.
+ *
+ * @param novelId           투표가 마감된 소설의 고유 ID.
+ * @param chapterId         투표 대상이었던 회차의 고유 ID.
+ * @param adoptedProposalId 채택된 제안의 고유 ID. 채택된 제안이 없으면 {@code null}.
+ * @author 왕택준
+ * @since 2025.08
+ */
+public record VotingFinalizedEvent(Long novelId, Long chapterId, Long adoptedProposalId) {
+}
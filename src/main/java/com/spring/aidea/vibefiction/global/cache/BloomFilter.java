@@ -0,0 +1,100 @@
+package com.spring.aidea.vibefiction.global.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 집합의 포함 여부를 적은 메모리로 판단하는 블룸 필터입니다.
+ * <p>
+ * {@link #mightContain}이 {@code false}이면 그 값은 <b>확실히</b> 추가된 적이 없고,
+ * {@code true}이면 추가되었을 <b>수도</b> 있습니다. (오탐 확률은 생성 시 지정)
+ * 값을 지울 수 없으므로, 지워진 값은 필터를 새로 만들 때까지 오탐으로 남습니다.
+ * <p>
+ * 비트 배열을 {@link AtomicLongArray}로 두어 잠금 없이 여러 스레드가 동시에 추가/조회할 수 있습니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions       예상 추가 개수. 이보다 많이 추가하면 오탐 확률이 올라갑니다.
+     * @param falsePositiveProbability 목표 오탐 확률 (0 &lt; p &lt; 1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions < 1 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("블룸 필터 크기 설정이 올바르지 않습니다: n=" + expectedInsertions
+                + ", p=" + falsePositiveProbability);
+        }
+        // 최적 비트 수 m = -n ln p / (ln 2)^2, 최적 해시 수 k = m/n ln 2
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 비트 배열 크기(bit)입니다. */
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private long index(int combinedHash) {
+        // 음수 해시는 비트를 뒤집어 양수로 만듦 (Kirsch-Mitzenmacher 이중 해싱)
+        return (combinedHash < 0 ? ~combinedHash : combinedHash) % bitSize;
+    }
+
+    /** UTF-8 바이트의 FNV-1a 64비트 해시에 비트 섞기(fmix64)를 더해 상위/하위 32비트를 고르게 만듭니다. */
+    private static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,20 @@
+package com.spring.aidea.vibefiction.global.cache;
+
+/**
+ * 애플리케이션에서 사용하는 Spring Cache 이름 상수 모음입니다.
+ * {@code @Cacheable}의 cacheNames와 캐시 무효화 코드가 같은 이름을 쓰도록 한곳에서 관리합니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+public final class CacheNames {
+
+    /** 소설 단건(상세) 조회 결과. 키: 소설 ID */
+    public static final String NOVEL_DETAIL = "novelDetail";
+
+    /** 메인 피드(소설 목록) 페이지 조회 결과. 키: 페이지 번호 또는 커서 + 페이지 크기 */
+    public static final String NOVEL_FEED = "novelFeed";
+
+    private CacheNames() {
+    }
+}
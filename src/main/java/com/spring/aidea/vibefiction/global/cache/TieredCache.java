@@ -0,0 +1,106 @@
+package com.spring.aidea.vibefiction.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 인프로세스 캐시(L1) 앞단에 두고, 분산 캐시(L2)를 뒤에 두는 2단계 캐시입니다.
+ * <p>
+ * <ul>
+ *   <li><b>조회:</b> L1 &rarr; L2 순서로 찾고, L2에서 찾은 값은 L1에 채워 둡니다.</li>
+ *   <li><b>저장/무효화:</b> 두 단계 모두에 반영합니다. 무효화는 L2를 먼저 지워, 다른 인스턴스가
+ *       지워지기 직전의 값을 L2에서 다시 가져가 L1에 채우는 일을 줄입니다.</li>
+ * </ul>
+ * 다른 애플리케이션 인스턴스의 L1은 이 캐시가 무효화할 수 없으므로, L1의 만료 시간(TTL)이
+ * 인스턴스 간 최대 불일치 시간이 됩니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Slf4j
+public class TieredCache implements Cache {
+
+    private final Cache local;
+    private final Cache remote;
+
+    public TieredCache(Cache local, Cache remote) {
+        this.local = local;
+        this.remote = remote;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = remote.get(key);
+        if (value != null) {
+            local.put(key, value.get());
+        }
+        return value;
+    }
+
+    /**
+     * 캐시된 값의 타입이 요청한 타입과 다르면(배포 중 DTO가 바뀌어 L2에 이전 형식이 남은 경우 등) 캐시 미스로 보고 지웁니다.
+     * 호출한 쪽은 원본에서 다시 읽어 새 형식으로 채우게 됩니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = (wrapper != null) ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            log.warn("캐시된 값의 타입이 요청한 타입({})과 달라 무효화합니다. (캐시: {}, 키: {}, 타입: {})",
+                type.getName(), getName(), key, value.getClass().getName());
+            evict(key);
+            return null;
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // L1의 로딩 잠금 안에서 L2 조회와 원본 로딩을 수행하여, 같은 키를 동시에 여러 번 로딩하지 않도록 함
+        return local.get(key, () -> {
+            ValueWrapper cached = remote.get(key);
+            if (cached != null) {
+                return (T) cached.get();
+            }
+            T loaded = valueLoader.call();
+            remote.put(key, loaded);
+            return loaded;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.clear();
+    }
+}
@@ -0,0 +1,42 @@
+package com.spring.aidea.vibefiction.global.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 키(예: 클라이언트 IP)별로 일정 시간 동안의 호출 수를 제한하는 고정 윈도우 방식의 호출 제한기입니다.
+ * <p>
+ * 윈도우는 키의 첫 호출 시점부터 시작하며, 윈도우가 지나면 카운터가 사라지고 다시 시작합니다.
+ * 인스턴스마다 따로 세므로 여러 인스턴스로 운영하면 전체 한도는 인스턴스 수만큼 늘어납니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+public class FixedWindowRateLimiter {
+
+    /** 동시에 추적하는 최대 키 수. 넘치면 오래된 키부터 잊으므로, 메모리가 무한히 늘지 않습니다. */
+    private static final long MAXIMUM_KEYS = 100_000;
+
+    private final int limit;
+    private final Cache<String, AtomicInteger> counters;
+
+    public FixedWindowRateLimiter(int limit, Duration window) {
+        this.limit = limit;
+        this.counters = Caffeine.newBuilder()
+            .expireAfterWrite(window)
+            .maximumSize(MAXIMUM_KEYS)
+            .build();
+    }
+
+    /**
+     * 호출 한 번을 기록하고, 현재 윈도우의 한도 안이면 {@code true}를 반환합니다.
+     *
+     * @param key 호출 주체를 구분하는 키
+     */
+    public boolean tryAcquire(String key) {
+        return counters.get(key, k -> new AtomicInteger()).incrementAndGet() <= limit;
+    }
+}
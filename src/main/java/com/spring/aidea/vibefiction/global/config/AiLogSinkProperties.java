@@ -0,0 +1,34 @@
+package com.spring.aidea.vibefiction.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code application.yml} 파일의 {@code ai.log-sink} 하위 설정값(AI 상호작용 로그 비동기 기록)을
+ * Java 객체로 바인딩하기 위한 클래스입니다.
+ * <p>
+ * 기록 주기({@code ai.log-sink.flush-interval})는 {@code @Scheduled}가 직접 읽습니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "ai.log-sink")
+public class AiLogSinkProperties {
+
+    /** 기록을 기다릴 수 있는 최대 로그 수입니다. 가득 차면 요청 스레드에서 바로 기록합니다. */
+    private int queueCapacity = 10_000;
+
+    /** 한 번의 JDBC 배치 INSERT로 기록하는 최대 로그 수입니다. */
+    private int batchSize = 100;
+
+    /**
+     * 한 번에 미리 받아 두는 로그 ID 수입니다. ID 시퀀스를 처음 만들 때의 증가폭으로만 사용되며,
+     * 이후에는 DB에 만들어진 시퀀스의 증가폭을 따릅니다.
+     */
+    private int idBlockSize = 50;
+}
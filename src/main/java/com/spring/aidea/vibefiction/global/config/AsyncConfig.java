@@ -0,0 +1,112 @@
+package com.spring.aidea.vibefiction.global.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 요청 스레드(Tomcat worker)와 분리하여 실행해야 하는 비동기 작업용 스레드 풀을 등록하는 설정 클래스입니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig {
+
+    private final GeminiProperties geminiProperties;
+    private final SearchProperties searchProperties;
+    private final PasswordHashingProperties passwordHashingProperties;
+    private final ProfileImageProperties profileImageProperties;
+
+    /**
+     * 모든 AI 호출(일반/스트리밍)을 실행하는 전용 스레드 풀입니다.
+     * <p>
+     * 풀 크기와 대기열 크기는 {@code gemini.api.gateway} 설정을 따르며, 대기열까지 가득 차면
+     * 작업을 기다리게 하지 않고 {@link org.springframework.core.task.TaskRejectedException}으로 즉시 거절합니다.
+     * 거절 처리와 사용자별 한도는 {@code AiGateway}가 담당합니다.
+     *
+     * @return AI 호출 전용 {@link ThreadPoolTaskExecutor}
+     */
+    @Bean(name = "aiTaskExecutor")
+    public ThreadPoolTaskExecutor aiTaskExecutor() {
+        GeminiProperties.Gateway gateway = geminiProperties.getGateway();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(gateway.getMaxConcurrent());
+        executor.setMaxPoolSize(gateway.getMaxConcurrent());
+        executor.setQueueCapacity(gateway.getQueueCapacity());
+        executor.setThreadNamePrefix("ai-call-");
+        // 종료 시 진행 중인 AI 호출이 로그 기록까지 마칠 수 있도록 잠시 기다립니다.
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        // initialize()는 빈 생명주기(afterPropertiesSet)에서 호출되므로 여기서 직접 호출하지 않습니다.
+        return executor;
+    }
+
+    /**
+     * 검색 색인 갱신({@code NovelSearchIndexer})을 실행하는 단일 스레드 풀입니다.
+     * <p>
+     * 한 스레드에서 이벤트 순서대로 색인하므로 같은 문서의 갱신이 뒤바뀌지 않습니다.
+     * 대기열({@code search.queue-capacity})이 가득 차면 색인을 버리지 않고 요청 스레드에서 바로 실행합니다.
+     *
+     * @return 검색 색인 전용 {@link ThreadPoolTaskExecutor}
+     */
+    @Bean(name = "searchIndexExecutor")
+    public ThreadPoolTaskExecutor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(searchProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("search-index-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 비밀번호 해시(BCrypt) 전용 스레드 풀입니다. ({@code PasswordHasher})
+     * <p>
+     * 로그인이 몰려도 해시 작업은 {@code auth.password-hashing.max-concurrent}개의 스레드에서만 실행되어
+     * CPU를 독점하지 못합니다. 대기열까지 가득 차면 {@link org.springframework.core.task.TaskRejectedException}으로 즉시 거절합니다.
+     * 대기열 길이 등은 Spring Boot가 {@code executor.*} 지표({@code name=passwordHashExecutor})로 노출합니다.
+     *
+     * @return 비밀번호 해시 전용 {@link ThreadPoolTaskExecutor}
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(passwordHashingProperties.getMaxConcurrent());
+        executor.setMaxPoolSize(passwordHashingProperties.getMaxConcurrent());
+        executor.setQueueCapacity(passwordHashingProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * 업로드된 프로필 이미지의 썸네일/WebP 변환({@code ProfileImageProcessor})을 실행하는 스레드 풀입니다.
+     * <p>
+     * 디코딩/축소는 CPU와 메모리를 많이 쓰므로 {@code file.upload.profile-image.max-concurrent}개까지만 동시에 실행합니다.
+     * 대기열이 가득 차면 변환을 버리지 않고 요청 스레드에서 바로 실행합니다.
+     *
+     * @return 이미지 변환 전용 {@link ThreadPoolTaskExecutor}
+     */
+    @Bean(name = "imageProcessingExecutor")
+    public ThreadPoolTaskExecutor imageProcessingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(profileImageProperties.getMaxConcurrent());
+        executor.setMaxPoolSize(profileImageProperties.getMaxConcurrent());
+        executor.setQueueCapacity(profileImageProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("image-process-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,95 @@
+package com.spring.aidea.vibefiction.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spring.aidea.vibefiction.global.cache.CacheNames;
+import com.spring.aidea.vibefiction.global.cache.TieredCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 소설 조회 결과를 캐시하는 Spring Cache 설정 클래스입니다.
+ * <p>
+ * <b>[구성]</b>
+ * <ul>
+ *   <li><b>L1 (필수):</b> 인스턴스 내부의 Caffeine 캐시. 캐시별로 만료 시간과 크기를 따로 둡니다.</li>
+ *   <li><b>L2 (선택):</b> {@code distributedCacheManager}라는 이름의 {@link CacheManager} 빈(예: Redis)이 등록되어 있으면
+ *       {@link TieredCache}로 L1 뒤에 연결합니다. 없으면 L1만 사용합니다.</li>
+ * </ul>
+ * 적중/실패 횟수는 Micrometer 지표({@code cache.gets{result=hit|miss}})로 노출되어 적중률을 확인할 수 있습니다.
+ * 캐시 무효화는 도메인 이벤트를 받는 {@code NovelCacheEvictionListener}가 담당합니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Slf4j
+@Configuration
+@EnableCaching
+@RequiredArgsConstructor
+public class CacheConfig {
+
+    /** 이 설정이 등록하는 캐시 매니저 빈의 이름입니다. Spring Boot의 캐시 지표 태그({@code cache.manager})와 맞춥니다. */
+    private static final String CACHE_MANAGER_NAME = "cacheManager";
+
+    private final NovelCacheProperties novelCacheProperties;
+
+    /**
+     * 애플리케이션 기본 {@link CacheManager}를 등록합니다.
+     *
+     * @param distributedCacheManager (선택) L2로 사용할 분산 캐시 매니저.
+     * @param meterRegistry           L2와 함께 쓰는 경우 L1 캐시 지표를 등록할 레지스트리.
+     * @return 소설 상세/피드 캐시를 관리하는 {@link CacheManager}
+     */
+    @Bean(name = CACHE_MANAGER_NAME)
+    @Primary
+    public CacheManager cacheManager(
+        @Qualifier("distributedCacheManager") ObjectProvider<CacheManager> distributedCacheManager,
+        MeterRegistry meterRegistry) {
+
+        CacheManager remote = distributedCacheManager.getIfAvailable();
+        log.info("소설 캐시 구성: L1(Caffeine){}", remote != null ? " + L2(" + remote.getClass().getSimpleName() + ")" : "");
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+            buildCache(CacheNames.NOVEL_DETAIL, novelCacheProperties.getDetailTtl(),
+                novelCacheProperties.getDetailMaximumSize(), remote, meterRegistry),
+            buildCache(CacheNames.NOVEL_FEED, novelCacheProperties.getFeedTtl(),
+                novelCacheProperties.getFeedMaximumSize(), remote, meterRegistry)
+        ));
+        return cacheManager;
+    }
+
+    private Cache buildCache(String name, Duration ttl, long maximumSize,
+                             CacheManager remote, MeterRegistry meterRegistry) {
+        CaffeineCache local = new CaffeineCache(name, Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build());
+
+        Cache remoteCache = (remote != null) ? remote.getCache(name) : null;
+        if (remoteCache == null) {
+            // CaffeineCache는 Spring Boot가 시작 시 자동으로 지표를 등록함
+            return local;
+        }
+        // TieredCache는 Spring Boot가 인식하지 못하므로 L1 지표를 직접 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, local.getNativeCache(), name,
+            Tags.of("cache.manager", CACHE_MANAGER_NAME));
+        return new TieredCache(local, remoteCache);
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 /**
  * {@code application.yml} 파일의 {@code gemini.api} 하위 설정값들을
  * Java 객체로 안전하게 바인딩하기 위한 클래스입니다.
@@ -36,4 +38,95 @@ public class GeminiProperties {
      * RestTemplate에서 사용되며, 경로 변수({apiKey})를 포함할 수 있습니다.
      */
     private String url;
+
+    /**
+     * Gemini 스트리밍 API({@code streamGenerateContent})를 호출하기 위한 Endpoint URL입니다.
+     * 응답을 Server-Sent Events 형식으로 받기 위해 {@code alt=sse} 파라미터를 포함해야 합니다.
+     */
+    private String streamUrl;
+
+    /**
+     * AI 호출 게이트웨이({@code AiGateway})의 동시 실행 한도 설정입니다.
+     */
+    private final Gateway gateway = new Gateway();
+
+    /**
+     * Gemini API 호출에 사용하는 HTTP 클라이언트의 커넥션 풀/타임아웃 설정입니다.
+     */
+    private final Http http = new Http();
+
+    /**
+     * AI 소설 추천 응답 캐시 설정입니다.
+     */
+    private final RecommendCache recommendCache = new RecommendCache();
+
+    /**
+     * AI 호출의 전역/사용자별 동시 실행 한도를 정의하는 설정 클래스입니다. ({@code gemini.api.gateway.*})
+     * <p>
+     * Gemini 호출은 수 초 이상 걸리므로, 한도를 넘는 요청은 대기시키지 않고 즉시 429 응답으로 거절하여
+     * 일반 페이지 요청이 AI 요청 폭주의 영향을 받지 않도록 합니다.
+     */
+    @Getter
+    @Setter
+    public static class Gateway {
+
+        /** 동시에 실행될 수 있는 AI 호출의 최대 개수입니다. (AI 전용 스레드 풀 크기) */
+        private int maxConcurrent = 16;
+
+        /** 실행 대기열에 보관할 수 있는 AI 호출의 최대 개수입니다. 이를 넘으면 즉시 거절합니다. */
+        private int queueCapacity = 32;
+
+        /** 한 사용자가 동시에 진행할 수 있는 AI 호출(대기 포함)의 최대 개수입니다. */
+        private int maxConcurrentPerUser = 2;
+    }
+
+    /**
+     * 외부 API 호출용 HTTP 클라이언트의 커넥션 풀과 타임아웃을 정의하는 설정 클래스입니다. ({@code gemini.api.http.*})
+     * <p>
+     * 커넥션을 풀에 보관하고 재사용하면, AI 요청마다 TCP/TLS 핸드셰이크를 새로 하지 않아도 됩니다.
+     */
+    @Getter
+    @Setter
+    public static class Http {
+
+        /** 풀 전체에서 유지할 수 있는 최대 커넥션 수입니다. */
+        private int maxTotal = 50;
+
+        /** 호스트(route) 하나당 최대 커넥션 수입니다. AI 동시 실행 수({@code gateway.max-concurrent})보다 커야 합니다. */
+        private int maxPerRoute = 20;
+
+        /** TCP 연결 수립(+TLS 핸드셰이크)의 최대 대기 시간입니다. */
+        private Duration connectTimeout = Duration.ofSeconds(3);
+
+        /** 풀에서 빈 커넥션을 빌려 오기까지의 최대 대기 시간입니다. */
+        private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+        /**
+         * 응답 데이터를 기다리는 최대 시간입니다. 전체 응답 시간이 아니라 패킷 사이의 간격에 적용되므로,
+         * 스트리밍 응답은 조각이 계속 도착하는 한 이 값보다 오래 걸려도 끊기지 않습니다.
+         */
+        private Duration responseTimeout = Duration.ofSeconds(60);
+
+        /** 이 시간 이상 쓰이지 않은 유휴 커넥션은 백그라운드에서 정리합니다. */
+        private Duration idleEvictTimeout = Duration.ofSeconds(30);
+
+        /** 커넥션의 최대 수명입니다. 서버 측 IP 변경 등에 대비해 오래된 커넥션을 주기적으로 교체합니다. */
+        private Duration timeToLive = Duration.ofMinutes(5);
+    }
+
+    /**
+     * AI 소설 추천 응답 캐시의 만료 시간과 크기를 정의하는 설정 클래스입니다. ({@code gemini.api.recommend-cache.*})
+     * <p>
+     * 같은 장르/시놉시스로 반복되는 추천 요청은 Gemini를 다시 호출하지 않고 캐시된 응답으로 처리합니다.
+     */
+    @Getter
+    @Setter
+    public static class RecommendCache {
+
+        /** 캐시 항목이 저장된 뒤 만료되기까지의 시간입니다. */
+        private Duration ttl = Duration.ofHours(6);
+
+        /** 캐시에 보관할 최대 항목 수입니다. 이를 넘으면 오래 쓰이지 않은 항목부터 제거됩니다. */
+        private long maximumSize = 1000;
+    }
 }
@@ -0,0 +1,40 @@
+package com.spring.aidea.vibefiction.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * {@code application.yml} 파일의 {@code novel.cache} 하위 설정값(소설 조회 캐시의 만료 시간과 크기)을
+ * Java 객체로 바인딩하기 위한 클래스입니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "novel.cache")
+public class NovelCacheProperties {
+
+    /**
+     * 소설 상세 캐시의 만료 시간입니다.
+     * 변경 시 이벤트로 즉시 무효화되므로 길게 잡아도 되지만, 다른 인스턴스와의 불일치 상한이 되므로 적당히 제한합니다.
+     */
+    private Duration detailTtl = Duration.ofMinutes(10);
+
+    /** 소설 상세 캐시에 보관할 최대 소설 수입니다. */
+    private long detailMaximumSize = 10_000;
+
+    /**
+     * 메인 피드 페이지 캐시의 만료 시간입니다.
+     * 새 소설이 생기면 모든 페이지가 밀리므로, 짧게 유지하면서 이벤트로 전체를 비웁니다.
+     */
+    private Duration feedTtl = Duration.ofSeconds(30);
+
+    /** 메인 피드 캐시에 보관할 최대 페이지 수입니다. */
+    private long feedMaximumSize = 500;
+}
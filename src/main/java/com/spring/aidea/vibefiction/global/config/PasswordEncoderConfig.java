@@ -1,20 +1,64 @@
 package com.spring.aidea.vibefiction.global.config;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 /**
  * 비밀번호, 민감정보 해시 암화를 위한 빈 등록
+ * <p>
+ * BCrypt 비용은 {@code auth.password-hashing.strength}로 고정하거나, 지정하지 않으면 시작 시 이 서버에서
+ * 해시 한 번이 {@code auth.password-hashing.target-latency}를 넘지 않는 가장 큰 값으로 정합니다.
+ * 비용이 올라가면 기존 해시는 다음 로그인 때 새 비용으로 다시 저장됩니다. ({@code LoginServiceKO})
+ * 실제 해시 작업은 요청 스레드가 아닌 {@code PasswordHasher}의 전용 스레드 풀에서 실행합니다.
  * @author 고동현
  */
+@Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class PasswordEncoderConfig {
 
+    /** 측정용 비밀번호. 해시 시간은 입력이 아닌 비용에만 좌우됩니다. */
+    private static final String CALIBRATION_PASSWORD = "calibration-Password1!";
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final PasswordHashingProperties properties;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = properties.getStrength() > 0
+            ? properties.getStrength()
+            : calibrateStrength(properties.getTargetLatency(), properties.getMinStrength(), properties.getMaxStrength());
+        log.info("BCrypt 비용을 {}(으)로 설정했습니다.", strength);
+        return new BCryptPasswordEncoder(strength);
     }
 
+    /**
+     * 최소 비용에서의 해시 시간을 재고, 비용이 1 오를 때마다 두 배가 되는 성질로 목표 시간을 넘지 않는 가장 큰 비용을 구합니다.
+     * (첫 실행은 JIT 예열로 느리므로 여러 번 재서 가장 짧은 시간을 씁니다.)
+     */
+    static int calibrateStrength(Duration targetLatency, int minStrength, int maxStrength) {
+        PasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        int strength = minStrength;
+        long estimatedNanos = bestNanos;
+        while (strength < maxStrength && estimatedNanos * 2 <= targetLatency.toNanos()) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+        log.info("BCrypt 비용 측정: 비용 {}에서 {}ms, 목표 {}ms -> 비용 {} (예상 {}ms)",
+            minStrength, bestNanos / 1_000_000, targetLatency.toMillis(), strength, estimatedNanos / 1_000_000);
+        return strength;
+    }
 }
@@ -0,0 +1,46 @@
+package com.spring.aidea.vibefiction.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * {@code application.yml} 파일의 {@code auth.password-hashing} 하위 설정값(비밀번호 해시 비용과 전용 스레드 풀)을
+ * Java 객체로 바인딩하기 위한 클래스입니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt 비용(work factor, 4~31)입니다. {@code 0}이면 시작 시 {@link #targetLatency}에 맞춰 측정하여 정합니다.
+     * 비용이 1 오를 때마다 해시 시간은 두 배가 됩니다.
+     */
+    private int strength = 0;
+
+    /** 측정으로 비용을 정할 때, 해시 한 번에 걸리는 목표 시간입니다. 이 시간을 넘지 않는 가장 큰 비용을 고릅니다. */
+    private Duration targetLatency = Duration.ofMillis(250);
+
+    /** 측정 결과와 관계없이 지킬 최소 비용입니다. (Spring Security 기본값 10) */
+    private int minStrength = 10;
+
+    /** 측정 결과와 관계없이 넘지 않을 최대 비용입니다. */
+    private int maxStrength = 14;
+
+    /**
+     * 동시에 실행할 해시 작업 수(전용 스레드 풀 크기)입니다. 로그인이 몰려도 이 수만큼의 CPU 코어만 사용하여,
+     * 나머지 코어로 일반 조회 요청을 처리할 수 있게 합니다.
+     */
+    private int maxConcurrent = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /** 실행을 기다릴 수 있는 해시 작업 수입니다. 이를 넘으면 429로 즉시 거절합니다. */
+    private int queueCapacity = 64;
+}
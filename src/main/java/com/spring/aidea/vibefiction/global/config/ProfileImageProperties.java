@@ -0,0 +1,47 @@
+package com.spring.aidea.vibefiction.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * {@code application.yml} 파일의 {@code file.upload.profile-image} 하위 설정값(프로필 이미지 변환)을
+ * Java 객체로 바인딩하기 위한 클래스입니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "file.upload.profile-image")
+public class ProfileImageProperties {
+
+    /**
+     * 만들 정사각형 썸네일의 한 변 크기(px) 목록입니다. 첫 번째 크기가 기본 URL({@code profile_{hash}.jpg})이 되고,
+     * 나머지는 {@code profile_{hash}_{size}.jpg}로 저장됩니다.
+     * 기본값은 화면의 프로필 사진(128px)과 고해상도(2배) 화면용입니다.
+     */
+    private List<Integer> sizes = List.of(256, 128);
+
+    /** JPEG 변환 품질 (0~1) */
+    private float jpegQuality = 0.85f;
+
+    /** WebP 변환 품질 (0~1). 같은 품질에서 JPEG보다 25~35% 작습니다. */
+    private float webpQuality = 0.80f;
+
+    /**
+     * 받아들일 원본 이미지의 최대 픽셀 수입니다. 파일 크기는 작아도 디코딩하면 메모리를 크게 차지하는
+     * 이미지(압축 폭탄)를 디코딩 전에 거절합니다.
+     */
+    private long maxPixels = 40_000_000L;
+
+    /** 동시에 변환할 이미지 수(전용 스레드 풀 크기)입니다. */
+    private int maxConcurrent = 2;
+
+    /** 변환을 기다릴 수 있는 이미지 수입니다. 넘치면 요청 스레드에서 바로 변환합니다. */
+    private int queueCapacity = 100;
+}
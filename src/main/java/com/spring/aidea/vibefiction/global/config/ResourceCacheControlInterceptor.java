@@ -0,0 +1,45 @@
+package com.spring.aidea.vibefiction.global.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * 정적 리소스/업로드 파일 응답에 {@code Cache-Control}을 붙이는 인터셉터입니다.
+ * <p>
+ * 같은 리소스 핸들러가 버전이 붙은 URL({@code /css/style-{md5}.css})과 붙지 않은 URL({@code /css/style.css})을 함께 처리하므로,
+ * 핸들러 단위 설정({@code setCacheControl}) 대신 요청 경로를 보고 정합니다.
+ * <ul>
+ *   <li><b>버전 URL:</b> 내용이 바뀌면 URL도 바뀌므로 1년 동안 다시 묻지 않습니다. ({@code immutable})</li>
+ *   <li><b>그 외:</b> 캐시에 두되 쓸 때마다 {@code ETag}/{@code Last-Modified}로 확인하여, 바뀌지 않았으면 본문 없이 304를 받습니다.</li>
+ * </ul>
+ * 리소스 핸들러는 자체 캐시 설정이 없으면 이 헤더를 덮어쓰지 않고, Spring Security도 이미 있는 {@code Cache-Control}은 그대로 둡니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+public class ResourceCacheControlInterceptor implements HandlerInterceptor {
+
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+        .getHeaderValue();
+    private static final String REVALIDATE = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    /** 요청 경로(컨텍스트 경로 제외)가 버전 URL인지 판단합니다. */
+    private final Predicate<String> versioned;
+
+    public ResourceCacheControlInterceptor(Predicate<String> versioned) {
+        this.versioned = versioned;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, versioned.test(path) ? IMMUTABLE : REVALIDATE);
+        return true;
+    }
+}
@@ -1,27 +1,113 @@
 package com.spring.aidea.vibefiction.global.config;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * 외부 API와의 HTTP 통신을 위해 RestTemplate을 Spring Bean으로 등록하는 설정 클래스입니다.
+ * <p>
+ * <b>[설계 의도]</b>
+ * 기본 {@code new RestTemplate()}은 요청마다 새 연결을 여는 {@code SimpleClientHttpRequestFactory}를 사용하며
+ * 타임아웃도 없습니다. 이 설정은 Apache HttpClient 5의 커넥션 풀을 사용하여
+ * generativelanguage.googleapis.com과의 TLS 연결을 재사용하고, 연결/응답 타임아웃을 적용합니다.
+ * 풀 크기와 타임아웃은 {@code gemini.api.http.*} 설정({@link GeminiProperties.Http})을 따릅니다.
  *
  * @author 왕택준
  * @since 2025.08
  */
 @Configuration
+@RequiredArgsConstructor
 public class RestTemplateConfig {
 
+    private final GeminiProperties geminiProperties;
+
+    /**
+     * 외부 API 호출용 커넥션 풀을 생성합니다.
+     * <p>
+     * 풀에 보관된 커넥션은 keep-alive로 유지되므로, 같은 호스트로의 다음 요청은 TCP/TLS 핸드셰이크 없이 바로 전송됩니다.
+     * 애플리케이션 종료 시 {@code close()}가 호출되어 열린 커넥션을 모두 정리합니다.
+     *
+     * @return 설정값이 적용된 {@link PoolingHttpClientConnectionManager}
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager httpConnectionManager() {
+        GeminiProperties.Http http = geminiProperties.getHttp();
+
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.of(http.getConnectTimeout()))
+            .setSocketTimeout(Timeout.of(http.getResponseTimeout()))
+            .setTimeToLive(TimeValue.of(http.getTimeToLive()))
+            // 오래 쉬었던 커넥션은 재사용 전에 살아 있는지 확인하여, 서버가 먼저 끊은 커넥션으로 요청하는 일을 막음
+            .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+            .build();
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(http.getMaxTotal())
+            .setMaxConnPerRoute(http.getMaxPerRoute())
+            .setDefaultConnectionConfig(connectionConfig)
+            .build();
+    }
+
+    /**
+     * 커넥션 풀을 사용하는 Apache HttpClient를 생성합니다.
+     *
+     * @param httpConnectionManager 외부 API 호출용 커넥션 풀
+     * @return 타임아웃과 유휴 커넥션 정리가 설정된 {@link CloseableHttpClient}
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager httpConnectionManager) {
+        GeminiProperties.Http http = geminiProperties.getHttp();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.of(http.getConnectionRequestTimeout()))
+            .setResponseTimeout(Timeout.of(http.getResponseTimeout()))
+            .build();
+
+        return HttpClients.custom()
+            .setConnectionManager(httpConnectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(http.getIdleEvictTimeout()))
+            .build();
+    }
+
     /**
      * RestTemplate 객체를 생성하여 Bean으로 등록합니다.
      * 이 Bean은 프로젝트 내의 다른 서비스(@Service)에서 의존성 주입(@Autowired 또는 생성자 주입)을 통해
      * 간편하게 재사용될 수 있습니다.
      *
+     * @param httpClient 커넥션 풀을 사용하는 Apache HttpClient
      * @return 프로젝트 전역에서 사용할 RestTemplate 인스턴스
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient httpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    /**
+     * 커넥션 풀 상태(leased/pending/available 커넥션 수, 최대 커넥션 수)를 Micrometer 지표로 노출합니다.
+     * <p>
+     * {@code /actuator/metrics/httpcomponents.httpclient.pool.total.connections} 등에서
+     * {@code httpClient="gemini"} 태그로 조회할 수 있습니다.
+     *
+     * @param httpConnectionManager 외부 API 호출용 커넥션 풀
+     * @return 커넥션 풀 지표를 등록하는 {@link MeterBinder}
+     */
+    @Bean
+    public MeterBinder httpConnectionPoolMetrics(PoolingHttpClientConnectionManager httpConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(httpConnectionManager, "gemini");
     }
 }
@@ -0,0 +1,47 @@
+package com.spring.aidea.vibefiction.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code application.yml} 파일의 {@code search} 하위 설정값(작품 검색 색인)을
+ * Java 객체로 바인딩하기 위한 클래스입니다.
+ * <p>
+ * 검색 반영 주기({@code search.refresh-interval})와 색인 커밋 주기({@code search.commit-interval})는
+ * {@code @Scheduled}가 직접 읽습니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "search")
+public class SearchProperties {
+
+    /**
+     * Lucene 색인 파일을 둘 디렉터리 경로입니다. 한 디렉터리는 한 인스턴스만 쓸 수 있으므로(쓰기 잠금),
+     * 인스턴스마다 로컬 디스크에 따로 둡니다.
+     */
+    private String indexLocation = System.getProperty("user.home") + "/aidea/search-index/";
+
+    /** 한 페이지에 담을 수 있는 최대 검색 결과 수입니다. */
+    private int maxPageSize = 50;
+
+    /**
+     * 페이지를 넘겨 볼 수 있는 최대 결과 순위입니다. (page * size + size)
+     * 깊은 페이지는 앞의 모든 결과를 다시 순위 매겨야 하므로 상한을 둡니다.
+     */
+    private int maxResultWindow = 1_000;
+
+    /** 검색 결과에 함께 내려줄 본문 미리보기 길이(글자 수)입니다. */
+    private int previewLength = 200;
+
+    /** 색인을 처음부터 다시 만들 때 한 번에 DB에서 읽는 소설/회차 수입니다. */
+    private int rebuildBatchSize = 200;
+
+    /** 색인 대기열 크기입니다. 가득 차면 요청 스레드에서 바로 색인합니다. */
+    private int queueCapacity = 1_000;
+}
@@ -51,7 +51,9 @@ public class SecurityConfig {
         "/api/auth/**",
         "/api/my-page/**",
         "/api/chapters/**",
-        "/api/vote/finalize/**"
+        "/api/vote/finalize/**",
+        "/api/vote/chapters/*/stream",  // 실시간 투표 현황(SSE). EventSource는 Authorization 헤더를 보낼 수 없음
+        "/api/search"                   // 작품 검색 (공개 소설만 색인됨)
 
     };
     // 검증 제외 할 정적소스 (html,css,image,js) URL
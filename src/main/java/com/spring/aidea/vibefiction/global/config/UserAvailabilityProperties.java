@@ -0,0 +1,37 @@
+package com.spring.aidea.vibefiction.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code application.yml} 파일의 {@code auth.availability} 하위 설정값(회원가입 아이디/이메일/닉네임 사용 가능 여부 확인)을
+ * Java 객체로 바인딩하기 위한 클래스입니다.
+ * <p>
+ * 필터 재구성 주기({@code auth.availability.rebuild-interval})는 {@code @Scheduled}가 직접 읽습니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.availability")
+public class UserAvailabilityProperties {
+
+    /**
+     * 필드별 블룸 필터의 최소 예상 항목 수입니다.
+     * 재구성 시 실제 회원 수의 두 배와 비교해 큰 값으로 필터를 만들어, 가입이 늘어도 오탐 확률이 유지되도록 합니다.
+     */
+    private long expectedInsertions = 100_000;
+
+    /** 블룸 필터의 목표 오탐 확률입니다. 오탐이면 DB에서 한 번 더 확인할 뿐 결과가 틀리지는 않습니다. */
+    private double falsePositiveProbability = 0.01;
+
+    /** 필터를 처음부터 다시 만들 때 한 번에 DB에서 읽는 회원 수입니다. */
+    private int rebuildBatchSize = 1_000;
+
+    /** 일괄 확인 API를 한 클라이언트(IP)가 1분 동안 호출할 수 있는 최대 횟수입니다. */
+    private int batchRequestsPerMinute = 30;
+}
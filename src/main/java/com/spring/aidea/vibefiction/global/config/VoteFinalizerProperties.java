@@ -0,0 +1,31 @@
+package com.spring.aidea.vibefiction.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code application.yml} 파일의 {@code vote.finalizer} 하위 설정값(투표 자동 마감 배치 크기)을
+ * Java 객체로 바인딩하기 위한 클래스입니다.
+ * <p>
+ * 실행 주기({@code vote.finalizer.fixed-delay})는 {@code @Scheduled}가 직접 읽습니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "vote.finalizer")
+public class VoteFinalizerProperties {
+
+    /** 한 번에 조회하여 마감 처리할 소설 수입니다. 소설마다 별도 트랜잭션으로 처리됩니다. */
+    private int batchSize = 20;
+
+    /**
+     * 한 번의 실행에서 처리할 최대 배치 수입니다.
+     * 밀린 작업이 많아도 한 번의 실행이 스케줄러 스레드를 오래 붙잡지 않도록 제한합니다.
+     */
+    private int maxBatchesPerRun = 10;
+}
@@ -0,0 +1,34 @@
+package com.spring.aidea.vibefiction.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * {@code application.yml} 파일의 {@code vote.leaderboard} 하위 설정값(회차별 투표 순위표 보관 정책)을
+ * Java 객체로 바인딩하기 위한 클래스입니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "vote.leaderboard")
+public class VoteLeaderboardProperties {
+
+    /** 메모리에 유지할 최대 회차(순위표) 수입니다. 투표가 진행 중인 회차 수보다 넉넉하게 잡습니다. */
+    private long maximumChapters = 1_000;
+
+    /** 이 시간 동안 조회되지 않은 회차의 순위표는 메모리에서 내립니다. (투표가 끝난 회차 정리) */
+    private Duration expireAfterAccess = Duration.ofMinutes(10);
+
+    /**
+     * 순위표를 DB에서 다시 만드는 주기입니다.
+     * 순위표는 투표 이벤트로 증분 갱신되지만, 재구성과 이벤트가 겹치는 드문 경우의 오차를 이 시간 안에 바로잡습니다.
+     */
+    private Duration rebuildInterval = Duration.ofMinutes(5);
+}
@@ -0,0 +1,31 @@
+package com.spring.aidea.vibefiction.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * {@code application.yml} 파일의 {@code vote.tally} 하위 설정값(투표 현황 실시간 전송)을
+ * Java 객체로 바인딩하기 위한 클래스입니다.
+ * <p>
+ * 전송 주기({@code vote.tally.flush-interval})와 연결 유지 신호 주기({@code vote.tally.heartbeat-interval})는
+ * {@code @Scheduled}가 직접 읽습니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "vote.tally")
+public class VoteTallyProperties {
+
+    /** SSE 연결 하나를 유지하는 최대 시간입니다. 만료되면 브라우저의 EventSource가 자동으로 다시 연결합니다. */
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+
+    /** 한 회차에 동시에 연결할 수 있는 최대 구독자 수입니다. */
+    private int maxSubscribersPerChapter = 2_000;
+}
@@ -1,19 +1,148 @@
 package com.spring.aidea.vibefiction.global.config;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.CssLinkResourceTransformer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 정적 리소스(js/css/img)와 업로드 파일의 URL, 캐시, 압축 설정입니다.
+ * <p>
+ * <b>[정적 리소스]</b>
+ * <ul>
+ *   <li>템플릿의 {@code @{/css/style.css}}는 {@link ResourceUrlEncodingFilter}가 버전 URL로 바꿉니다.
+ *       CSS/이미지는 파일 내용의 해시를 이름에 붙이고({@code /css/style-{md5}.css}),
+ *       JS는 모든 스크립트 내용의 해시를 경로 앞에 붙입니다({@code /js/{hash}/app.js}).
+ *       JS 모듈은 {@code import './utils/api.js'}처럼 서로를 상대 경로로 불러오므로, 같은 버전 경로를 공유해야 하기 때문입니다.</li>
+ *   <li>버전 URL은 1년 동안 캐시하고({@code immutable}), 버전이 없는 URL(스크립트에서 직접 쓰는 이미지 등)은
+ *       매번 {@code ETag}/{@code Last-Modified}로 확인합니다. ({@link ResourceCacheControlInterceptor})</li>
+ *   <li>빌드 시 미리 압축해 둔 {@code .br}/{@code .gz} 파일이 있으면 요청의 {@code Accept-Encoding}에 맞춰 그대로 내려줍니다.</li>
+ * </ul>
+ * <b>[업로드 파일]</b> 내용 해시로 이름을 붙인 프로필 썸네일({@code profile_{hash}.jpg})은 1년 동안 캐시하고,
+ * 나머지는 {@code ETag}/{@code Last-Modified}로 확인합니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
 @Configuration
 @RequiredArgsConstructor
 public class WebResourceConfig implements WebMvcConfigurer {
 
+    /** ContentVersionStrategy가 붙이는 MD5 해시 ({@code style-{32자리}.css}) */
+    private static final Pattern CONTENT_VERSIONED = Pattern.compile("^/(css|img)/.+-[0-9a-f]{32}\\.[A-Za-z0-9]+$");
+    /** ProfileImageProcessor가 만드는 내용 해시 이름 ({@code profile_{16자리}[_{size}].jpg|webp}) */
+    private static final Pattern HASHED_UPLOAD = Pattern.compile("^/uploads/\\d+/profile_[0-9a-f]{16}(_\\d+)?\\.(jpg|webp)$");
+
     private final FileUploadConfig fileUploadConfig;
 
+    /** 모든 JS 파일 내용으로 만든 버전. 스크립트가 하나라도 바뀌면 바뀝니다. */
+    private final String scriptVersion = contentHash("classpath:/static/js/**/*.js");
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/js/**")
+            .addResourceLocations("classpath:/static/js/")
+            .setEtagGenerator(WebResourceConfig::etag)
+            .resourceChain(true)
+            .addResolver(new EncodedResourceResolver())
+            .addResolver(new VersionResourceResolver().addFixedVersionStrategy(scriptVersion, "/**"));
+
+        registry.addResourceHandler("/css/**")
+            .addResourceLocations("classpath:/static/css/")
+            .setEtagGenerator(WebResourceConfig::etag)
+            .resourceChain(true)
+            .addResolver(new EncodedResourceResolver())
+            .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"))
+            .addTransformer(new CssLinkResourceTransformer());
+
+        // 이미지는 이미 압축된 형식이므로 사전 압축 파일을 찾지 않습니다.
+        registry.addResourceHandler("/img/**")
+            .addResourceLocations("classpath:/static/img/")
+            .setEtagGenerator(WebResourceConfig::etag)
+            .resourceChain(true)
+            .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+
+        // 프로필 썸네일은 Accept 헤더에 따라 WebP/JPEG 중 하나를 내려주므로, 경로 기준 캐시(resourceChain(true))를 쓰지 않습니다.
         registry.addResourceHandler("/uploads/**")
-            .addResourceLocations("file:" + fileUploadConfig.getLocation() + "/");
+            .addResourceLocations("file:" + fileUploadConfig.getLocation() + "/")
+            .setEtagGenerator(WebResourceConfig::etag)
+            .resourceChain(false)
+            .addResolver(new WebpVariantResourceResolver());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 같은 URL이라도 Accept에 따라 응답이 달라진다는 것을 브라우저/프록시 캐시에 알립니다.
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/uploads/**");
+
+        String versionedScripts = "/js/" + scriptVersion + "/";
+        registry.addInterceptor(new ResourceCacheControlInterceptor(path -> path.startsWith(versionedScripts)
+                || CONTENT_VERSIONED.matcher(path).matches()
+                || HASHED_UPLOAD.matcher(path).matches()))
+            .addPathPatterns("/js/**", "/css/**", "/img/**", "/uploads/**");
+    }
+
+    /**
+     * Thymeleaf의 {@code @{...}} 링크를 버전 URL로 바꾸는 필터입니다.
+     * (Spring Boot는 {@code spring.web.resources.chain.*} 설정을 쓸 때만 자동 등록하므로 직접 등록합니다.)
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+
+    /**
+     * 수정 시각과 크기로 만든 ETag입니다. 파일 내용을 읽지 않으므로 큰 파일도 비용이 없습니다.
+     */
+    private static String etag(Resource resource) {
+        try {
+            return "\"" + Long.toHexString(resource.lastModified())
+                + "-" + Long.toHexString(resource.contentLength()) + "\"";
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String contentHash(String locationPattern) {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(locationPattern);
+            Arrays.sort(resources, Comparator.comparing(Resource::getDescription));
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Resource resource : resources) {
+                digest.update(resource.getContentAsByteArray());
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 6);
+        } catch (IOException e) {
+            throw new UncheckedIOException("정적 리소스 버전을 계산하지 못했습니다: " + locationPattern, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
 }
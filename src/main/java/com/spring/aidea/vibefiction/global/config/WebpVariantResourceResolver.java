@@ -0,0 +1,51 @@
+package com.spring.aidea.vibefiction.global.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.util.List;
+
+/**
+ * {@code .jpg} 요청에 대해, 브라우저가 WebP를 받을 수 있고({@code Accept: image/webp}) 같은 이름의 {@code .webp} 파일이 있으면
+ * 그 파일을 대신 내려주는 리소스 리졸버입니다.
+ * <p>
+ * 저장하는 URL은 항상 {@code .jpg} 하나이므로, WebP를 지원하지 않는 브라우저도 같은 URL로 JPEG을 받습니다.
+ * 같은 URL의 응답이 {@code Accept}에 따라 달라지므로 응답에는 {@code Vary: Accept}를 붙여야 하고,
+ * 경로만으로 결과를 캐시하는 {@code CachingResourceResolver}와 함께 쓰면 안 됩니다. ({@code resourceChain(false)})
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+public class WebpVariantResourceResolver extends AbstractResourceResolver {
+
+    private static final String JPEG_EXTENSION = ".jpg";
+    private static final String WEBP_EXTENSION = ".webp";
+
+    @Override
+    protected Resource resolveResourceInternal(@Nullable HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        if (request != null && requestPath.endsWith(JPEG_EXTENSION) && acceptsWebp(request)) {
+            String webpPath = requestPath.substring(0, requestPath.length() - JPEG_EXTENSION.length()) + WEBP_EXTENSION;
+            Resource webp = chain.resolveResource(request, webpPath, locations);
+            if (webp != null) {
+                return webp;
+            }
+        }
+        return chain.resolveResource(request, requestPath, locations);
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    private static boolean acceptsWebp(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains("image/webp");
+    }
+}
@@ -24,11 +24,16 @@ public enum ErrorCode {
     DUPLICATE_RESOURCE("DUPLICATE_RESOURCE", "이미 존재하는 리소스입니다.", 409),
     NOVEL_NOT_FOUND("NOVEL_NOT_FOUND", "소설을 찾을 수 없습니다.", 404),
     CHAPTER_NOT_FOUND("CHAPTER_NOT_FOUND","챕터리스트 조회에 실패하였습니다.", 404),
+    TOO_MANY_REQUESTS("TOO_MANY_REQUESTS", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 429),
+
+    // AI 관련 에러 코드
+    AI_TOO_MANY_REQUESTS("AI_TOO_MANY_REQUESTS", "AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 429),
 
     // 인증 관련 에러 코드
     USER_NOT_FOUND("USER_NOT_FOUND", "사용자를 찾을 수 없습니다.", 404),
     DUPLICATE_USERNAME("DUPLICATE_USERNAME", "이미 사용 중인 사용자명입니다.", 409),
     DUPLICATE_EMAIL("DUPLICATE_EMAIL", "이미 사용 중인 이메일입니다.", 409),
+    DUPLICATE_NICKNAME("DUPLICATE_NICKNAME", "이미 사용 중인 닉네임입니다.", 409),
     INVALID_PASSWORD("INVALID_PASSWORD", "비밀번호가 올바르지 않습니다.", 401),
     INVALID_DATE_FORMAT("INVALID_DATE_FORMAT", "날짜 형식이 올바르지 않습니다. yyyy-MM-dd 형식으로 입력해주세요.", 400),
 
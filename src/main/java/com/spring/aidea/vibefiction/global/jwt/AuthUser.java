@@ -0,0 +1,58 @@
+package com.spring.aidea.vibefiction.global.jwt;
+
+import com.spring.aidea.vibefiction.global.exception.BusinessException;
+import com.spring.aidea.vibefiction.global.exception.ErrorCode;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * JWT 인증이 끝난 사용자를 나타내는 인증 주체(principal)입니다.
+ * <p>
+ * {@link JwtAuthenticationFilter}가 토큰의 클레임(sub, userId, role)으로 만들어 SecurityContext에 넣으며,
+ * 컨트롤러는 {@code @AuthenticationPrincipal AuthUser}로 주입받아 DB 조회 없이 사용자 PK를 사용할 수 있습니다.
+ * {@link User}를 상속하므로 {@code @AuthenticationPrincipal User}/{@code UserDetails}로 받는 기존 코드도 그대로 동작합니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Getter
+public class AuthUser extends User {
+
+    /** 사용자의 고유 식별자(PK)입니다. */
+    private final Long userId;
+
+    /** 사용자의 권한(USER, ADMIN)입니다. */
+    private final String role;
+
+    public AuthUser(Long userId, String loginId, String role, Collection<? extends GrantedAuthority> authorities) {
+        // 비밀번호가 필요 없으므로 "password"를 임시로 사용합니다.
+        super(loginId, "password", authorities);
+        this.userId = userId;
+        this.role = role;
+    }
+
+    /**
+     * 사용자의 로그인 ID입니다. {@link #getUsername()}과 같습니다.
+     */
+    public String getLoginId() {
+        return getUsername();
+    }
+
+    /**
+     * 인증된 사용자의 PK를 반환합니다. 인증 없이 허용된 경로({@code permitAll})로 들어온 요청은
+     * 인증 주체가 {@code null}이므로 401로 응답합니다.
+     *
+     * @param authUser {@code @AuthenticationPrincipal}로 주입받은 인증 주체
+     * @return 사용자 PK
+     * @throws BusinessException {@code UNAUTHORIZED}: 인증 주체가 없는 경우
+     */
+    public static Long requireUserId(AuthUser authUser) {
+        if (authUser == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        return authUser.getUserId();
+    }
+}
@@ -1,5 +1,8 @@
 package com.spring.aidea.vibefiction.global.jwt;
 
+import com.spring.aidea.vibefiction.entity.Users;
+import com.spring.aidea.vibefiction.repository.UsersRepository;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,8 +12,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -30,6 +31,7 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
+    private final UsersRepository usersRepository;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -37,23 +39,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 클라이언트의 요청에서 들어온 토큰을 뜯어와야함.
             String token = extractTokenFromHeader(request);
 
-            // 서명, 토큰 위조 검사
-            if (StringUtils.hasText(token) && jwtProvider.validateToken(token)) {
-                // 토큰에서 사용자명을 추출
-                String username = jwtProvider.getUsernameFromToken(token);
-                // 토큰에서 ROLE 추출
-                String role = jwtProvider.getRoleFromToken(token);
-
-                List<SimpleGrantedAuthority> authorities =
-                    List.of(new SimpleGrantedAuthority("ROLE_" + role));
-
-                // UserDetails 객체를 생성합니다.
-                // 비밀번호가 필요 없으므로 "password"를 임시로 사용합니다.
-                UserDetails userDetails = new User(username, "password", authorities);
-
-                // 시큐리티에게 알려줄 인증정보(UserDetails 객체와 권한)를 생성
+            // 서명, 토큰 위조 검사 - 한 번만 검증하고 Claims에서 필요한 값을 모두 꺼냄
+            Claims claims = StringUtils.hasText(token) ? jwtProvider.parseVerifiedClaims(token) : null;
+            // 토큰 클레임만으로 인증 주체를 생성합니다. 컨트롤러는 @AuthenticationPrincipal AuthUser로 받습니다.
+            AuthUser authUser = (claims != null) ? toAuthUser(claims) : null;
+            if (authUser != null) {
+                // 시큐리티에게 알려줄 인증정보(AuthUser 객체와 권한)를 생성
                 UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                    userDetails, null, authorities); // 권한 목록 전달
+                    authUser, null, authUser.getAuthorities()); // 권한 목록 전달
 
                /* // 시큐리티에게 알려줄 인증정보(사용자명, 권한) 생성
                 UsernamePasswordAuthenticationToken auth
@@ -63,7 +56,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 // 스프링 시큐리티에게 인증 성공을 알려줌
                 SecurityContextHolder.getContext().setAuthentication(auth);
-                log.debug("JWT 인증 성공: {}", username);
+                log.debug("JWT 인증 성공: {}", authUser.getUsername());
             }
         }catch (Exception e) {
             log.error("JWT  인증 오류 발생 : {}",e.getMessage());
@@ -73,6 +66,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 검증된 토큰의 클레임(sub, userId, role)으로 인증 주체를 만듭니다.
+     * userId 클레임이 없는 이전 형식의 토큰은 만료될 때까지만 로그인 ID로 사용자를 조회하여 PK를 보완합니다.
+     *
+     * @return 인증 주체. 이전 형식의 토큰인데 사용자를 찾을 수 없으면 {@code null}
+     */
+    private AuthUser toAuthUser(Claims claims) {
+        // 토큰에서 사용자명을 추출
+        String username = claims.getSubject();
+        // 토큰에서 ROLE 추출
+        String role = claims.get("role", String.class);
+
+        Long userId = claims.get("userId", Long.class);
+        if (userId == null) {
+            userId = usersRepository.findByLoginId(username)
+                .map(Users::getUserId)
+                .orElse(null);
+            if (userId == null) {
+                log.warn("JWT 사용자를 찾을 수 없습니다: {}", username);
+                return null;
+            }
+        }
+
+        List<SimpleGrantedAuthority> authorities =
+            List.of(new SimpleGrantedAuthority("ROLE_" + role));
+        return new AuthUser(userId, username, role, authorities);
+    }
+
     private String extractTokenFromHeader(HttpServletRequest request) {
         // 1. 요청 헤더에서 Authorization 키를 파싱
         String bearerToken = request.getHeader("Authorization");
@@ -16,4 +16,11 @@ public class JwtProperties {
 
     private String secret;
     private Long expiration;
+
+    /**
+     * 검증을 마친 토큰을 만료 시각까지 보관하는 캐시의 최대 항목 수입니다. 0이면 캐시를 사용하지 않습니다.
+     * @author 왕택준
+     * @since 2025.08
+     */
+    private long verifiedCacheSize = 10_000;
 }
@@ -1,16 +1,20 @@
 package com.spring.aidea.vibefiction.global.jwt;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
 
 /**
@@ -21,12 +25,37 @@ import java.util.Date;
 
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class JwtProvider {
 
 
     private final JwtProperties jwtProperties;
 
+    /** 서명 키와 파서는 불변이므로 시작 시 한 번만 만들어 모든 요청이 공유합니다. */
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    /**
+     * 서명 검증을 통과한 토큰과 그 Claims를 토큰의 만료 시각까지 보관하는 캐시입니다.
+     * 같은 토큰이 반복해서 들어오면 HMAC 계산과 JSON 파싱 없이 바로 Claims를 돌려줍니다.
+     * 위조되었거나 만료된 토큰은 예외가 발생하므로 캐시에 들어가지 않습니다.
+     * {@code jwt.verified-cache-size}가 0이면 {@code null}입니다.
+     */
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+            .verifyWith(signingKey)
+            .build();
+        this.verifiedTokens = jwtProperties.getVerifiedCacheSize() > 0
+            ? Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedCacheSize())
+                .expireAfter(Expiry.creating((String token, Claims claims) -> untilExpiration(claims)))
+                .build()
+            : null;
+    }
+
     /**
      * JWT 토큰 생성 메서드
      * @param username - 발급 대상의 사용자 이름
@@ -83,6 +112,35 @@ public class JwtProvider {
     }
 
 
+    /**
+     * 로그인 ID, 사용자 PK, 권한을 모두 담은 JWT를 생성합니다.
+     * <p>
+     * {@link JwtAuthenticationFilter}는 이 토큰의 클레임만으로 {@link AuthUser}를 만들 수 있으므로,
+     * 인증된 요청마다 사용자 PK를 찾기 위해 DB를 조회할 필요가 없습니다.
+     *
+     * @param username 사용자의 로그인 ID. 'sub' 클레임으로 설정됩니다.
+     * @param userId   사용자의 고유 식별자(PK). 'userId' 클레임으로 설정됩니다.
+     * @param role     사용자의 권한(USER, ADMIN). 'role' 클레임으로 설정됩니다.
+     * @return 생성된 JWT 문자열.
+     * @author 왕택준
+     * @since 2025.08
+     */
+    public String generateToken(String username, Long userId, String role) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + jwtProperties.getExpiration());
+
+        return Jwts.builder()
+            .subject(username)
+            .claim("userId", userId)
+            .claim("role", role)
+            .issuedAt(now)
+            .expiration(expiryDate)
+            .issuer("Toy Project By TJ")
+            .signWith(getSigningKey())
+            .compact();
+    }
+
+
     /**
      *  파싱된 JWT에서 권한(Role)을 추출하는 함수
      * @param token
@@ -98,14 +156,7 @@ public class JwtProvider {
      * JWT 토큰 유효성 검증
      */
     public boolean validateToken(String token) {
-        try {
-            // 토큰 파싱 - Claims : 토큰의 내용
-            getClaimsFromToken(token);
-            return true;
-        }catch (JwtException e) {
-            log.warn("Invalid JWT token : {}",e.getMessage());
-            return false;
-        }
+        return parseVerifiedClaims(token) != null;
     }
 
     /**
@@ -115,17 +166,51 @@ public class JwtProvider {
         return getClaimsFromToken(token).getSubject();
     }
 
+    /**
+     * 토큰을 한 번 검증하고 Claims를 반환합니다. 필터처럼 한 요청에서 여러 값을 꺼내야 할 때
+     * {@link #validateToken}과 개별 추출 메서드를 나눠 부르는 대신 사용합니다.
+     *
+     * @param token JWT 문자열
+     * @return 검증된 Claims. 위조되었거나 만료된 토큰이면 {@code null}
+     * @author 왕택준
+     * @since 2025.08
+     */
+    public Claims parseVerifiedClaims(String token) {
+        try {
+            return getClaimsFromToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid JWT token : {}", e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * JWT 토큰에서 실제 데이터를 추출
      * @param token
      */
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-            .verifyWith(getSigningKey()) // 여기서 예외 터지면 서버가 발급한 토큰이 아님
-            .build()
-            .parseSignedClaims(token)// 여기서 예외가 터지면 클라이언트 토큰이 위조됨
-            .getPayload()
-            ;
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+        return verifiedTokens.get(token, this::parse);
+    }
+
+    private Claims parse(String token) {
+        return parser
+            .parseSignedClaims(token) // 예외가 터지면 서버가 발급한 토큰이 아니거나 위조/만료된 토큰
+            .getPayload();
+    }
+
+    /**
+     * 검증된 토큰을 캐시에 보관할 시간입니다. 토큰의 만료 시각이 지나면 캐시에서도 사라집니다.
+     */
+    private static Duration untilExpiration(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return Duration.ZERO;
+        }
+        long remaining = expiration.getTime() - System.currentTimeMillis();
+        return Duration.ofMillis(Math.max(0, remaining));
     }
 
     /**
@@ -133,6 +218,6 @@ public class JwtProvider {
      * @return 서명 키 객체
      */
     private SecretKey getSigningKey(){
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        return signingKey;
     }
 }
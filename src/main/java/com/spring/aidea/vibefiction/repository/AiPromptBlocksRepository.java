@@ -0,0 +1,7 @@
+package com.spring.aidea.vibefiction.repository;
+
+import com.spring.aidea.vibefiction.entity.AiPromptBlocks;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AiPromptBlocksRepository extends JpaRepository<AiPromptBlocks, String> {
+}
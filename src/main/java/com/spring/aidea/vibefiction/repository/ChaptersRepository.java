@@ -3,8 +3,11 @@ package com.spring.aidea.vibefiction.repository;
 
 import com.spring.aidea.vibefiction.entity.Chapters;
 import com.spring.aidea.vibefiction.repository.custom.ChaptersRepositoryCustom;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ChaptersRepository extends JpaRepository<Chapters, Long> , ChaptersRepositoryCustom {
@@ -31,4 +34,64 @@ public interface ChaptersRepository extends JpaRepository<Chapters, Long> , Chap
      * @since 2025.08
      */
     Optional<Chapters> findTopByNovel_NovelIdOrderByChapterNumberDesc(Long novelId);
+
+    /**
+     * 지정된 소설에서 특정 회차 번호 이상인 회차들을 회차 번호 오름차순으로 조회합니다.
+     * <p>
+     * 스토리 컨텍스트를 점진적으로 갱신할 때, 전체 회차가 아닌 최근 몇 개 회차만 읽기 위해 사용됩니다.
+     *
+     * @param novelId           회차를 조회할 대상 소설의 고유 ID.
+     * @param fromChapterNumber 조회를 시작할 회차 번호 (포함).
+     * @return 회차 번호 순으로 정렬된 {@link Chapters} 목록.
+     */
+    List<Chapters> findByNovel_NovelIdAndChapterNumberGreaterThanEqualOrderByChapterNumberAsc(Long novelId, Integer fromChapterNumber);
+
+    /**
+     * 지정된 소설의 모든 회차를 회차 번호 오름차순으로 조회합니다.
+     * <p>
+     * 스토리 컨텍스트가 없거나 뒤처진 경우, 처음부터 다시 만들기 위해 사용됩니다.
+     *
+     * @param novelId 회차를 조회할 대상 소설의 고유 ID.
+     * @return 회차 번호 순으로 정렬된 {@link Chapters} 목록.
+     */
+    List<Chapters> findByNovel_NovelIdOrderByChapterNumberAsc(Long novelId);
+
+    /**
+     * 특정 '이어쓰기 제안'을 채택하여 만들어진 회차를 조회합니다.
+     * <p>
+     * 같은 제안으로 회차 생성이 다시 요청된 경우(재시도 등), 새 회차를 만들지 않고 기존 회차를 돌려주기 위해 사용됩니다.
+     *
+     * @param proposalId 채택된 제안의 고유 ID.
+     * @return 해당 제안으로 만들어진 {@link Chapters}. 없으면 {@link Optional#empty()}.
+     */
+    Optional<Chapters> findByFromProposal_ProposalId(Long proposalId);
+
+    /**
+     * 회차를 소설과 함께 조회합니다. (검색 색인용)
+     *
+     * @param chapterId 조회할 회차의 고유 ID.
+     * @return 소설이 채워진 {@link Chapters}. 없으면 {@link Optional#empty()}.
+     */
+    @EntityGraph(attributePaths = {"novel"})
+    Optional<Chapters> findWithNovelByChapterId(Long chapterId);
+
+    /**
+     * 소설의 모든 회차를 소설과 함께 조회합니다. (검색 색인용)
+     * 소설과 함께 만들어진 1화는 회차 생성 이벤트가 따로 발행되지 않으므로, 소설을 색인할 때 함께 읽습니다.
+     *
+     * @param novelId 회차를 조회할 대상 소설의 고유 ID.
+     * @return 소설이 채워진 {@link Chapters} 목록.
+     */
+    @EntityGraph(attributePaths = {"novel"})
+    List<Chapters> findWithNovelByNovel_NovelId(Long novelId);
+
+    /**
+     * 검색 색인을 처음부터 다시 만들 때, 지정한 ID 다음의 회차를 소설과 함께 한 묶음씩 조회합니다. (키셋 페이징)
+     *
+     * @param chapterId 이전 묶음의 마지막 회차 ID (처음에는 0)
+     * @param pageable  묶음 크기. {@code PageRequest.of(0, size)}로 전달합니다.
+     * @return 회차 ID 오름차순으로 정렬된 {@link Chapters} 목록.
+     */
+    @EntityGraph(attributePaths = {"novel"})
+    List<Chapters> findByChapterIdGreaterThanOrderByChapterIdAsc(Long chapterId, Pageable pageable);
 }
@@ -0,0 +1,7 @@
+package com.spring.aidea.vibefiction.repository;
+
+import com.spring.aidea.vibefiction.entity.NovelStoryContexts;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NovelStoryContextsRepository extends JpaRepository<NovelStoryContexts, Long> {
+}
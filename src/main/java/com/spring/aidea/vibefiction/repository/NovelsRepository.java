@@ -2,11 +2,14 @@ package com.spring.aidea.vibefiction.repository;
 
 import com.spring.aidea.vibefiction.entity.Novels;
 import com.spring.aidea.vibefiction.repository.custom.NovelsRepositoryCustom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,5 +39,72 @@ public interface NovelsRepository extends JpaRepository<Novels, Long> , NovelsRe
     @Query("select distinct n from Novels n where n.novelId = :novelId ")
     Optional<Novels> findByIdWithDetails(@Param("novelId") Long novelId);
 
+    /**
+     * 투표 마감 처리를 위해 소설 행에 배타 잠금을 겁니다. 다른 트랜잭션이 잡고 있으면 풀릴 때까지 기다립니다.
+     * 같은 소설의 투표가 클라이언트 요청과 스케줄러(여러 인스턴스 포함)에서 동시에 마감되는 것을 막습니다.
+     *
+     * @param novelId 잠글 소설 ID
+     * @return 잠근 소설 ID. 소설이 없으면 empty
+     */
+    @Query(value = "SELECT novel_id FROM novels WHERE novel_id = :novelId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockForFinalization(@Param("novelId") Long novelId);
+
+    /**
+     * {@link #lockForFinalization(Long)}과 같지만, 다른 트랜잭션이 이미 잠근 소설은 기다리지 않고 건너뜁니다.
+     * (MariaDB 10.6+의 {@code SKIP LOCKED}) 여러 인스턴스의 스케줄러가 같은 소설을 나누어 맡는 데 사용합니다.
+     *
+     * @param novelId 잠글 소설 ID
+     * @return 잠금에 성공한 소설 ID. 소설이 없거나 이미 다른 트랜잭션이 잠근 경우 empty
+     */
+    @Query(value = "SELECT novel_id FROM novels WHERE novel_id = :novelId FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<Long> tryLockForFinalization(@Param("novelId") Long novelId);
+
+    /**
+     * 소설의 회차 번호 발급기({@code last_chapter_number})를 원자적으로 1 증가시킵니다.
+     * <p>
+     * 소설 행에 배타 잠금이 걸리므로, 같은 소설에 회차가 동시에 추가되어도 커밋 순서대로 서로 다른 번호를 받습니다.
+     * 증가된 값은 같은 트랜잭션에서 {@link #findLastChapterNumber(Long)}로 읽습니다.
+     *
+     * @param novelId 회차 번호를 발급할 소설 ID
+     * @return 갱신된 행 수 (소설이 존재하면 1)
+     */
+    @Modifying
+    @Query(value = "UPDATE novels SET last_chapter_number = last_chapter_number + 1 WHERE novel_id = :novelId", nativeQuery = true)
+    int incrementLastChapterNumber(@Param("novelId") Long novelId);
+
+    // 마지막으로 발급한 회차 번호를 DB에서 직접 조회 (영속성 컨텍스트의 엔티티 값은 갱신되지 않으므로 스칼라로 조회)
+    @Query("select n.lastChapterNumber from Novels n where n.novelId = :novelId")
+    Optional<Integer> findLastChapterNumber(@Param("novelId") Long novelId);
+
+    // last_chapter_number 컬럼 추가 이전의 소설에 실제 마지막 회차 번호를 채움 (DataInitializer에서 시작 시 실행)
+    @Modifying
+    @Query(value = """
+        UPDATE novels n
+          JOIN (SELECT novel_id, MAX(chapter_number) AS max_number FROM chapters GROUP BY novel_id) c
+            ON c.novel_id = n.novel_id
+           SET n.last_chapter_number = c.max_number
+         WHERE n.last_chapter_number < c.max_number
+        """, nativeQuery = true)
+    int backfillLastChapterNumbers();
+
+    /**
+     * 검색 색인을 처음부터 다시 만들 때, 지정한 ID 다음의 소설 ID를 순서대로 한 묶음씩 조회합니다. (키셋 페이징)
+     *
+     * @param afterNovelId 이전 묶음의 마지막 소설 ID (처음에는 0)
+     * @param pageable     묶음 크기. 정렬은 쿼리가 정하므로 {@code PageRequest.of(0, size)}로 전달합니다.
+     * @return 소설 ID 목록 (오름차순)
+     */
+    @Query("select n.novelId from Novels n where n.novelId > :afterNovelId order by n.novelId")
+    List<Long> findNovelIdsAfter(@Param("afterNovelId") Long afterNovelId, Pageable pageable);
 
+    /**
+     * 여러 소설을 장르와 함께 한 번에 조회합니다. (검색 색인용)
+     * 컬렉션 fetch join에 LIMIT을 걸면 메모리에서 페이징되므로, ID 묶음은 {@link #findNovelIdsAfter}로 먼저 구합니다.
+     *
+     * @param novelIds 조회할 소설 ID 목록
+     * @return 장르가 채워진 소설 목록 (순서 보장 없음)
+     */
+    @EntityGraph(attributePaths = {"novelGenres.genre"})
+    @Query("select distinct n from Novels n where n.novelId in :novelIds")
+    List<Novels> findAllWithGenresByIdIn(@Param("novelIds") Collection<Long> novelIds);
 }
@@ -4,6 +4,9 @@ import com.spring.aidea.vibefiction.entity.Proposals;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -41,4 +44,107 @@ public interface ProposalsRepository extends JpaRepository<Proposals, Long> {
     List<Proposals> findByChapter_ChapterId(Long chapterId);
 
     List<Proposals> findByChapter_ChapterIdAndStatus(Long chapterId, Proposals.Status status);
+
+    // 회차의 모든 제안을 제안자와 함께 조회 (VoteLeaderboard 순위표 재구성용, 제안자 닉네임 N+1 방지)
+    @Query("select p from Proposals p join fetch p.proposer where p.chapter.chapterId = :chapterId")
+    List<Proposals> findWithProposerByChapterId(@Param("chapterId") Long chapterId);
+
+    /**
+     * 제안의 투표 수를 DB에서 원자적으로 1 증가시킵니다.
+     * <p>
+     * 엔티티를 읽어 값을 바꾸고 다시 쓰는 방식(read-modify-write)은 같은 제안에 동시에 투표가 들어오면
+     * 서로의 증가분을 덮어써 투표 수가 유실됩니다. {@code vote_count = vote_count + 1} 형태의 단일 UPDATE는
+     * 행 잠금 안에서 현재 값을 기준으로 계산되므로 동시 요청에서도 유실이 없습니다.
+     * <p>
+     * <b>[주의]</b> 벌크 연산이므로 영속성 컨텍스트에 이미 로드된 {@link Proposals}의 {@code voteCount}는 갱신되지 않습니다.
+     *
+     * @param proposalId 투표 수를 증가시킬 제안 ID
+     * @return 갱신된 행 수 (제안이 존재하면 1)
+     * @author 왕택준
+     * @since 2025.08
+     */
+    @Modifying
+    @Query("update Proposals p set p.voteCount = p.voteCount + 1 where p.proposalId = :proposalId")
+    int incrementVoteCount(@Param("proposalId") Long proposalId);
+
+    /**
+     * 제안의 투표 수를 DB에서 원자적으로 1 감소시킵니다. 투표 수는 0 미만으로 내려가지 않습니다.
+     *
+     * @param proposalId 투표 수를 감소시킬 제안 ID
+     * @return 갱신된 행 수 (이미 0이었다면 0)
+     * @see #incrementVoteCount(Long)
+     */
+    @Modifying
+    @Query("update Proposals p set p.voteCount = p.voteCount - 1 where p.proposalId = :proposalId and p.voteCount > 0")
+    int decrementVoteCount(@Param("proposalId") Long proposalId);
+
+    /**
+     * 투표 진행 중(VOTING)인 제안의 {@code vote_count}를 실제 {@code votes} 행 수로 다시 맞춥니다.
+     * <p>
+     * {@code votes} 테이블이 투표의 원본(source of truth)이고 {@code vote_count}는 조회용 비정규화 값입니다.
+     * 장애나 수동 데이터 수정 등으로 둘이 어긋난 경우에만 갱신하므로, 정상 상태에서는 변경되는 행이 없습니다.
+     *
+     * @return 보정된 제안 수
+     */
+    /**
+     * {@link #reconcileVotingVoteCounts()}가 보정할 제안이 속한 회차 ID를 조회합니다.
+     * 보정 후 해당 회차의 메모리 순위표를 다시 만들기 위해 사용합니다.
+     *
+     * @return 투표 수가 투표 기록과 다른 투표 진행 중 제안의 회차 ID 목록
+     */
+    @Query(value = """
+        SELECT DISTINCT p.chapter_id
+          FROM proposals p
+         WHERE p.status = 'VOTING'
+           AND p.vote_count <> (SELECT COUNT(*) FROM votes v WHERE v.proposal_id = p.proposal_id)
+        """, nativeQuery = true)
+    List<Long> findChapterIdsWithDriftedVoteCounts();
+
+    @Modifying
+    @Query(value = """
+        UPDATE proposals p
+           SET p.vote_count = (SELECT COUNT(*) FROM votes v WHERE v.proposal_id = p.proposal_id)
+         WHERE p.status = 'VOTING'
+           AND p.vote_count <> (SELECT COUNT(*) FROM votes v WHERE v.proposal_id = p.proposal_id)
+        """, nativeQuery = true)
+    int reconcileVotingVoteCounts();
+
+    /**
+     * 투표 마감 시간이 지났는데 아직 투표 중(VOTING)인 제안이 있는 소설 ID를, 가장 오래 밀린 순서로 조회합니다.
+     * <p>
+     * 투표는 소설의 마지막 회차에서만 진행되므로 마지막 회차의 제안만 대상으로 합니다.
+     * ({@code VoteServiceMj.finalizeVoting}도 마지막 회차를 기준으로 마감합니다.)
+     *
+     * @param now      기준 시각
+     * @param pageable 조회할 최대 소설 수 (배치 크기)
+     * @return 마감 처리가 필요한 소설 ID 목록
+     */
+    @Query("""
+        select c.novel.novelId
+          from Proposals p
+          join p.chapter c
+         where p.status = com.spring.aidea.vibefiction.entity.Proposals.Status.VOTING
+           and p.voteDeadline < :now
+           and c.chapterNumber = (select max(c2.chapterNumber) from Chapters c2 where c2.novel = c.novel)
+         group by c.novel.novelId
+         order by min(p.voteDeadline) asc
+        """)
+    List<Long> findNovelIdsWithExpiredVoting(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 마감 처리되지 않은 투표 중 가장 오래된 마감 시간을 조회합니다. 자동 마감 지연(lag) 지표에 사용됩니다.
+     *
+     * @param now 기준 시각
+     * @return 가장 오래된 미처리 마감 시간. 밀린 투표가 없으면 {@code null}
+     * @see #findNovelIdsWithExpiredVoting(LocalDateTime, Pageable)
+     */
+    @Query("""
+        select min(p.voteDeadline)
+          from Proposals p
+          join p.chapter c
+         where p.status = com.spring.aidea.vibefiction.entity.Proposals.Status.VOTING
+           and p.voteDeadline < :now
+           and c.chapterNumber = (select max(c2.chapterNumber) from Chapters c2 where c2.novel = c.novel)
+        """)
+    LocalDateTime findOldestExpiredVotingDeadline(@Param("now") LocalDateTime now);
 }
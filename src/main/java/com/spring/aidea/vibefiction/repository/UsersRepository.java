@@ -1,8 +1,14 @@
 package com.spring.aidea.vibefiction.repository;
 
 import com.spring.aidea.vibefiction.entity.Users;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 // JpaRepository<엔티티 클래스, 엔티티 ID 타입>을 상속받아 Repository를 정의
@@ -28,5 +34,47 @@ public interface UsersRepository extends JpaRepository<Users, Long> {
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
 
+    /**
+     * 비밀번호 해시를 새 값으로 바꿉니다. 저장된 해시가 {@code oldPassword}와 같을 때만 바꾸므로,
+     * 그 사이 사용자가 비밀번호를 변경했다면 덮어쓰지 않습니다. (로그인 시 해시 비용 상향용)
+     *
+     * @return 갱신된 행 수 (0 또는 1)
+     */
+    @Transactional
+    @Modifying
+    @Query("update Users u set u.password = :newPassword where u.userId = :userId and u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    /**
+     * 프로필 이미지 URL만 바꿉니다. 이미지 변환이 끝난 뒤 별도 스레드에서 호출합니다.
+     *
+     * @return 갱신된 행 수 (0 또는 1)
+     */
+    @Transactional
+    @Modifying
+    @Query("update Users u set u.profileImageUrl = :profileImageUrl where u.userId = :userId")
+    int updateProfileImageUrl(@Param("userId") Long userId, @Param("profileImageUrl") String profileImageUrl);
+
+    /**
+     * 회원가입 사용 가능 여부 필터를 만들 때, 지정한 ID 다음의 회원 식별 값을 한 묶음씩 조회합니다. (키셋 페이징)
+     *
+     * @param userId   이전 묶음의 마지막 회원 ID (처음에는 0)
+     * @param pageable 묶음 크기. {@code PageRequest.of(0, size)}로 전달합니다.
+     * @return 회원 ID 오름차순의 식별 값 목록
+     */
+    List<Identifiers> findByUserIdGreaterThanOrderByUserIdAsc(Long userId, Pageable pageable);
+
+    /**
+     * 중복 검사 대상 컬럼만 읽는 프로젝션입니다.
+     */
+    interface Identifiers {
+        Long getUserId();
+        String getLoginId();
+        String getEmail();
+        String getNickname();
+    }
+
 
 }
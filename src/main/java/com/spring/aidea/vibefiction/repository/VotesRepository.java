@@ -4,17 +4,53 @@ package com.spring.aidea.vibefiction.repository;
 import com.spring.aidea.vibefiction.entity.Proposals;
 import com.spring.aidea.vibefiction.entity.Users;
 import com.spring.aidea.vibefiction.entity.Votes;
+import com.spring.aidea.vibefiction.repository.custom.VotesRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface VotesRepository extends JpaRepository<Votes, Long> {
+public interface VotesRepository extends JpaRepository<Votes, Long>, VotesRepositoryCustom {
     boolean existsByUserAndProposal(Users user, Proposals proposal);
 
 
     boolean existsByUser_UserIdAndProposal_Chapter_ChapterId(Long userId, Long chapterId);
 
     Optional<Votes> findByUserAndProposal(Users user, Proposals proposal);
+
+    // 투표 취소용: 사용자/제안 엔티티를 따로 조회하지 않고 투표 기록만 한 번에 조회
+    Optional<Votes> findByUser_LoginIdAndProposal_ProposalId(String loginId, Long proposalId);
+
+    // 투표 기록(원본) 기준의 제안별 득표 수. 비정규화된 Proposals.voteCount 검증에 사용
+    long countByProposal_ProposalId(Long proposalId);
+
+    // chapter_id가 비어 있는(컬럼 추가 이전의) 투표 행이 남아 있는지 확인 (DataInitializer의 보정 작업 실행 여부 판단)
+    boolean existsByChapterIsNull();
+
+    // 회차당 1표 규칙이 DB로 보장되기 전에 쌓인 중복 투표 정리: 같은 사용자가 같은 회차에 남긴 투표 중 가장 먼저 한 투표만 남김
+    // (backfillChapterIds가 UK_Votes_User_Chapter를 위반하지 않도록 그 전에 실행)
+    @Modifying
+    @Query(value = """
+        DELETE v
+          FROM votes v
+          JOIN proposals p ON p.proposal_id = v.proposal_id
+          JOIN votes earlier ON earlier.user_id = v.user_id
+          JOIN proposals ep ON ep.proposal_id = earlier.proposal_id AND ep.chapter_id = p.chapter_id
+         WHERE earlier.voted_at < v.voted_at
+            OR (earlier.voted_at = v.voted_at AND earlier.vote_id < v.vote_id)
+        """, nativeQuery = true)
+    int deleteDuplicateChapterVotes();
+
+    // chapter_id 컬럼 추가 이전에 저장된 투표 행의 회차를 제안 기준으로 채움 (DataInitializer에서 시작 시 실행)
+    @Modifying
+    @Query(value = """
+        UPDATE votes v
+          JOIN proposals p ON p.proposal_id = v.proposal_id
+           SET v.chapter_id = p.chapter_id
+         WHERE v.chapter_id IS NULL
+        """, nativeQuery = true)
+    int backfillChapterIds();
 }
@@ -1,12 +1,24 @@
 package com.spring.aidea.vibefiction.repository.custom;
 
+import com.spring.aidea.vibefiction.dto.response.chapter.ChapterContentResponseSH;
 import com.spring.aidea.vibefiction.dto.response.chapter.ChapterResponseSH;
+import com.spring.aidea.vibefiction.dto.response.chapter.ChapterTocResponseSH;
 import com.spring.aidea.vibefiction.entity.Chapters;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ChaptersRepositoryCustom {
 
     List<ChapterResponseSH> findAllChaptersAndAuthorNameByNovelId(Long novelId);
 
+    // 목차 조회 (본문 제외, 회차 번호순)
+    List<ChapterTocResponseSH> findChapterTocByNovelId(Long novelId);
+
+    // 회차 메타데이터 단건 조회 (본문 제외) - ETag 계산용
+    Optional<ChapterTocResponseSH> findChapterMetaById(Long chapterId);
+
+    // 회차 본문 단건 조회
+    Optional<ChapterContentResponseSH> findChapterContentById(Long chapterId);
+
 }
@@ -1,15 +1,19 @@
 package com.spring.aidea.vibefiction.repository.custom;
 
+import com.spring.aidea.vibefiction.dto.response.novel.NovelsResponseDtoSH;
 import com.spring.aidea.vibefiction.entity.Novels;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NovelsRepositoryCustom {
 
 
-    // 소설 전체조회 (페이징 처리)
-    List<Novels> findAllNovelsPage(Pageable pageable);
+    // 소설 전체조회 (커서 기반 페이징 처리) - 커서가 null이면 첫 페이지
+    List<NovelsResponseDtoSH> findNovelsFeed(LocalDateTime cursorCreatedAt, Long cursorNovelId, int limit);
+    // 소설 카드 조회 (페이징 처리) - DTO Projection + 장르 일괄 조회로 쿼리 2번에 처리
+    List<NovelsResponseDtoSH> findNovelCardsPage(Pageable pageable);
     // 작가 닉네임으로 소설 조회
     List<Novels> findNovelsByAuthorId(Long authorId);
 
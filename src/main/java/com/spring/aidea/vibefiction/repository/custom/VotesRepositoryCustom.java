@@ -0,0 +1,18 @@
+package com.spring.aidea.vibefiction.repository.custom;
+
+import com.spring.aidea.vibefiction.dto.response.vote.VoteContextMj;
+
+import java.util.Optional;
+
+/**
+ * {@link com.spring.aidea.vibefiction.repository.VotesRepository}의 QueryDSL 조회 메서드입니다.
+ *
+ * @author 송민재
+ * @since 2025.08
+ */
+public interface VotesRepositoryCustom {
+
+    // 투표 검증에 필요한 사용자/제안/회차/기존 투표 정보를 한 번에 조회 (사용자나 제안이 없으면 empty)
+    Optional<VoteContextMj> findVoteContext(Long proposalId, String loginId);
+
+}
@@ -2,8 +2,12 @@ package com.spring.aidea.vibefiction.repository.impl;
 
 import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.spring.aidea.vibefiction.dto.response.chapter.ChapterContentResponseSH;
 import com.spring.aidea.vibefiction.dto.response.chapter.ChapterResponseSH;
+import com.spring.aidea.vibefiction.dto.response.chapter.ChapterTocResponseSH;
+import com.spring.aidea.vibefiction.dto.response.chapter.QChapterContentResponseSH;
 import com.spring.aidea.vibefiction.dto.response.chapter.QChapterResponseSH;
+import com.spring.aidea.vibefiction.dto.response.chapter.QChapterTocResponseSH;
 import com.spring.aidea.vibefiction.entity.Chapters;
 import com.spring.aidea.vibefiction.entity.QChapters;
 import com.spring.aidea.vibefiction.entity.QUsers;
@@ -12,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
@@ -42,4 +47,67 @@ public class ChaptersRepositoryImpl implements ChaptersRepositoryCustom {
             .fetch();
 
     }
+
+    @Override
+    public List<ChapterTocResponseSH> findChapterTocByNovelId(Long novelId) {
+
+        QChapters chapters = QChapters.chapters;
+        QUsers users = QUsers.users;
+
+        // 목차에는 본문(content, MEDIUMTEXT)이 필요 없으므로 메타데이터 컬럼만 조회
+        return queryFactory
+            .select(tocProjection(chapters, users))
+            .from(chapters)
+            .leftJoin(chapters.author, users)
+            .where(chapters.novel.novelId.eq(novelId))
+            .orderBy(chapters.chapterNumber.asc())
+            .fetch();
+    }
+
+    @Override
+    public Optional<ChapterTocResponseSH> findChapterMetaById(Long chapterId) {
+
+        QChapters chapters = QChapters.chapters;
+        QUsers users = QUsers.users;
+
+        return Optional.ofNullable(queryFactory
+            .select(tocProjection(chapters, users))
+            .from(chapters)
+            .leftJoin(chapters.author, users)
+            .where(chapters.chapterId.eq(chapterId))
+            .fetchOne());
+    }
+
+    @Override
+    public Optional<ChapterContentResponseSH> findChapterContentById(Long chapterId) {
+
+        QChapters chapters = QChapters.chapters;
+        QUsers users = QUsers.users;
+
+        return Optional.ofNullable(queryFactory
+            .select(new QChapterContentResponseSH(
+                chapters.chapterId,
+                chapters.novel.novelId,
+                chapters.chapterNumber,
+                chapters.title,
+                chapters.content,
+                users.nickname // 작성자 닉네임
+            ))
+            .from(chapters)
+            .leftJoin(chapters.author, users)
+            .where(chapters.chapterId.eq(chapterId))
+            .fetchOne());
+    }
+
+    private QChapterTocResponseSH tocProjection(QChapters chapters, QUsers users) {
+        return new QChapterTocResponseSH(
+            chapters.chapterId,
+            chapters.novel.novelId,
+            chapters.chapterNumber,
+            chapters.title,
+            users.nickname, // 작성자 닉네임
+            chapters.status,
+            chapters.createdAt
+        );
+    }
 }
@@ -1,14 +1,26 @@
 package com.spring.aidea.vibefiction.repository.impl;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.spring.aidea.vibefiction.dto.response.novel.NovelsResponseDtoSH;
+import com.spring.aidea.vibefiction.dto.response.novel.QNovelsResponseDtoSH;
 import com.spring.aidea.vibefiction.entity.Novels;
+import com.spring.aidea.vibefiction.entity.QGenres;
+import com.spring.aidea.vibefiction.entity.QNovelGenres;
 import com.spring.aidea.vibefiction.entity.QNovels;
+import com.spring.aidea.vibefiction.entity.QUsers;
 import com.spring.aidea.vibefiction.repository.custom.NovelsRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -16,16 +28,53 @@ public class NovelsRepositoryImpl implements NovelsRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
 
+    /**
+     * 메인 페이지 소설 카드 목록을 최신순으로 조회합니다. (OFFSET 페이징)
+     * <p>
+     * 엔티티를 조회한 뒤 DTO로 변환하면 카드마다 작가와 장르를 지연 로딩하여 N+1 쿼리가 발생하므로,
+     * 소설+작가는 DTO Projection 한 번, 장르는 IN 절 한 번으로 조회합니다. (총 2번)
+     */
     @Override
-    public List<Novels> findAllNovelsPage(Pageable pageable) {
+    public List<NovelsResponseDtoSH> findNovelCardsPage(Pageable pageable) {
         QNovels novels = QNovels.novels;
 
-        return queryFactory
-            .selectFrom(novels) // QNovels에서 모든 컬럼을 조회
+        List<NovelsResponseDtoSH> cards = selectNovelCards()
             .orderBy(novels.createdAt.desc()) // 최신순으로 정렬
             .offset(pageable.getOffset()) // 페이지 시작 위치 (0부터 시작)
             .limit(pageable.getPageSize()) // 페이지 당 항목 수 (8개)
             .fetch(); // 쿼리 실행 및 결과 반환
+
+        fillGenres(cards);
+        return cards;
+    }
+
+    /**
+     * 커서(마지막으로 받은 소설의 createdAt, novelId) 다음 소설들을 최신순으로 조회합니다.
+     * <p>
+     * OFFSET은 앞의 행을 모두 읽고 버리므로 뒤 페이지로 갈수록 느려지지만, 이 쿼리는
+     * {@code (created_at, novel_id)} 복합 인덱스에서 커서 위치부터 바로 읽기 시작하므로
+     * 몇 번째 페이지든 페이지 크기만큼만 읽습니다.
+     * createdAt이 같은 소설이 여러 개일 수 있으므로 novelId를 두 번째 정렬 기준으로 사용합니다.
+     */
+    @Override
+    public List<NovelsResponseDtoSH> findNovelsFeed(LocalDateTime cursorCreatedAt, Long cursorNovelId, int limit) {
+        QNovels novels = QNovels.novels;
+
+        BooleanExpression afterCursor = null;
+        if (cursorCreatedAt != null && cursorNovelId != null) {
+            // (createdAt, novelId) < (cursorCreatedAt, cursorNovelId)
+            afterCursor = novels.createdAt.lt(cursorCreatedAt)
+                .or(novels.createdAt.eq(cursorCreatedAt).and(novels.novelId.lt(cursorNovelId)));
+        }
+
+        List<NovelsResponseDtoSH> cards = selectNovelCards()
+            .where(afterCursor) // null이면 조건 없이 첫 페이지
+            .orderBy(novels.createdAt.desc(), novels.novelId.desc())
+            .limit(limit)
+            .fetch();
+
+        fillGenres(cards);
+        return cards;
     }
 
     @Override
@@ -37,5 +86,55 @@ public class NovelsRepositoryImpl implements NovelsRepositoryCustom {
             .fetch();
     }
 
+    /**
+     * 소설 카드에 필요한 소설/작가 컬럼만 골라 DTO로 바로 조회하는 기본 쿼리입니다.
+     */
+    private JPAQuery<NovelsResponseDtoSH> selectNovelCards() {
+        QNovels novels = QNovels.novels;
+        QUsers users = QUsers.users;
+
+        return queryFactory
+            .select(new QNovelsResponseDtoSH( // DTO의 생성자를 직접 호출하여 Projection
+                novels.novelId,
+                novels.title,
+                users.userId,
+                users.nickname, // 작가 닉네임
+                novels.coverImageUrl,
+                novels.synopsis,
+                novels.status,
+                novels.viewCount,
+                novels.lastUpdatedAt,
+                novels.createdAt
+            ))
+            .from(novels)
+            .join(novels.author, users);
+    }
+
+    /**
+     * 조회된 소설 카드들의 장르를 한 번의 IN 쿼리로 조회하여 채웁니다.
+     */
+    private void fillGenres(List<NovelsResponseDtoSH> cards) {
+        if (cards.isEmpty()) {
+            return;
+        }
+        QNovelGenres novelGenres = QNovelGenres.novelGenres;
+        QGenres genres = QGenres.genres;
 
+        Map<Long, NovelsResponseDtoSH> cardById = cards.stream()
+            .collect(Collectors.toMap(NovelsResponseDtoSH::getNovelId, Function.identity()));
+
+        List<Tuple> rows = queryFactory
+            .select(novelGenres.novel.novelId, genres.name)
+            .from(novelGenres)
+            .join(novelGenres.genre, genres)
+            .where(novelGenres.novel.novelId.in(cardById.keySet()))
+            .orderBy(genres.genreId.asc())
+            .fetch();
+
+        for (Tuple row : rows) {
+            cardById.get(row.get(novelGenres.novel.novelId))
+                .getGenres()
+                .add(row.get(genres.name).getDescription()); // 한글 설명
+        }
+    }
 }
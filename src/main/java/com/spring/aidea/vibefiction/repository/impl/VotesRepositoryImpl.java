@@ -0,0 +1,60 @@
+package com.spring.aidea.vibefiction.repository.impl;
+
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.spring.aidea.vibefiction.dto.response.vote.QVoteContextMj;
+import com.spring.aidea.vibefiction.dto.response.vote.VoteContextMj;
+import com.spring.aidea.vibefiction.entity.QChapters;
+import com.spring.aidea.vibefiction.entity.QProposals;
+import com.spring.aidea.vibefiction.entity.QUsers;
+import com.spring.aidea.vibefiction.entity.QVotes;
+import com.spring.aidea.vibefiction.repository.custom.VotesRepositoryCustom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * {@link VotesRepositoryCustom}의 QueryDSL 구현체입니다.
+ *
+ * @author 송민재
+ * @since 2025.08
+ */
+@Repository
+@RequiredArgsConstructor
+public class VotesRepositoryImpl implements VotesRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Optional<VoteContextMj> findVoteContext(Long proposalId, String loginId) {
+
+        QProposals proposals = QProposals.proposals;
+        QChapters chapters = QChapters.chapters;
+        QUsers users = QUsers.users;
+        QVotes votes = QVotes.votes;
+
+        // 사용자(login_id)와 제안(PK)은 각각 최대 1건이므로 세타 조인 결과도 최대 1행
+        // 기존 투표는 (user_id, chapter_id) 유니크 제약으로 회차당 최대 1건이므로 스칼라 서브쿼리로 가져옴
+        VoteContextMj context = queryFactory
+            .select(new QVoteContextMj(
+                users.userId,
+                proposals.proposalId,
+                chapters.chapterId,
+                chapters.createdAt,
+                proposals.proposer.userId,
+                JPAExpressions
+                    .select(votes.proposal.proposalId)
+                    .from(votes)
+                    .where(votes.user.userId.eq(users.userId),
+                        votes.chapter.chapterId.eq(chapters.chapterId))
+            ))
+            .from(proposals, users)
+            .join(proposals.chapter, chapters)
+            .where(proposals.proposalId.eq(proposalId),
+                users.loginId.eq(loginId))
+            .fetchOne();
+
+        return Optional.ofNullable(context);
+    }
+}
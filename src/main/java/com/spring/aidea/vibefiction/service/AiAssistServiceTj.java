@@ -10,16 +10,15 @@ import com.spring.aidea.vibefiction.dto.response.aiInteractionLog.AiRecommendNov
 import com.spring.aidea.vibefiction.entity.AiInteractionLogs;
 import com.spring.aidea.vibefiction.entity.Chapters;
 import com.spring.aidea.vibefiction.entity.Genres;
-import com.spring.aidea.vibefiction.entity.Users;
-import com.spring.aidea.vibefiction.repository.AiInteractionLogsRepository;
 import com.spring.aidea.vibefiction.repository.ChaptersRepository;
 import com.spring.aidea.vibefiction.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import java.util.Arrays;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -39,82 +38,263 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AiAssistServiceTj {
 
+    /**
+     * 소설 추천 프롬프트 템플릿의 버전입니다. 추천 응답 캐시 키에 포함됩니다.
+     * <b>[주의]</b> 추천 프롬프트 내용을 수정하면 반드시 이 값을 올려, 이전 템플릿의 캐시된 응답이 재사용되지 않도록 해야 합니다.
+     */
+    private static final String RECOMMEND_PROMPT_VERSION = "recommend-v1";
+
+    /**
+     * 새 소설 추천 프롬프트 템플릿입니다. 인자는 장르, 시놉시스 순서입니다.
+     * [리팩토링] AI가 JSON 형식 오류를 자주 반환하는 문제를 해결하기 위해, 텍스트와 구분자를 사용하도록 프롬프트 변경
+     */
+    private static final String RECOMMEND_PROMPT_TEMPLATE = """
+        ## ROLE & GOAL
+        당신은 Vibe Fiction 플랫폼을 위한 창의적인 웹소설 작가 AI입니다. 당신의 목표는 사용자가 제공한 최소한의 정보(장르, 시놉시스)를 바탕으로, 즉시 독자들의 시선을 사로잡을 수 있는 매력적인 소설의 시작을 제안하는 것입니다.
+
+        ## INSTRUCTIONS
+        1.  **Analyze Input**: 주어진 '장르'와 '시놉시스'를 분석하여 핵심 키워드와 분위기를 파악하세요.
+        2.  **Generate Creatively**: 분석한 내용을 바탕으로 소설 제목, 1화 제목, 1화 내용을 생성하세요.
+        3.  **Leave Open-ended**: 릴레이 소설의 '첫 화'이므로, 다음 작가가 이야기를 이어갈 수 있도록 열린 결말로 마무리하세요.
+        4.  **Adhere to Constraints**: 생성하는 모든 텍스트는 아래의 '길이 제한' 규칙을 반드시 준수해야 합니다.
+        5.  **Format Output**: **매우 중요합니다.** 아래 설명된 텍스트 형식과 구분자를 반드시 지켜서 답변해야 합니다. JSON 형식을 사용하지 마세요.
+
+        ## INPUT DATA
+        -   **장르**: "%s"
+        -   **시놉시스**: "%s"
+
+        ## CONSTRAINTS (길이 제한)
+        -   **novelTitle**: 최대 50자
+        -   **firstChapterTitle**: 최대 60자
+        -   **firstChapterContent**: 최소 200자, 최대 5000자
+
+        ## OUTPUT FORMAT (TEXT ONLY, USE SEPARATOR)
+        -   첫 번째 줄: 생성된 소설 제목
+        -   두 번째 줄: --- (하이픈 3개 구분자)
+        -   세 번째 줄: 생성된 1화 제목
+        -   네 번째 줄: --- (하이픈 3개 구분자)
+        -   다섯 번째 줄부터: 생성된 1화 내용
+
+        ## 예시:
+        악녀는 조용히 살고 싶을 뿐
+        ---
+        제1화: 내가 왜 여기에?
+        ---
+        차가운 대리석 바닥의 감촉에 정신이 들었다...
+        """;
+
+    /**
+     * 이어쓰기 프롬프트 템플릿입니다. 인자는 소설 제목, 장르, 시놉시스, 스토리 컨텍스트, 사용자 요구사항 순서입니다.
+     */
+    private static final String CONTINUE_PROMPT_TEMPLATE = """
+        ## ROLE & GOAL
+        당신은 Vibe Fiction 플랫폼을 위한 전문 웹소설 AI 어시스턴트입니다. 당신의 임무는 주어진 소설의 전체 맥락과 사용자의 새로운 요구사항을 깊이 이해하여, 다음 회차의 초안을 일관성 있고 창의적으로 작성하는 것입니다.
+
+        ## INSTRUCTIONS
+        1.  **Strictly Continue the Story**: **가장 중요한 규칙입니다.** '이전 회차 내용'의 마지막 문장에서 이야기가 바로 이어지도록 다음 내용을 작성해야 합니다.
+        2.  **Maintain All Details**: 등장인물의 이름, 능력 등 '이전 회차 내용'에 언급된 모든 세부 설정을 변경하거나 무시해서는 안 됩니다.
+        3.  **Incorporate User Request**: '사용자의 추가 요구사항'을 기존 설정과 충돌하지 않는 선에서 다음 이야기의 핵심 사건으로 자연스럽게 녹여내세요.
+        4.  **Leave Open-ended**: 이 이야기는 계속 이어져야 하므로, 반드시 열린 결말(Open-ended)로 마무리해야 합니다.
+        5.  **Adhere to Constraints**: 생성하는 모든 텍스트는 아래의 '길이 제한' 규칙을 반드시 준수해야 합니다.
+        6.  **Format Output**: **매우 중요합니다.** 아래 설명된 텍스트 형식과 구분자를 반드시 지켜서 답변해야 합니다. JSON 형식을 사용하지 마세요.
+
+        ## CONTEXT
+        ### 소설 기본 정보:
+        -   제목: "%s", 장르: [%s], 시놉시스: "%s"
+        ### 이전 회차 내용 (오래된 회차는 요약, 최근 회차는 원문):
+        %s
+
+        ## USER REQUEST
+        -   다음 이야기 요구사항: "%s"
+
+        ## CONSTRAINTS (길이 제한)
+        -   suggestedTitle: 최대 60자
+        -   suggestedContent: 최대 5000자
+
+        ## OUTPUT FORMAT (TEXT ONLY, USE SEPARATOR)
+        -   첫 줄: 생성된 다음 회차의 제목
+        -   두 번째 줄: --- (하이픈 3개 구분자)
+        -   세 번째 줄부터: 생성된 다음 회차의 내용
+        """;
+
     /** 실제 AI API 호출을 담당하는 서비스 인터페이스입니다. DI(의존성 주입)를 통해 실제 구현체(GeminiApiServiceImpl)가 주입됩니다. */
     private final GeminiApiService geminiApiService;
-    /** 사용자와 AI의 모든 상호작용을 데이터베이스에 기록하여, 사용량 분석이나 문제 추적에 활용하기 위한 저장소입니다. */
-    private final AiInteractionLogsRepository aiInteractionLogsRepository;
-    /** AI 이어쓰기 시, 이전 회차 내용을 조회하기 위해 사용되는 저장소입니다. */
+    /** 사용자와 AI의 모든 상호작용을 응답 경로 밖에서 데이터베이스에 기록하여, 사용량 분석이나 문제 추적에 활용하기 위한 저장소입니다. */
+    private final AiInteractionLogSink aiInteractionLogSink;
+    /** AI 이어쓰기 시, 기준 회차를 조회하기 위해 사용되는 저장소입니다. */
     private final ChaptersRepository chaptersRepository;
+    /** AI 이어쓰기 시, 미리 계산된 스토리 컨텍스트(누적 요약 + 최근 회차 원문)를 조회하기 위해 사용되는 서비스입니다. */
+    private final StoryContextServiceTj storyContextServiceTj;
     /** 요청의 주체인 사용자를 식별하고 AI 로그에 기록하기 위해 사용되는 저장소입니다. */
     private final UsersRepository usersRepository;
+    /** 같은 입력으로 반복되는 소설 추천 요청의 AI 응답을 재사용하기 위한 캐시입니다. */
+    private final AiRecommendCache aiRecommendCache;
+    /** AI 호출 전 엔티티 조회만 짧은 트랜잭션으로 묶기 위해 사용합니다. (AI 호출 동안 DB 커넥션을 잡지 않음) */
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 사용자가 입력한 장르와 시놉시스를 기반으로 AI에게 새로운 소설의 제목과 1화 내용을 추천받습니다.
      * <p>
      * AI의 성능을 극대화하기 위해, 역할, 지시사항, 제약 조건 등을 명시하는
      * 정교한 프롬프트 엔지니어링 기법이 적용되었습니다.
+     * <p>
+     * 같은 장르/시놉시스에 대한 AI 응답은 {@link AiRecommendCache}에 캐시되어, 재요청 시 Gemini를 호출하지 않습니다.
+     * 캐시 적중 시에도 상호작용 로그는 {@code cached = true}로 기록됩니다.
+     * 요청의 {@code regenerate}가 {@code true}이면 캐시를 건너뛰고 새로 생성한 결과로 캐시를 갱신합니다.
      *
      * @param userId AI 추천을 요청한 사용자의 고유 ID.
      * @param req    추천에 필요한 소설 장르(genre)와 시놉시스(synopsis)를 담은 DTO.
      * @return AI가 추천한 제목과 내용을 담은 {@link AiRecommendNovelResponseTj}.
      * @throws RuntimeException AI 서비스 호출 또는 응답 파싱에 실패한 경우.
      */
-    @Transactional
     public AiRecommendNovelResponseTj recommendForNewNovel(Long userId, AiRecommendNovelRequestTj req) {
-        Users user = usersRepository.findById(userId)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + userId));
-
-        // [리팩토링] AI가 JSON 형식 오류를 자주 반환하는 문제를 해결하기 위해, 텍스트와 구분자를 사용하도록 프롬프트 변경
-        String prompt = String.format(
-            """
-            ## ROLE & GOAL
-            당신은 Vibe Fiction 플랫폼을 위한 창의적인 웹소설 작가 AI입니다. 당신의 목표는 사용자가 제공한 최소한의 정보(장르, 시놉시스)를 바탕으로, 즉시 독자들의 시선을 사로잡을 수 있는 매력적인 소설의 시작을 제안하는 것입니다.
-
-            ## INSTRUCTIONS
-            1.  **Analyze Input**: 주어진 '장르'와 '시놉시스'를 분석하여 핵심 키워드와 분위기를 파악하세요.
-            2.  **Generate Creatively**: 분석한 내용을 바탕으로 소설 제목, 1화 제목, 1화 내용을 생성하세요.
-            3.  **Leave Open-ended**: 릴레이 소설의 '첫 화'이므로, 다음 작가가 이야기를 이어갈 수 있도록 열린 결말로 마무리하세요.
-            4.  **Adhere to Constraints**: 생성하는 모든 텍스트는 아래의 '길이 제한' 규칙을 반드시 준수해야 합니다.
-            5.  **Format Output**: **매우 중요합니다.** 아래 설명된 텍스트 형식과 구분자를 반드시 지켜서 답변해야 합니다. JSON 형식을 사용하지 마세요.
-
-            ## INPUT DATA
-            -   **장르**: "%s"
-            -   **시놉시스**: "%s"
-
-            ## CONSTRAINTS (길이 제한)
-            -   **novelTitle**: 최대 50자
-            -   **firstChapterTitle**: 최대 60자
-            -   **firstChapterContent**: 최소 200자, 최대 5000자
-
-            ## OUTPUT FORMAT (TEXT ONLY, USE SEPARATOR)
-            -   첫 번째 줄: 생성된 소설 제목
-            -   두 번째 줄: --- (하이픈 3개 구분자)
-            -   세 번째 줄: 생성된 1화 제목
-            -   네 번째 줄: --- (하이픈 3개 구분자)
-            -   다섯 번째 줄부터: 생성된 1화 내용
-
-            ## 예시:
-            악녀는 조용히 살고 싶을 뿐
-            ---
-            제1화: 내가 왜 여기에?
-            ---
-            차가운 대리석 바닥의 감촉에 정신이 들었다...
-            """,
-            req.getGenre(), req.getSynopsis()
+        // AI 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 사용자 존재 여부만 확인
+        if (!usersRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + userId);
+        }
+
+        AiPrompt prompt = AiPrompt.of(RECOMMEND_PROMPT_TEMPLATE, AiPrompt.NO_CONTEXT, req.getGenre(), req.getSynopsis());
+
+        String cacheKey = aiRecommendCache.keyOf(RECOMMEND_PROMPT_VERSION, req.getGenre(), req.getSynopsis());
+        String aiResultText = req.isRegenerate() ? null : aiRecommendCache.get(cacheKey);
+        boolean cached = aiResultText != null;
+
+        if (cached) {
+            log.info("캐시된 소설 추천 결과를 사용합니다. (사용자 ID: {})", userId);
+        } else {
+            log.info("Gemini API에 소설 추천을 요청합니다. (사용자 ID: {}, 재생성: {})", userId, req.isRegenerate());
+            aiResultText = geminiApiService.generateContent(prompt.render());
+            // 형식이 깨진 응답을 캐시하면 TTL 동안 같은 요청마다 "추천 실패" 결과가 반복되므로, 세 부분이 모두 있을 때만 캐시
+            if (isCompleteRecommendation(aiResultText)) {
+                aiRecommendCache.put(cacheKey, aiResultText);
+            } else {
+                log.warn("형식이 맞지 않는 소설 추천 응답은 캐시하지 않습니다. (사용자 ID: {})", userId);
+            }
+        }
+
+        Long logId = aiInteractionLogSink.submit(userId, AiInteractionLogs.AiInteractionType.NOVEL_CREATION,
+            prompt, aiResultText, null, cached);
+
+        return toRecommendResponse(logId, aiResultText);
+    }
+
+    /**
+     * 특정 회차에 이어질 다음 회차의 초안을 AI에게 요청하고, 완성된 결과를 한 번에 반환합니다.
+     *
+     * @param userId    AI 이어쓰기를 요청한 사용자의 고유 ID.
+     * @param chapterId 이어쓰기의 기준이 되는 회차의 고유 ID.
+     * @param req       AI에게 전달할 지시문(instruction)을 담은 DTO.
+     * @return AI가 제안한 제목과 내용을 담은 {@link AiContinueResponseTj}.
+     * @throws RuntimeException AI 서비스 호출 또는 응답 파싱에 실패한 경우.
+     */
+    public AiContinueResponseTj continueForChapter(Long userId, Long chapterId, AiContinueRequestTj req) {
+        AiPrompt prompt = prepareContinuePrompt(userId, chapterId, req);
+
+        log.info("Gemini API에 이어쓰기 추천을 요청합니다. (사용자 ID: {}, 챕터 ID: {})", userId, chapterId);
+        String aiResultText = geminiApiService.generateContent(prompt.render());
+
+        Long logId = saveContinueLog(userId, chapterId, prompt, aiResultText);
+        return toContinueResponse(logId, aiResultText);
+    }
+
+    /**
+     * {@link #continueForChapter}의 스트리밍 버전입니다. AI가 생성하는 텍스트를 조각 단위로 즉시 전달합니다.
+     * <p>
+     * 프롬프트 구성과 응답 파싱 규칙은 일반 버전과 완전히 동일하며, 스트림이 모두 끝난 뒤에
+     * 전체 결과를 {@link AiInteractionLogs}에 한 번 기록합니다. 따라서 반환되는 응답의 {@code logId}는
+     * 일반 버전과 마찬가지로 제안 등록 시 그대로 사용할 수 있습니다.
+     *
+     * @param userId        AI 이어쓰기를 요청한 사용자의 고유 ID.
+     * @param chapterId     이어쓰기의 기준이 되는 회차의 고유 ID.
+     * @param req           AI에게 전달할 지시문(instruction)을 담은 DTO.
+     * @param chunkConsumer AI가 새로 생성한 텍스트 조각이 도착할 때마다 호출되는 콜백.
+     * @return 스트림 종료 후 전체 결과를 파싱한 {@link AiContinueResponseTj}.
+     * @throws RuntimeException AI 서비스 호출 또는 응답 파싱에 실패한 경우.
+     */
+    public AiContinueResponseTj continueForChapterStream(Long userId, Long chapterId, AiContinueRequestTj req,
+                                                         Consumer<String> chunkConsumer) {
+        // 스트림은 최대 수 분까지 이어지므로, DB 커넥션은 프롬프트를 만드는 동안에만 잡고 스트리밍은 트랜잭션 밖에서 수행
+        AiPrompt prompt = prepareContinuePrompt(userId, chapterId, req);
+
+        log.info("Gemini 스트리밍 API에 이어쓰기 추천을 요청합니다. (사용자 ID: {}, 챕터 ID: {})", userId, chapterId);
+        String aiResultText = geminiApiService.streamContent(prompt.render(), chunkConsumer);
+
+        Long logId = saveContinueLog(userId, chapterId, prompt, aiResultText);
+        return toContinueResponse(logId, aiResultText);
+    }
+
+    /**
+     * 사용자와 기준 회차를 확인하고 이어쓰기 프롬프트를 만듭니다.
+     * <p>
+     * 회차의 소설/장르와 스토리 컨텍스트를 읽는 동안에만 짧은 트랜잭션을 사용합니다.
+     * (컨텍스트가 없는 오래된 소설은 이때 컨텍스트를 만들어 저장하므로 읽기 전용이 아닙니다.)
+     * 반환된 프롬프트는 문자열만 담고 있어 트랜잭션이 끝난 뒤에도 안전하게 사용할 수 있습니다.
+     */
+    private AiPrompt prepareContinuePrompt(Long userId, Long chapterId, AiContinueRequestTj req) {
+        return transactionTemplate.execute(status -> {
+            if (!usersRepository.existsById(userId)) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + userId);
+            }
+            Chapters baseChapter = chaptersRepository.findById(chapterId)
+                .orElseThrow(() -> new IllegalArgumentException("기반 회차를 찾을 수 없습니다. ID: " + chapterId));
+            return buildContinuePrompt(baseChapter, req);
+        });
+    }
+
+    /**
+     * 이어쓰기 요청에 사용할 프롬프트를 구성합니다.
+     *
+     * @param baseChapter 이어쓰기의 기준이 되는 회차.
+     * @param req         사용자의 지시문을 담은 DTO.
+     * @return 템플릿과 인자로 나뉜 프롬프트. {@link AiPrompt#render()}로 AI에게 전달할 문자열을 만듭니다.
+     */
+    private AiPrompt buildContinuePrompt(Chapters baseChapter, AiContinueRequestTj req) {
+        String storyContext = storyContextServiceTj.getStoryContext(baseChapter);
+
+        // 스토리 컨텍스트(4번째 인자)는 같은 회차를 기준으로 한 요청끼리 공유되므로 로그에 한 번만 저장됨
+        return AiPrompt.of(CONTINUE_PROMPT_TEMPLATE, 3,
+            baseChapter.getNovel().getTitle(),
+            baseChapter.getNovel().getNovelGenres().stream().map(ng -> ng.getGenre().getName().getDescription()).collect(Collectors.joining(", ")),
+            baseChapter.getNovel().getSynopsis(),
+            storyContext,
+            req.getInstruction()
         );
+    }
 
-        log.info("Gemini API에 소설 추천을 요청합니다. (사용자 ID: {})", userId);
-        String aiResultText = geminiApiService.generateContent(prompt);
+    /**
+     * 이어쓰기 요청과 그 결과를 {@link AiInteractionLogs}로 기록합니다.
+     * 기록은 {@link AiInteractionLogSink}가 응답 경로 밖에서 배치로 수행합니다.
+     *
+     * @return 이 상호작용에 할당된 로그 ID.
+     */
+    private Long saveContinueLog(Long userId, Long chapterId, AiPrompt prompt, String aiResultText) {
+        return aiInteractionLogSink.submit(userId, AiInteractionLogs.AiInteractionType.PROPOSAL_GENERATION,
+            prompt, aiResultText, chapterId, false);
+    }
 
-        AiInteractionLogs logEntity = AiInteractionLogs.builder()
-            .user(user)
-            .type(AiInteractionLogs.AiInteractionType.NOVEL_CREATION)
-            .prompt(prompt)
-            .result(aiResultText)
-            .build();
-        aiInteractionLogsRepository.save(logEntity);
-        log.info("AI 상호작용 로그를 저장했습니다. (로그 ID: {})", logEntity.getLogId());
+    /**
+     * AI 응답이 소설 제목, 1화 제목, 1화 내용의 세 부분으로 모두 나뉘는지 확인합니다.
+     * ({@link #toRecommendResponse}와 같은 구분자 규칙)
+     *
+     * @param aiResultText AI가 생성한 원본 텍스트.
+     * @return 세 부분이 모두 비어 있지 않으면 {@code true}.
+     */
+    static boolean isCompleteRecommendation(String aiResultText) {
+        if (aiResultText == null || aiResultText.isBlank()) {
+            return false;
+        }
+        String[] parts = aiResultText.split("\n---\n", 3);
+        return parts.length == 3 && Arrays.stream(parts).noneMatch(String::isBlank);
+    }
 
+    /**
+     * 구분자("---")로 나뉜 AI 응답 텍스트를 새 소설 추천 응답 DTO로 변환합니다.
+     *
+     * @param logId        이번 상호작용의 로그 ID.
+     * @param aiResultText AI가 생성한 원본 텍스트.
+     * @return 소설 제목, 1화 제목과 내용이 분리된 {@link AiRecommendNovelResponseTj}.
+     */
+    static AiRecommendNovelResponseTj toRecommendResponse(Long logId, String aiResultText) {
         try {
             // [리팩토링] JSON 파싱 대신, 구분자("---") 기반의 텍스트 파싱 로직으로 변경하여 안정성 확보
             String[] parts = aiResultText.split("\n---\n", 3);
@@ -124,7 +304,7 @@ public class AiAssistServiceTj {
             String firstChapterContent = (parts.length > 2) ? parts[2].trim() : "1화 내용 추천 실패";
 
             return AiRecommendNovelResponseTj.builder()
-                .logId(logEntity.getLogId())
+                .logId(logId)
                 .novelTitle(novelTitle)
                 .firstChapterTitle(firstChapterTitle)
                 .firstChapterContent(firstChapterContent)
@@ -135,66 +315,14 @@ public class AiAssistServiceTj {
         }
     }
 
-    @Transactional
-    public AiContinueResponseTj continueForChapter(Long userId, Long chapterId, AiContinueRequestTj req) {
-        Users user = usersRepository.findById(userId)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + userId));
-        Chapters baseChapter = chaptersRepository.findById(chapterId)
-            .orElseThrow(() -> new IllegalArgumentException("기반 회차를 찾을 수 없습니다. ID: " + chapterId));
-
-        String fullStoryContext = buildFullStoryContext(baseChapter);
-
-        String prompt = String.format(
-            """
-            ## ROLE & GOAL
-            당신은 Vibe Fiction 플랫폼을 위한 전문 웹소설 AI 어시스턴트입니다. 당신의 임무는 주어진 소설의 전체 맥락과 사용자의 새로운 요구사항을 깊이 이해하여, 다음 회차의 초안을 일관성 있고 창의적으로 작성하는 것입니다.
-
-            ## INSTRUCTIONS
-            1.  **Strictly Continue the Story**: **가장 중요한 규칙입니다.** '이전 회차 전체 내용'의 마지막 문장에서 이야기가 바로 이어지도록 다음 내용을 작성해야 합니다.
-            2.  **Maintain All Details**: 등장인물의 이름, 능력 등 '이전 회차 전체 내용'에 언급된 모든 세부 설정을 변경하거나 무시해서는 안 됩니다.
-            3.  **Incorporate User Request**: '사용자의 추가 요구사항'을 기존 설정과 충돌하지 않는 선에서 다음 이야기의 핵심 사건으로 자연스럽게 녹여내세요.
-            4.  **Leave Open-ended**: 이 이야기는 계속 이어져야 하므로, 반드시 열린 결말(Open-ended)로 마무리해야 합니다.
-            5.  **Adhere to Constraints**: 생성하는 모든 텍스트는 아래의 '길이 제한' 규칙을 반드시 준수해야 합니다.
-            6.  **Format Output**: **매우 중요합니다.** 아래 설명된 텍스트 형식과 구분자를 반드시 지켜서 답변해야 합니다. JSON 형식을 사용하지 마세요.
-
-            ## CONTEXT
-            ### 소설 기본 정보:
-            -   제목: "%s", 장르: [%s], 시놉시스: "%s"
-            ### 이전 회차 전체 내용:
-            %s
-
-            ## USER REQUEST
-            -   다음 이야기 요구사항: "%s"
-
-            ## CONSTRAINTS (길이 제한)
-            -   suggestedTitle: 최대 60자
-            -   suggestedContent: 최대 5000자
-
-            ## OUTPUT FORMAT (TEXT ONLY, USE SEPARATOR)
-            -   첫 줄: 생성된 다음 회차의 제목
-            -   두 번째 줄: --- (하이픈 3개 구분자)
-            -   세 번째 줄부터: 생성된 다음 회차의 내용
-            """,
-            baseChapter.getNovel().getTitle(),
-            baseChapter.getNovel().getNovelGenres().stream().map(ng -> ng.getGenre().getName().getDescription()).collect(Collectors.joining(", ")),
-            baseChapter.getNovel().getSynopsis(),
-            fullStoryContext,
-            req.getInstruction()
-        );
-
-        log.info("Gemini API에 이어쓰기 추천을 요청합니다. (사용자 ID: {}, 챕터 ID: {})", userId, chapterId);
-        String aiResultText = geminiApiService.generateContent(prompt);
-
-        AiInteractionLogs logEntity = AiInteractionLogs.builder()
-            .user(user)
-            .type(AiInteractionLogs.AiInteractionType.PROPOSAL_GENERATION)
-            .prompt(prompt)
-            .result(aiResultText)
-            .basedOnChapter(baseChapter)
-            .build();
-        aiInteractionLogsRepository.save(logEntity);
-        log.info("AI 상호작용 로그를 저장했습니다. (로그 ID: {})", logEntity.getLogId());
-
+    /**
+     * 구분자("---")로 나뉜 AI 응답 텍스트를 이어쓰기 응답 DTO로 변환합니다.
+     *
+     * @param logId        이번 상호작용의 로그 ID.
+     * @param aiResultText AI가 생성한 원본 텍스트.
+     * @return 제목과 내용이 분리된 {@link AiContinueResponseTj}.
+     */
+    static AiContinueResponseTj toContinueResponse(Long logId, String aiResultText) {
         try {
             // [리팩토링] JSON 파싱 대신, 구분자("---") 기반의 텍스트 파싱 로직으로 변경하여 안정성 확보
             String[] parts = aiResultText.split("\n---\n", 2);
@@ -203,7 +331,7 @@ public class AiAssistServiceTj {
             String content = (parts.length > 1) ? parts[1].trim() : "내용 제안 실패";
 
             return AiContinueResponseTj.builder()
-                .logId(logEntity.getLogId())
+                .logId(logId)
                 .suggestedTitle(title)
                 .suggestedContent(content)
                 .build();
@@ -212,21 +340,4 @@ public class AiAssistServiceTj {
             throw new RuntimeException("AI 응답을 처리하는 중 오류가 발생했습니다.", e);
         }
     }
-
-    /**
-     * AI에게 일관된 스토리 컨텍스트를 제공하기 위해, 특정 회차까지의 모든 내용을 하나의 문자열로 조합하는 헬퍼 메서드입니다.
-     * <p>
-     * 소설의 모든 회차를 조회하여 회차 번호 순으로 정렬한 뒤, 정해진 형식으로 포맷팅하여
-     * AI가 이전 내용을 쉽게 파악할 수 있도록 돕습니다.
-     *
-     * @param baseChapter 컨텍스트를 구성할 기준이 되는 회차 (이 회차의 부모 소설을 통해 전체 회차를 조회).
-     * @return 회차별 제목과 내용이 구분되어 연결된 전체 소설 텍스트.
-     */
-    private String buildFullStoryContext(Chapters baseChapter) {
-        List<Chapters> allChapters = baseChapter.getNovel().getChapters();
-        return allChapters.stream()
-            .sorted((c1, c2) -> c1.getChapterNumber().compareTo(c2.getChapterNumber()))
-            .map(c -> String.format("제%d화: %s\n%s", c.getChapterNumber(), c.getTitle(), c.getContent()))
-            .collect(Collectors.joining("\n\n---\n\n"));
-    }
 }
@@ -0,0 +1,105 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.spring.aidea.vibefiction.global.config.GeminiProperties;
+import com.spring.aidea.vibefiction.global.exception.BusinessException;
+import com.spring.aidea.vibefiction.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 모든 AI 호출이 거쳐 가는 게이트웨이입니다. AI 호출을 요청 스레드(Tomcat worker)에서 떼어내고,
+ * 전역/사용자별 동시 실행 수를 제한합니다.
+ * <p>
+ * <b>[설계 의도]</b>
+ * Gemini 호출은 한 번에 수 초 이상 걸립니다. 이를 Tomcat 스레드에서 동기로 기다리면, "AI 이어쓰기" 요청이
+ * 몰릴 때 스레드 풀이 고갈되어 {@code /api/novels} 같은 일반 조회 요청까지 줄을 서게 됩니다.
+ * 이 게이트웨이는 AI 호출을 전용 스레드 풀({@code aiTaskExecutor})에서 실행하고 {@link CompletableFuture}를 돌려주어,
+ * 컨트롤러가 Spring MVC 비동기 처리로 Tomcat 스레드를 즉시 반환할 수 있게 합니다.
+ * <ul>
+ *   <li><b>전역 한도:</b> 전용 풀의 스레드 수와 대기열 크기로 제한되며, 대기열까지 가득 차면 즉시 거절합니다.</li>
+ *   <li><b>사용자별 한도:</b> 한 사용자가 대기 중이거나 실행 중인 AI 호출 수를 제한하여, 한 명이 풀을 독점하지 못하게 합니다.</li>
+ * </ul>
+ * 한도를 넘은 요청은 기다리지 않고 {@link ErrorCode#AI_TOO_MANY_REQUESTS}(429)로 빠르게 실패합니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Slf4j
+@Component
+public class AiGateway {
+
+    /** AI 호출 전용 스레드 풀입니다. ({@code AsyncConfig#aiTaskExecutor}) */
+    private final ThreadPoolTaskExecutor aiTaskExecutor;
+    /** 사용자별 동시 실행 한도 등 게이트웨이 설정입니다. */
+    private final GeminiProperties.Gateway gatewayProperties;
+    /** 사용자 ID별로 현재 대기 중이거나 실행 중인 AI 호출 수입니다. */
+    private final ConcurrentHashMap<Long, Integer> inFlightByUser = new ConcurrentHashMap<>();
+
+    public AiGateway(@Qualifier("aiTaskExecutor") ThreadPoolTaskExecutor aiTaskExecutor,
+                     GeminiProperties geminiProperties) {
+        this.aiTaskExecutor = aiTaskExecutor;
+        this.gatewayProperties = geminiProperties.getGateway();
+    }
+
+    /**
+     * AI 호출 작업을 전용 스레드 풀에 제출합니다.
+     *
+     * @param userId AI 호출을 요청한 사용자의 고유 ID. 사용자별 동시 실행 한도를 적용하는 기준입니다.
+     * @param task   전용 스레드에서 실행할 작업 (예: {@code AiAssistServiceTj}의 메서드 호출).
+     * @param <T>    작업 결과 타입.
+     * @return 작업 결과를 담아 완료될 {@link CompletableFuture}.
+     * @throws BusinessException {@code AI_TOO_MANY_REQUESTS}: 사용자별 한도 또는 전역 대기열 한도를 초과한 경우.
+     */
+    public <T> CompletableFuture<T> submit(Long userId, Supplier<T> task) {
+        acquireUserSlot(userId);
+        try {
+            return CompletableFuture.supplyAsync(task, aiTaskExecutor)
+                .whenComplete((result, error) -> releaseUserSlot(userId));
+        } catch (RejectedExecutionException e) {
+            releaseUserSlot(userId);
+            log.warn("AI 호출 대기열이 가득 차 요청을 거절합니다. (사용자 ID: {}, 실행 중: {}, 대기 중: {})",
+                userId, aiTaskExecutor.getActiveCount(), aiTaskExecutor.getQueueSize());
+            throw new BusinessException(ErrorCode.AI_TOO_MANY_REQUESTS);
+        }
+    }
+
+    /**
+     * 사용자의 AI 호출 슬롯을 하나 점유합니다. 한도를 넘으면 점유하지 않고 즉시 예외를 던집니다.
+     * <p>
+     * 확인과 증가가 {@link ConcurrentHashMap#compute} 안에서 원자적으로 이루어지므로,
+     * 같은 사용자의 요청이 동시에 들어와도 한도를 넘겨 통과하는 일이 없습니다.
+     */
+    private void acquireUserSlot(Long userId) {
+        int limit = gatewayProperties.getMaxConcurrentPerUser();
+        AtomicBoolean acquired = new AtomicBoolean(false);
+        inFlightByUser.compute(userId, (id, count) -> {
+            int current = (count == null) ? 0 : count;
+            if (current >= limit) {
+                return count;
+            }
+            acquired.set(true);
+            return current + 1;
+        });
+
+        if (!acquired.get()) {
+            log.warn("사용자별 AI 동시 요청 한도를 초과했습니다. (사용자 ID: {}, 한도: {})", userId, limit);
+            throw new BusinessException(ErrorCode.AI_TOO_MANY_REQUESTS,
+                "이전 AI 요청이 아직 처리 중입니다. 완료된 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 사용자의 AI 호출 슬롯을 하나 반환합니다. 진행 중인 호출이 없어지면 맵에서 항목을 제거하여 메모리를 회수합니다.
+     */
+    private void releaseUserSlot(Long userId) {
+        inFlightByUser.computeIfPresent(userId, (id, count) -> count <= 1 ? null : count - 1);
+    }
+}
@@ -0,0 +1,314 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spring.aidea.vibefiction.entity.AiInteractionLogs;
+import com.spring.aidea.vibefiction.global.config.AiLogSinkProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link AiInteractionLogs}를 AI 응답 경로 밖에서 모아 기록하는 비동기 로그 저장소(write-behind)입니다.
+ * <p>
+ * <b>[처리 방식]</b>
+ * <ul>
+ *   <li><b>ID 선할당:</b> 로그 ID는 DB 시퀀스({@value #SEQUENCE_NAME})에서 블록 단위로 미리 받아 두고 메모리에서 나누어 줍니다.
+ *       따라서 {@link #submit}은 INSERT를 기다리지 않고 바로 로그 ID를 반환할 수 있습니다.</li>
+ *   <li><b>저장 형식:</b> 프롬프트의 템플릿과 스토리 컨텍스트는 공유 블록으로 한 번만, 결과는 압축하여 기록합니다.
+ *       ({@link AiPromptArchive})</li>
+ *   <li><b>배치 기록:</b> 제출된 로그는 큐에 쌓였다가 {@code ai.log-sink.flush-interval}마다
+ *       {@code ai.log-sink.batch-size}개씩 JDBC 배치 INSERT로 기록됩니다.
+ *       배치가 실패하면 한 건씩 다시 기록하고, 그래도 실패한 로그만 버립니다.</li>
+ *   <li><b>큐 초과:</b> 큐가 가득 차면 로그를 버리지 않고 요청 스레드에서 바로 기록합니다.</li>
+ *   <li><b>종료:</b> 애플리케이션이 정상 종료될 때 큐에 남은 로그를 모두 기록합니다.</li>
+ * </ul>
+ * 방금 받은 로그 ID로 제안을 등록하는 경우처럼 아직 기록되지 않은 로그를 읽어야 하면 {@link #flushIfPending}을 먼저 호출합니다.
+ * <p>
+ * <b>[지표]</b>
+ * <ul>
+ *   <li>{@code ai.log.sink.queue.depth}: 기록을 기다리는 로그 수.</li>
+ *   <li>{@code ai.log.sink.written} / {@code ai.log.sink.dropped}: 기록된 로그 수 / 기록에 실패하여 버려진 로그 수.</li>
+ *   <li>{@code ai.log.sink.overflow}: 큐가 가득 차 요청 스레드에서 바로 기록한 로그 수.</li>
+ * </ul>
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Slf4j
+@Component
+public class AiInteractionLogSink {
+
+    /** 로그 ID를 블록 단위로 나누어 주는 DB 시퀀스의 이름입니다. */
+    static final String SEQUENCE_NAME = "ai_interaction_logs_seq";
+
+    private static final String INSERT_SQL = """
+        INSERT INTO ai_interaction_logs
+            (log_id, user_id, type, template_hash, context_hash, prompt_args, result_gz,
+             based_on_chapter_id, cached, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    /** 같은 내용의 블록은 해시(PK)가 같으므로, 이미 있으면 무시합니다. */
+    private static final String INSERT_BLOCK_SQL = """
+        INSERT IGNORE INTO ai_prompt_blocks (block_hash, content, original_length, created_at)
+        VALUES (?, ?, ?, ?)
+        """;
+
+    /** 이미 저장된 것으로 알고 있는 블록 해시의 최대 보관 수입니다. */
+    private static final long KNOWN_BLOCKS_MAXIMUM_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AiPromptArchive aiPromptArchive;
+    /** 로그 기록과 ID 블록 할당을 호출한 쪽의 트랜잭션과 분리하여 실행하기 위한 템플릿입니다. */
+    private final TransactionTemplate requiresNew;
+    private final AiLogSinkProperties properties;
+
+    private final BlockingQueue<PendingLog> queue;
+    /** 제출되었지만 아직 커밋되지 않은 로그 ID입니다. 배치 기록 중인 로그도 포함합니다. */
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    /** 큐를 비우는 작업(스케줄러, {@link #flushIfPending}, 종료 시 기록)이 동시에 실행되지 않도록 합니다. */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /** 이미 저장된 블록 해시입니다. 같은 템플릿/컨텍스트를 배치마다 다시 보내지 않기 위해 사용합니다. */
+    private final Set<String> knownBlockHashes = Caffeine.newBuilder()
+        .maximumSize(KNOWN_BLOCKS_MAXIMUM_SIZE)
+        .<String, Boolean>build()
+        .asMap()
+        .keySet();
+
+    private final Object idLock = new Object();
+    private long nextId;
+    private long idLimit;
+    private long idBlockSize;
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter overflowCounter;
+
+    public AiInteractionLogSink(JdbcTemplate jdbcTemplate, AiPromptArchive aiPromptArchive,
+                                PlatformTransactionManager transactionManager,
+                                AiLogSinkProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.aiPromptArchive = aiPromptArchive;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        Gauge.builder("ai.log.sink.queue.depth", queue, BlockingQueue::size)
+            .description("기록을 기다리는 AI 상호작용 로그 수")
+            .register(meterRegistry);
+        this.writtenCounter = Counter.builder("ai.log.sink.written")
+            .description("기록된 AI 상호작용 로그 수")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("ai.log.sink.dropped")
+            .description("기록에 실패하여 버려진 AI 상호작용 로그 수")
+            .register(meterRegistry);
+        this.overflowCounter = Counter.builder("ai.log.sink.overflow")
+            .description("큐가 가득 차 요청 스레드에서 바로 기록한 AI 상호작용 로그 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * AI 상호작용 로그를 기록 대기열에 넣고, 미리 할당한 로그 ID를 반환합니다.
+     *
+     * @param userId           AI를 호출한 사용자 ID
+     * @param type             AI 호출 목적
+     * @param prompt           AI에게 전달한 프롬프트(템플릿과 인자)
+     * @param result           AI가 생성한 원본 결과
+     * @param basedOnChapterId 이어쓰기의 기준 회차 ID. 새 소설 추천이면 {@code null}
+     * @param cached           캐시된 응답을 사용했는지 여부
+     * @return 이 로그에 할당된 ID
+     */
+    public Long submit(Long userId, AiInteractionLogs.AiInteractionType type, AiPrompt prompt, String result,
+                       Long basedOnChapterId, boolean cached) {
+        PendingLog pending = new PendingLog(allocateId(), userId, type, prompt, result, basedOnChapterId, cached,
+            LocalDateTime.now());
+        pendingIds.add(pending.logId());
+
+        if (!queue.offer(pending)) {
+            overflowCounter.increment();
+            log.warn("AI 로그 기록 대기열이 가득 차 바로 기록합니다. (로그 ID: {})", pending.logId());
+            write(List.of(pending));
+        }
+        return pending.logId();
+    }
+
+    /**
+     * 주어진 로그가 아직 기록 대기 중이면 대기열을 즉시 비워 커밋합니다.
+     * <p>
+     * 호출한 쪽의 트랜잭션이 첫 조회를 하기 전에 호출해야, 이어지는 조회에서 방금 커밋된 로그가 보입니다.
+     *
+     * @param logId 곧 조회할 로그 ID
+     */
+    public void flushIfPending(Long logId) {
+        if (pendingIds.contains(logId)) {
+            flush();
+        }
+    }
+
+    /**
+     * 대기열의 로그를 배치 단위로 기록합니다.
+     */
+    @Scheduled(fixedDelayString = "${ai.log-sink.flush-interval:PT0.2S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<PendingLog> batch = new ArrayList<>(properties.getBatchSize());
+            while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 대기열에 남은 로그를 모두 기록합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 대기 중인 AI 로그를 기록합니다. (대기 수: {})", queue.size());
+        flush();
+    }
+
+    private void write(List<PendingLog> batch) {
+        try {
+            // 해시 계산과 압축은 트랜잭션(커넥션 점유) 밖에서 수행
+            List<EncodedLog> encoded = batch.stream().map(this::encode).toList();
+            Map<String, String> newBlocks = new LinkedHashMap<>();
+            for (EncodedLog entry : encoded) {
+                collectNewBlock(newBlocks, entry.templateHash(), entry.pending().prompt().template());
+                collectNewBlock(newBlocks, entry.contextHash(), entry.pending().prompt().context());
+            }
+            List<Map.Entry<String, String>> blocks = List.copyOf(newBlocks.entrySet());
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            requiresNew.executeWithoutResult(status -> {
+                if (!blocks.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_BLOCK_SQL, blocks, blocks.size(), (ps, block) -> {
+                        ps.setString(1, block.getKey());
+                        ps.setBytes(2, AiPromptArchive.gzip(block.getValue()));
+                        ps.setInt(3, block.getValue().length());
+                        ps.setTimestamp(4, now);
+                    });
+                }
+                jdbcTemplate.batchUpdate(INSERT_SQL, encoded, encoded.size(), (ps, entry) -> {
+                    PendingLog pending = entry.pending();
+                    ps.setLong(1, pending.logId());
+                    ps.setLong(2, pending.userId());
+                    ps.setString(3, pending.type().name());
+                    ps.setString(4, entry.templateHash());
+                    ps.setString(5, entry.contextHash());
+                    ps.setString(6, entry.promptArgs());
+                    ps.setBytes(7, entry.resultCompressed());
+                    if (pending.basedOnChapterId() != null) {
+                        ps.setLong(8, pending.basedOnChapterId());
+                    } else {
+                        ps.setNull(8, Types.BIGINT);
+                    }
+                    ps.setBoolean(9, pending.cached());
+                    ps.setTimestamp(10, Timestamp.valueOf(pending.createdAt()));
+                });
+            });
+            knownBlockHashes.addAll(newBlocks.keySet());
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            if (batch.size() > 1) {
+                // 한 건의 실패가 배치 전체를 버리지 않도록 한 건씩 다시 기록
+                log.warn("AI 로그 배치 기록에 실패하여 한 건씩 다시 기록합니다. (건수: {})", batch.size(), e);
+                batch.forEach(pending -> write(List.of(pending)));
+                return;
+            }
+            droppedCounter.increment();
+            log.error("AI 로그를 기록하지 못해 버립니다. (로그 ID: {})", batch.get(0).logId(), e);
+        } finally {
+            batch.forEach(pending -> pendingIds.remove(pending.logId()));
+        }
+    }
+
+    private EncodedLog encode(PendingLog pending) {
+        AiPrompt prompt = pending.prompt();
+        String context = prompt.context();
+        return new EncodedLog(pending,
+            AiPromptArchive.hash(prompt.template()),
+            context != null ? AiPromptArchive.hash(context) : null,
+            aiPromptArchive.encodeArgs(prompt),
+            pending.result() != null ? AiPromptArchive.gzip(pending.result()) : null);
+    }
+
+    private void collectNewBlock(Map<String, String> newBlocks, String hash, String text) {
+        if (hash != null && !knownBlockHashes.contains(hash)) {
+            newBlocks.putIfAbsent(hash, text);
+        }
+    }
+
+    /**
+     * 다음 로그 ID를 반환합니다. 미리 받아 둔 블록을 다 쓰면 시퀀스에서 새 블록을 받습니다.
+     */
+    private long allocateId() {
+        synchronized (idLock) {
+            if (nextId >= idLimit) {
+                claimIdBlock();
+            }
+            return nextId++;
+        }
+    }
+
+    /**
+     * 시퀀스에서 다음 ID 블록을 받습니다. 시퀀스가 없으면 기존 로그의 최대 ID 다음 값부터 시작하도록 만듭니다.
+     * <p>
+     * 시퀀스 생성(DDL)은 MariaDB에서 암묵적 커밋을 일으키므로, 호출한 쪽과 분리된 트랜잭션(커넥션)에서 실행합니다.
+     */
+    private void claimIdBlock() {
+        requiresNew.executeWithoutResult(status -> {
+            if (idBlockSize == 0) {
+                Long maxLogId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(log_id), 0) FROM ai_interaction_logs", Long.class);
+                jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + SEQUENCE_NAME
+                    + " START WITH " + (maxLogId + 1) + " INCREMENT BY " + properties.getIdBlockSize());
+                // 이미 만들어진 시퀀스의 증가폭을 따라야 다른 인스턴스와 블록이 겹치지 않음
+                idBlockSize = jdbcTemplate.queryForObject("SELECT increment FROM " + SEQUENCE_NAME, Long.class);
+            }
+            nextId = jdbcTemplate.queryForObject("SELECT NEXTVAL(" + SEQUENCE_NAME + ")", Long.class);
+            idLimit = nextId + idBlockSize;
+        });
+        log.debug("AI 로그 ID 블록을 할당받았습니다. ({} ~ {})", nextId, idLimit - 1);
+    }
+
+    /**
+     * 기록을 기다리는 로그 한 건입니다.
+     */
+    private record PendingLog(long logId, Long userId, AiInteractionLogs.AiInteractionType type, AiPrompt prompt,
+                              String result, Long basedOnChapterId, boolean cached, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 저장 형식({@link AiPromptArchive})으로 변환된 로그 한 건입니다.
+     */
+    private record EncodedLog(PendingLog pending, String templateHash, String contextHash, String promptArgs,
+                              byte[] resultCompressed) {
+    }
+}
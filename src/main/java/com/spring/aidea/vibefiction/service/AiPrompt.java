@@ -0,0 +1,42 @@
+package com.spring.aidea.vibefiction.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * AI에게 보낼 프롬프트를 "템플릿 + 인자" 형태로 보관하는 값 객체입니다.
+ * <p>
+ * 완성된 프롬프트 문자열 대신 이 형태로 로그에 넘기면, {@link AiPromptArchive}가 요청마다 같은 템플릿과
+ * 여러 요청이 공유하는 스토리 컨텍스트를 한 번만 저장하고, 요청마다 다른 인자(사용자 지시문 등)만 따로 저장할 수 있습니다.
+ *
+ * @param template     {@link String#format} 형식의 프롬프트 템플릿
+ * @param args         템플릿 인자
+ * @param contextIndex 인자 중 스토리 컨텍스트의 위치. 없으면 {@link #NO_CONTEXT}
+ * @author 왕택준
+ * @since 2025.08
+ */
+public record AiPrompt(String template, List<String> args, int contextIndex) {
+
+    /** 스토리 컨텍스트 인자가 없는 프롬프트를 나타냅니다. */
+    public static final int NO_CONTEXT = -1;
+
+    public static AiPrompt of(String template, int contextIndex, String... args) {
+        // 시놉시스 등 선택 입력이 null일 수 있으므로 null을 허용하는 목록을 사용
+        return new AiPrompt(template, Collections.unmodifiableList(Arrays.asList(args)), contextIndex);
+    }
+
+    /**
+     * AI에게 전달할 완성된 프롬프트 문자열을 만듭니다.
+     */
+    public String render() {
+        return String.format(template, args.toArray());
+    }
+
+    /**
+     * 스토리 컨텍스트 인자를 반환합니다. 없으면 {@code null}입니다.
+     */
+    public String context() {
+        return contextIndex == NO_CONTEXT ? null : args.get(contextIndex);
+    }
+}
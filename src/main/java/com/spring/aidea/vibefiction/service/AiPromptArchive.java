@@ -0,0 +1,132 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.aidea.vibefiction.entity.AiInteractionLogs;
+import com.spring.aidea.vibefiction.entity.AiPromptBlocks;
+import com.spring.aidea.vibefiction.repository.AiPromptBlocksRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * AI 상호작용 로그의 프롬프트/결과 저장 형식을 담당합니다.
+ * <p>
+ * <b>[저장 형식]</b>
+ * <ul>
+ *   <li><b>템플릿, 스토리 컨텍스트:</b> 원문의 SHA-256 해시를 키로 {@link AiPromptBlocks}에 gzip 압축하여 한 번만 저장하고,
+ *       로그에는 해시만 남깁니다.</li>
+ *   <li><b>요청별 인자:</b> 컨텍스트 자리를 비운 인자 목록과 컨텍스트 위치를 JSON으로 로그에 저장합니다.</li>
+ *   <li><b>AI 생성 결과:</b> gzip 압축하여 로그에 저장합니다.</li>
+ * </ul>
+ * 로그 테이블은 요청마다 새로 생기는 내용(인자, 결과)만큼만 커지며, 이 형식 이전의 로그(원문 컬럼)도 그대로 읽을 수 있습니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Component
+@RequiredArgsConstructor
+public class AiPromptArchive {
+
+    private final ObjectMapper objectMapper;
+    private final AiPromptBlocksRepository aiPromptBlocksRepository;
+
+    /**
+     * 로그에 저장할 요청별 인자 JSON을 만듭니다. 스토리 컨텍스트는 블록으로 따로 저장되므로 {@code null}로 비웁니다.
+     */
+    public String encodeArgs(AiPrompt prompt) {
+        List<String> args = new ArrayList<>(prompt.args());
+        if (prompt.contextIndex() != AiPrompt.NO_CONTEXT) {
+            args.set(prompt.contextIndex(), null);
+        }
+        try {
+            return objectMapper.writeValueAsString(new StoredArgs(prompt.contextIndex(), args));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("프롬프트 인자를 JSON으로 변환할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 로그에 저장된 프롬프트 원문을 다시 조립합니다.
+     *
+     * @param log AI 상호작용 로그
+     * @return AI에게 전달되었던 프롬프트 원문
+     */
+    public String promptOf(AiInteractionLogs log) {
+        if (log.getTemplateHash() == null) {
+            return log.getPrompt();
+        }
+        try {
+            StoredArgs stored = objectMapper.readValue(log.getPromptArgs(), StoredArgs.class);
+            List<String> args = new ArrayList<>(stored.args());
+            if (stored.contextIndex() != AiPrompt.NO_CONTEXT) {
+                args.set(stored.contextIndex(), loadBlock(log.getContextHash()));
+            }
+            return String.format(loadBlock(log.getTemplateHash()), args.toArray());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("프롬프트 인자를 읽을 수 없습니다. (로그 ID: " + log.getLogId() + ")", e);
+        }
+    }
+
+    /**
+     * 로그에 저장된 AI 생성 결과 원문을 반환합니다.
+     */
+    public String resultOf(AiInteractionLogs log) {
+        return log.getResultCompressed() != null ? gunzip(log.getResultCompressed()) : log.getResult();
+    }
+
+    private String loadBlock(String hash) {
+        AiPromptBlocks block = aiPromptBlocksRepository.findById(hash)
+            .orElseThrow(() -> new IllegalStateException("프롬프트 블록을 찾을 수 없습니다. (해시: " + hash + ")"));
+        return gunzip(block.getContent());
+    }
+
+    /**
+     * 블록 키로 사용하는 원문(UTF-8)의 SHA-256 해시(16진수)를 계산합니다.
+     */
+    public static String hash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM이 반드시 제공해야 하는 알고리즘
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public static byte[] gzip(String text) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(text.length() / 2 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static String gunzip(byte[] compressed) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 로그의 {@code prompt_args} 컬럼에 저장되는 JSON 형식입니다.
+     */
+    record StoredArgs(int contextIndex, List<String> args) {
+    }
+}
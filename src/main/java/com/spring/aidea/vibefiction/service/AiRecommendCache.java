@@ -0,0 +1,105 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spring.aidea.vibefiction.global.config.GeminiProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * AI 소설 추천 응답을 보관하는 인메모리 캐시입니다.
+ * <p>
+ * <b>[설계 의도]</b>
+ * 흔한 장르 조합이나 같은 시놉시스로 반복되는 추천 요청마다 Gemini를 호출하면 비용과 지연이 모두 늘어납니다.
+ * 이 캐시는 "프롬프트 템플릿 버전 + 정규화된 입력값"의 SHA-256 해시를 키로 AI 원본 응답을 보관합니다.
+ * 프롬프트 템플릿이 바뀌면 버전도 함께 바꾸어, 이전 템플릿으로 생성된 응답이 재사용되지 않도록 합니다.
+ * <ul>
+ *   <li>만료 시간과 최대 크기는 {@code gemini.api.recommend-cache.*} 설정을 따릅니다.</li>
+ *   <li>적중/실패/제거 횟수는 {@code cache.gets}, {@code cache.evictions} 등의 Micrometer 지표로
+ *       {@code cache="aiRecommend"} 태그와 함께 노출됩니다.</li>
+ * </ul>
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Component
+public class AiRecommendCache {
+
+    /** Micrometer 지표에 사용되는 캐시 이름입니다. */
+    private static final String CACHE_NAME = "aiRecommend";
+
+    private final Cache<String, String> cache;
+
+    public AiRecommendCache(GeminiProperties geminiProperties, MeterRegistry meterRegistry) {
+        GeminiProperties.RecommendCache properties = geminiProperties.getRecommendCache();
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(properties.getTtl())
+            .maximumSize(properties.getMaximumSize())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 프롬프트 템플릿 버전과 입력값으로 캐시 키를 만듭니다.
+     * <p>
+     * 입력값은 유니코드 정규화(NFC), 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환을 거치므로
+     * 공백이나 대소문자만 다른 요청은 같은 키가 됩니다.
+     *
+     * @param promptVersion 프롬프트 템플릿 버전.
+     * @param inputs        프롬프트에 들어가는 사용자 입력값들.
+     * @return 16진수 SHA-256 해시 문자열.
+     */
+    public String keyOf(String promptVersion, String... inputs) {
+        StringBuilder source = new StringBuilder(promptVersion);
+        for (String input : inputs) {
+            // 입력값 경계가 섞이지 않도록 입력에 나올 수 없는 구분 문자를 사용
+            source.append('\u0000').append(normalize(input));
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM이 반드시 제공해야 하는 알고리즘
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시된 AI 응답을 조회합니다.
+     *
+     * @param key {@link #keyOf}로 만든 캐시 키.
+     * @return 캐시된 AI 원본 응답. 없거나 만료되었으면 {@code null}.
+     */
+    public String get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * AI 응답을 캐시에 저장합니다. 같은 키의 기존 항목은 덮어씁니다.
+     *
+     * @param key          {@link #keyOf}로 만든 캐시 키.
+     * @param aiResultText AI 원본 응답.
+     */
+    public void put(String key, String aiResultText) {
+        cache.put(key, aiResultText);
+    }
+
+    private String normalize(String input) {
+        if (input == null) {
+            return "";
+        }
+        return Normalizer.normalize(input, Normalizer.Form.NFC)
+            .trim()
+            .replaceAll("\\s+", " ")
+            .toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,6 +1,10 @@
 package com.spring.aidea.vibefiction.service;
 
+import com.spring.aidea.vibefiction.dto.response.chapter.ChapterContentResponseSH;
 import com.spring.aidea.vibefiction.dto.response.chapter.ChapterResponseSH;
+import com.spring.aidea.vibefiction.dto.response.chapter.ChapterTocResponseSH;
+import com.spring.aidea.vibefiction.global.exception.BusinessException;
+import com.spring.aidea.vibefiction.global.exception.ErrorCode;
 import com.spring.aidea.vibefiction.repository.ChaptersRepository;
 import com.spring.aidea.vibefiction.repository.NovelsRepository;
 import com.spring.aidea.vibefiction.repository.UsersRepository;
@@ -9,7 +13,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @Transactional
@@ -26,4 +32,42 @@ public class ChapterServiceSH {
         return chaptersRepository.findAllChaptersAndAuthorNameByNovelId(novelId);
     }
 
+    /**
+     * 소설의 목차(회차 메타데이터 목록)를 조회합니다. 본문은 포함하지 않습니다.
+     */
+    public List<ChapterTocResponseSH> findChapterToc(Long novelId) {
+
+        return chaptersRepository.findChapterTocByNovelId(novelId);
+    }
+
+    /**
+     * 회차 본문 응답의 ETag를 계산합니다. 본문을 읽지 않고 메타데이터만으로 계산합니다.
+     * <p>
+     * 회차 본문은 생성 이후 수정되지 않으므로, (회차 ID, 생성일시, 상태)가 같으면 본문도 같습니다.
+     * 상태를 포함하여 회차가 삭제(DELETED) 처리되면 캐시된 응답이 더 이상 유효하지 않게 합니다.
+     * 응답의 작가명(닉네임)은 바뀔 수 있으므로 그 해시도 포함하여, 닉네임이 바뀌면 새 응답을 받게 합니다.
+     *
+     * @throws BusinessException {@code CHAPTER_NOT_FOUND}: 회차가 존재하지 않는 경우.
+     */
+    public String getChapterContentETag(Long chapterId) {
+
+        ChapterTocResponseSH meta = chaptersRepository.findChapterMetaById(chapterId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CHAPTER_NOT_FOUND, "회차를 찾을 수 없습니다."));
+
+        long createdAtMillis = meta.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String authorHash = Integer.toHexString(Objects.hashCode(meta.getAuthor()));
+        return "\"" + meta.getChapterId() + "-" + createdAtMillis + "-" + meta.getStatus() + "-" + authorHash + "\"";
+    }
+
+    /**
+     * 회차 하나의 본문을 조회합니다.
+     *
+     * @throws BusinessException {@code CHAPTER_NOT_FOUND}: 회차가 존재하지 않는 경우.
+     */
+    public ChapterContentResponseSH findChapterContent(Long chapterId) {
+
+        return chaptersRepository.findChapterContentById(chapterId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CHAPTER_NOT_FOUND, "회차를 찾을 수 없습니다."));
+    }
+
 }
@@ -6,11 +6,13 @@ import com.spring.aidea.vibefiction.entity.Chapters;
 import com.spring.aidea.vibefiction.entity.Novels;
 import com.spring.aidea.vibefiction.entity.Proposals;
 import com.spring.aidea.vibefiction.entity.Users;
+import com.spring.aidea.vibefiction.event.ChapterCreatedEvent;
 import com.spring.aidea.vibefiction.repository.ChaptersRepository;
 import com.spring.aidea.vibefiction.repository.NovelsRepository;
 import com.spring.aidea.vibefiction.repository.ProposalsRepository;
 import com.spring.aidea.vibefiction.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,14 +30,18 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ChapterServiceTj {
 
-    /** 새로운 회차를 저장하고, 마지막 회차 번호를 조회하는 데 사용됩니다. */
+    /** 새로운 회차를 저장하고, 제안으로 이미 만들어진 회차를 조회하는 데 사용됩니다. */
     private final ChaptersRepository chaptersRepository;
-    /** 새로운 회차를 연결할 부모 소설 엔티티를 조회하기 위해 사용됩니다. */
+    /** 새로운 회차를 연결할 부모 소설 엔티티를 조회하고, 회차 번호를 발급하기 위해 사용됩니다. */
     private final NovelsRepository novelsRepository;
     /** 회차의 작성자(작가) 엔티티를 조회하기 위해 사용됩니다. */
     private final UsersRepository usersRepository;
     /** 회차의 원본이 되는 '이어쓰기 제안' 엔티티를 조회하는 데 사용됩니다. */
     private final ProposalsRepository proposalsRepository;
+    /** 새 회차를 AI 이어쓰기용 스토리 컨텍스트에 반영하기 위해 사용됩니다. */
+    private final StoryContextServiceTj storyContextServiceTj;
+    /** 회차 생성 이벤트({@link ChapterCreatedEvent})를 발행하기 위해 사용됩니다. */
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 특정 소설에 새로운 회차를 생성하고 데이터베이스에 저장합니다.
@@ -43,6 +49,13 @@ public class ChapterServiceTj {
      * 이 메서드는 회차 생성에 필요한 모든 엔티티(소설, 작가)를 조회하고, 다음 회차 번호를 계산하는 등
      * 핵심적인 생성 과정을 담당합니다. 또한, 독자의 '이어쓰기 제안'을 기반으로 회차를 생성하는 시나리오도 지원합니다.
      * 모든 과정은 하나의 트랜잭션으로 묶여 원자성을 보장합니다.
+     * <p>
+     * <b>[동시성/멱등성]</b>
+     * <ul>
+     *   <li>회차 번호는 소설의 회차 번호 발급기({@code novels.last_chapter_number})를 원자적으로 증가시켜 받으므로,
+     *       투표 마감과 직접 작성이 동시에 일어나도 번호가 겹치지 않습니다. (최종 보장은 (novel_id, chapter_number) 유니크 제약)</li>
+     *   <li>같은 제안으로 이미 만들어진 회차가 있으면 새로 만들지 않고 기존 회차 정보를 반환합니다.</li>
+     * </ul>
      *
      * @param novelId        새로운 회차를 추가할 {@link Novels}의 고유 ID.
      * @param authorId       회차를 작성한 사용자({@link Users})의 고유 ID.
@@ -53,6 +66,17 @@ public class ChapterServiceTj {
      */
     @Transactional
     public ChapterCreateResponseTj create(Long novelId, Long authorId, ChapterCreateRequestTj req, Long fromProposalId) {
+        // [0. 멱등성] 같은 제안으로 이미 만들어진 회차가 있으면(재시도 등) 새로 만들지 않고 기존 회차를 반환합니다.
+        if (fromProposalId != null) {
+            Chapters existing = chaptersRepository.findByFromProposal_ProposalId(fromProposalId).orElse(null);
+            if (existing != null) {
+                return ChapterCreateResponseTj.builder()
+                        .chapterId(existing.getChapterId())
+                        .chapterNumber(existing.getChapterNumber())
+                        .build();
+            }
+        }
+
         // [1. 부모 엔티티 조회] 회차를 귀속시킬 부모 소설 엔티티를 조회합니다.
         Novels novel = novelsRepository.findById(novelId)
                 .orElseThrow(() -> new IllegalArgumentException("회차를 추가할 소설을 찾을 수 없습니다. ID: " + novelId));
@@ -61,11 +85,11 @@ public class ChapterServiceTj {
         Users author = usersRepository.findById(authorId)
                 .orElseThrow(() -> new IllegalArgumentException("작가를 찾을 수 없습니다. ID: " + authorId));
 
-        // [3. 비즈니스 규칙: 회차 번호 계산] 마지막 회차를 조회하여 그 번호에 1을 더하거나, 첫 회차일 경우 1로 초기화합니다.
-        // 이 로직은 동시성 문제가 발생할 수 있으나, 현재 서비스 단계에서는 허용 가능한 수준으로 판단합니다. (TODO: 비관적/낙관적 락 고려)
-        Integer nextChapterNumber = chaptersRepository.findTopByNovel_NovelIdOrderByChapterNumberDesc(novelId)
-                .map(lastChapter -> lastChapter.getChapterNumber() + 1)
-                .orElse(1);
+        // [3. 비즈니스 규칙: 회차 번호 발급] 소설의 회차 번호 발급기를 DB에서 원자적으로 증가시키고, 증가된 번호를 사용합니다.
+        // UPDATE가 소설 행을 잠그므로 동시에 추가되는 회차는 커밋 순서대로 서로 다른 번호를 받습니다.
+        novelsRepository.incrementLastChapterNumber(novelId);
+        Integer nextChapterNumber = novelsRepository.findLastChapterNumber(novelId)
+                .orElseThrow(() -> new IllegalArgumentException("회차를 추가할 소설을 찾을 수 없습니다. ID: " + novelId));
 
         // [4. 선택적 로직: 원본 제안 조회] 제안 ID가 주어진 경우에만 해당 제안을 조회하여 연결 준비를 합니다.
         Proposals fromProposal = null;
@@ -87,7 +111,13 @@ public class ChapterServiceTj {
         // [6. 영속화] 생성된 회차 엔티티를 데이터베이스에 저장합니다. (@Transactional에 의해 커밋 시점에 DB에 반영)
         chaptersRepository.save(newChapter);
 
-        // [7. 결과 반환] 클라이언트에게 생성된 리소스의 정보를 전달하기 위해 응답 DTO를 구성합니다.
+        // [7. 스토리 컨텍스트 갱신] AI 이어쓰기가 전체 회차를 다시 읽지 않도록, 미리 계산된 컨텍스트에 새 회차를 반영합니다.
+        storyContextServiceTj.appendChapter(newChapter);
+
+        // [8. 이벤트 발행] 커밋 이후 소설 상세/피드 캐시 무효화 등에 사용됩니다.
+        eventPublisher.publishEvent(new ChapterCreatedEvent(novelId, newChapter.getChapterId(), newChapter.getChapterNumber()));
+
+        // [9. 결과 반환] 클라이언트에게 생성된 리소스의 정보를 전달하기 위해 응답 DTO를 구성합니다.
         return ChapterCreateResponseTj.builder()
                 .chapterId(newChapter.getChapterId())
                 .chapterNumber(newChapter.getChapterNumber())
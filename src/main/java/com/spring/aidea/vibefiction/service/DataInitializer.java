@@ -2,6 +2,8 @@ package com.spring.aidea.vibefiction.service; // 또는 실제 파일의 패키
 
 import com.spring.aidea.vibefiction.entity.Genres;
 import com.spring.aidea.vibefiction.repository.GenresRepository;
+import com.spring.aidea.vibefiction.repository.NovelsRepository;
+import com.spring.aidea.vibefiction.repository.VotesRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -29,6 +31,9 @@ import java.util.stream.Collectors;
 public class DataInitializer implements CommandLineRunner {
 
     private final GenresRepository genresRepository;
+    private final VotesRepository votesRepository;
+    private final NovelsRepository novelsRepository;
+    private final VoteCountReconciler voteCountReconciler;
 
     /**
      * 애플리케이션 시작 시 실행되는 메인 로직입니다.
@@ -70,6 +75,40 @@ public class DataInitializer implements CommandLineRunner {
             log.info("모든 장르 데이터가 이미 DB에 존재하므로, 동기화를 건너뜁니다.");
         }
 
+        // 5. votes.chapter_id 컬럼 추가 이전에 저장된 투표 행의 회차를 채웁니다. (모두 채워져 있으면 건너뜀)
+        if (votesRepository.existsByChapterIsNull()) {
+            backfillVoteChapters();
+        }
+
+        // 6. novels.last_chapter_number 컬럼 추가 이전의 소설에 실제 마지막 회차 번호를 채웁니다. (회차 번호 발급기 초기화)
+        int backfilledNovels = novelsRepository.backfillLastChapterNumbers();
+        if (backfilledNovels > 0) {
+            log.info("소설 {}건의 마지막 회차 번호를 실제 회차 기준으로 맞췄습니다.", backfilledNovels);
+        }
+
         log.info("데이터 초기화 및 동기화 작업이 완료되었습니다.");
     }
+
+    /**
+     * 비어 있는 {@code votes.chapter_id}를 제안의 회차로 채웁니다.
+     * <p>
+     * 회차당 1표 규칙이 유니크 제약({@code UK_Votes_User_Chapter})으로 보장되기 전에는 같은 사용자가 한 회차의
+     * 여러 제안에 투표한 행이 남아 있을 수 있고, 그대로 채우면 제약 위반으로 애플리케이션이 시작되지 않습니다.
+     * 따라서 먼저 사용자별로 회차의 첫 투표만 남기고 나머지를 지운 뒤 채웁니다.
+     * 지운 투표만큼 어긋난 투표 수는 투표가 진행 중인 제안에 한해 {@link VoteCountReconciler}로 다시 집계합니다.
+     * (마감된 제안의 투표 수는 마감 당시의 결과이므로 그대로 둡니다.)
+     */
+    private void backfillVoteChapters() {
+        int deletedVotes = votesRepository.deleteDuplicateChapterVotes();
+        if (deletedVotes > 0) {
+            log.warn("같은 회차에 중복으로 남아 있던 투표 {}건을 삭제했습니다. (사용자별 첫 투표만 유지)", deletedVotes);
+        }
+
+        int backfilledVotes = votesRepository.backfillChapterIds();
+        log.info("회차 정보가 비어 있던 투표 {}건의 chapter_id를 채웠습니다.", backfilledVotes);
+
+        if (deletedVotes > 0) {
+            voteCountReconciler.reconcile();
+        }
+    }
 }
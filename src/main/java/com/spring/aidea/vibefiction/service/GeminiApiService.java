@@ -1,5 +1,7 @@
 package com.spring.aidea.vibefiction.service;
 
+import java.util.function.Consumer;
+
 /**
  * 외부 생성형 AI 모델과의 통신을 위한 서비스 인터페이스입니다.
  * <p>
@@ -19,4 +21,17 @@ public interface GeminiApiService {
      * @return AI가 생성한 순수 텍스트 콘텐츠
      */
     String generateContent(String prompt);
+
+    /**
+     * AI 모델에 프롬프트를 전송하고, 생성되는 텍스트를 도착하는 즉시 조각(chunk) 단위로 전달합니다.
+     * <p>
+     * 전체 응답이 완성될 때까지 기다리는 {@link #generateContent(String)}와 달리, 모델이 토큰을 생성하는 대로
+     * {@code chunkConsumer}를 호출하므로 클라이언트는 첫 글자를 훨씬 빨리 받아볼 수 있습니다.
+     * 이 메서드는 스트림이 끝날 때까지 호출한 스레드를 점유합니다.
+     *
+     * @param prompt        AI에게 전달할 질문 또는 지시문
+     * @param chunkConsumer 새로 생성된 텍스트 조각이 도착할 때마다 호출되는 콜백
+     * @return 스트림이 종료된 뒤, 모든 조각을 순서대로 이어붙인 전체 텍스트
+     */
+    String streamContent(String prompt, Consumer<String> chunkConsumer);
 }
@@ -11,10 +11,11 @@ import com.spring.aidea.vibefiction.global.jwt.JwtProvider;
 import com.spring.aidea.vibefiction.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+
 
 
 
@@ -31,10 +32,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class LoginServiceKO {
 
     private final UsersRepository usersRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtProvider jwtProvider;
+    private final UserAvailabilityIndex userAvailabilityIndex;
 
     public AuthResponseKO authenticate(LoginRequestKO loginRequest) {
+        return PasswordHasher.await(authenticateAsync(loginRequest));
+    }
+
+    /**
+     * 비밀번호 확인(BCrypt)을 전용 스레드 풀에서 실행하고, 로그인 결과를 {@link CompletableFuture}로 돌려줍니다.
+     * 컨트롤러가 이를 그대로 반환하면 해시를 확인하는 동안 Tomcat 스레드를 점유하지 않습니다.
+     * 저장된 해시의 비용이 현재 비용보다 낮으면, 로그인 응답과 별개로 새 비용으로 다시 해시하여 저장합니다.
+     */
+    public CompletableFuture<AuthResponseKO> authenticateAsync(LoginRequestKO loginRequest) {
 
         String inputAccount = loginRequest.getLoginIdOrEmail();
 
@@ -51,27 +62,52 @@ public class LoginServiceKO {
         // DB에 저장된 비밀번호
         String StoredPassword = user.getPassword();
 
-        if (!passwordEncoder.matches(inputPassword, StoredPassword)) {
-            throw new BusinessException(ErrorCode.INVALID_PASSWORD);
-        }
+        // 비밀번호 확인은 해시 전용 스레드에서 실행 (이후 단계도 그 스레드에서 이어서 실행)
+        return passwordHasher.matches(inputPassword, StoredPassword).thenApply(matched -> {
+            if (!matched) {
+                throw new BusinessException(ErrorCode.INVALID_PASSWORD);
+            }
 
-        // 로그인 성공 시 토큰 발급
-        String role = user.getRole().name(); // Enum을 "USER" 또는 "ADMIN" 같은 문자열로 변환
-        String token = jwtProvider.generateToken(user.getLoginId(), role);
+            upgradePasswordIfNeeded(user.getUserId(), inputPassword, StoredPassword);
 
+            // 로그인 성공 시 토큰 발급
+            String role = user.getRole().name(); // Enum을 "USER" 또는 "ADMIN" 같은 문자열로 변환
+            String token = jwtProvider.generateToken(user.getLoginId(), user.getUserId(), role);
 
-        return AuthResponseKO.of(token, UserResponseKO.from(user));
+            return AuthResponseKO.of(token, UserResponseKO.from(user));
+        });
+    }
+
+    /**
+     * 저장된 해시의 비용이 현재 비용보다 낮으면 새 비용으로 다시 해시하여 저장합니다.
+     * 로그인 응답을 기다리게 하지 않으며, 대기열이 가득 차거나 저장에 실패하면 다음 로그인 때 다시 시도합니다.
+     */
+    private void upgradePasswordIfNeeded(Long userId, String rawPassword, String storedPassword) {
+        if (!passwordHasher.needsUpgrade(storedPassword)) {
+            return;
+        }
+        try {
+            passwordHasher.encode(rawPassword)
+                .thenAccept(upgraded -> usersRepository.updatePasswordIfUnchanged(userId, storedPassword, upgraded))
+                .exceptionally(e -> {
+                    log.warn("비밀번호 해시 비용을 올리지 못했습니다. (사용자 ID: {})", userId, e);
+                    return null;
+                });
+        } catch (BusinessException e) {
+            log.debug("해시 대기열이 가득 차 비밀번호 해시 비용 상향을 다음 로그인으로 미룹니다. (사용자 ID: {})", userId);
+        }
     }
 
+    // 중복 체크는 블룸 필터에 있을 수도 있는 값만 DB에서 확인 (UserAvailabilityIndex)
     public boolean checkDuplicateUsername(String loginId) {
-        return usersRepository.existsByLoginId(loginId);
+        return userAvailabilityIndex.isTaken(UserAvailabilityIndex.Field.LOGIN_ID, loginId);
     }
 
     public boolean checkDuplicateEmail(String email) {
-        return usersRepository.existsByEmail(email);
+        return userAvailabilityIndex.isTaken(UserAvailabilityIndex.Field.EMAIL, email);
     }
 
     public boolean checkDuplicateNickname(String nickname) {
-        return usersRepository.existsByNickname(nickname);
+        return userAvailabilityIndex.isTaken(UserAvailabilityIndex.Field.NICKNAME, nickname);
     }
 }
@@ -1,17 +1,24 @@
 package com.spring.aidea.vibefiction.service;
 
+import com.spring.aidea.vibefiction.dto.response.novel.NovelFeedResponseSH;
 import com.spring.aidea.vibefiction.dto.response.novel.NovelsResponseDtoSH;
 import com.spring.aidea.vibefiction.entity.Novels;
+import com.spring.aidea.vibefiction.global.cache.CacheNames;
 import com.spring.aidea.vibefiction.global.exception.BusinessException;
 import com.spring.aidea.vibefiction.global.exception.ErrorCode;
 import com.spring.aidea.vibefiction.repository.NovelsRepository;
 import com.spring.aidea.vibefiction.repository.custom.NovelsRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 
 @Transactional
@@ -26,16 +33,88 @@ public class MainPageServiceSH {
      */
     private final NovelsRepository novelsRepository;
 
+    /** 메인 피드 한 페이지의 최대 크기입니다. */
+    private static final int MAX_FEED_SIZE = 50;
+    /** 커서 안에서 createdAt과 novelId를 구분하는 문자입니다. */
+    private static final String CURSOR_SEPARATOR = "|";
+
+    /**
+     * 메인 페이지 소설 목록(OFFSET 페이징)을 조회합니다.
+     * 결과는 짧은 TTL의 {@code novelFeed} 캐시에 보관되며, 소설/회차 변경 이벤트로 무효화됩니다.
+     */
+    @Cacheable(cacheNames = CacheNames.NOVEL_FEED, key = "'page:' + #pageable.pageNumber + ':' + #pageable.pageSize")
     public List<NovelsResponseDtoSH> findAllNovels(Pageable pageable) {
 
-        List<Novels> novelList = novelsRepository.findAllNovelsPage(pageable);
+        // DTO Projection + 장르 일괄 조회 (카드마다 작가/장르를 지연 로딩하던 N+1 쿼리 제거)
+        return novelsRepository.findNovelCardsPage(pageable);
+    }
+
+    /**
+     * 메인 피드(무한 스크롤)용으로, 커서 다음의 소설 목록을 최신순으로 조회합니다.
+     * <p>
+     * OFFSET 기반의 {@link #findAllNovels}와 달리, 몇 번째 페이지든 페이지 크기만큼만 읽습니다.
+     * 다음 페이지 존재 여부를 별도의 COUNT 쿼리 없이 판단하기 위해 한 건을 더 조회합니다.
+     * 소설 카드는 DTO Projection과 장르 일괄 조회로 만들어지므로 페이지당 쿼리는 2번입니다.
+     *
+     * @param cursor 이전 응답의 {@code nextCursor}. 첫 페이지는 {@code null} 또는 빈 문자열.
+     * @param size   페이지 크기 (1 ~ {@value #MAX_FEED_SIZE}).
+     * @return 소설 목록과 다음 커서를 담은 {@link NovelFeedResponseSH}.
+     * @throws BusinessException {@code INVALID_INPUT}: 커서 형식이 올바르지 않은 경우.
+     */
+    @Cacheable(cacheNames = CacheNames.NOVEL_FEED, key = "'cursor:' + (#cursor ?: '') + ':' + #size")
+    public NovelFeedResponseSH findNovelsFeed(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorNovelId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String decoded = decodeCursor(cursor);
+            int separator = decoded.lastIndexOf(CURSOR_SEPARATOR);
+            if (separator < 0) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "유효하지 않은 커서입니다.");
+            }
+            try {
+                cursorCreatedAt = LocalDateTime.parse(decoded.substring(0, separator));
+                cursorNovelId = Long.parseLong(decoded.substring(separator + 1));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "유효하지 않은 커서입니다.");
+            }
+        }
 
+        List<NovelsResponseDtoSH> novelList = novelsRepository.findNovelsFeed(cursorCreatedAt, cursorNovelId, pageSize + 1);
+        boolean hasNext = novelList.size() > pageSize;
+        if (hasNext) {
+            novelList = novelList.subList(0, pageSize);
+        }
 
-        return novelList.stream()
-                .map(NovelsResponseDtoSH::from)
-                .toList();
+        return NovelFeedResponseSH.builder()
+                .novels(novelList)
+                .nextCursor(hasNext ? encodeCursor(novelList.get(novelList.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
     }
 
+    /**
+     * 마지막 소설의 (createdAt, novelId)를 URL에 그대로 쓸 수 있는 Base64 문자열로 인코딩합니다.
+     */
+    private String encodeCursor(NovelsResponseDtoSH last) {
+        String raw = last.getCreatedAt() + CURSOR_SEPARATOR + last.getNovelId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 소설 단건(상세)을 조회합니다.
+     * 결과는 소설별로 {@code novelDetail} 캐시에 보관되며, 회차 추가/투표 마감 이벤트로 무효화됩니다.
+     */
+    @Cacheable(cacheNames = CacheNames.NOVEL_DETAIL, key = "#novelId")
     public NovelsResponseDtoSH findNovelById(Long novelId) {
         Novels novels = novelsRepository.findById(novelId)
                 .orElseThrow(() ->new BusinessException(ErrorCode.NOVEL_NOT_FOUND));
@@ -4,24 +4,19 @@ import com.spring.aidea.vibefiction.dto.request.user.UserUpdateRequestSH;
 import com.spring.aidea.vibefiction.dto.response.user.MyPageResponseSH;
 import com.spring.aidea.vibefiction.entity.Novels;
 import com.spring.aidea.vibefiction.entity.Users;
-import com.spring.aidea.vibefiction.global.config.FileUploadConfig;
+import com.spring.aidea.vibefiction.event.UserNicknameChangedEvent;
 import com.spring.aidea.vibefiction.global.exception.BusinessException;
 import com.spring.aidea.vibefiction.global.exception.ErrorCode;
 import com.spring.aidea.vibefiction.repository.NovelsRepository;
 import com.spring.aidea.vibefiction.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.List;
-import java.util.UUID;
 
 @Transactional
 @Service
@@ -31,8 +26,10 @@ public class MyPageServiceSH {
 
     private final NovelsRepository novelsRepository;
     private final UsersRepository usersRepository;
-    private final FileUploadConfig fileUploadConfig;
-    private final PasswordEncoder passwordEncoder; // 추가
+    private final PasswordHasher passwordHasher;
+    private final UserAvailabilityIndex userAvailabilityIndex;
+    private final ProfileImageProcessor profileImageProcessor;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * MYPAGE 렌더링에 필요한 사용자의 정보와 사용자가 참여한 소설리스트를 반환하는 메서드
@@ -68,19 +65,17 @@ public class MyPageServiceSH {
             }
 
             // 현재 비밀번호 검증
-            if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+            if (!PasswordHasher.await(passwordHasher.matches(currentPassword, user.getPassword()))) {
                 throw new BusinessException(ErrorCode.INVALID_PASSWORD);
             }
         }
 
-        String oldProfileImagePath = user.getProfileImageUrl(); // 기존 프로필 이미지 경로
         boolean isUpdated = false;
 
         // 업데이트할 값들을 준비 (기존 값 또는 새 값)
         String newNickname = user.getNickname();
         String newEmail = user.getEmail();
         String newPassword = user.getPassword();
-        String newProfileImageUrl = user.getProfileImageUrl();
 
         // 닉네임 업데이트 체크
         if (updateRequest.getNickname() != null && !updateRequest.getNickname().trim().isEmpty()) {
@@ -99,24 +94,17 @@ public class MyPageServiceSH {
         // 비밀번호 업데이트 체크 (암호화 처리)
         if (updateRequest.getPassword() != null && !updateRequest.getPassword().trim().isEmpty()) {
             // 새 비밀번호 암호화
-            newPassword = passwordEncoder.encode(updateRequest.getPassword().trim());
+            newPassword = PasswordHasher.await(passwordHasher.encode(updateRequest.getPassword().trim()));
             isUpdated = true;
             log.info("비밀번호 업데이트: 사용자ID {}", userId);
         }
 
         // 프로필 이미지 업데이트 체크
+        // 썸네일 변환은 커밋 이후 별도 스레드에서 진행되며, 변환이 끝나면 프로필 이미지 URL이 바뀝니다.
         if (updateRequest.getProfileImage() != null && !updateRequest.getProfileImage().isEmpty()) {
-            try {
-                // 새 프로필 이미지 저장
-                String newProfileImagePath = saveProfileImage(updateRequest.getProfileImage(), userId);
-                newProfileImageUrl = newProfileImagePath;
-                isUpdated = true;
-                log.info("프로필 이미지 업데이트: 사용자ID {} -> {}", userId, newProfileImagePath);
-
-            } catch (Exception e) {
-                log.error("프로필 이미지 업데이트 실패: 사용자ID {}", userId, e);
-                throw new RuntimeException("파일 업로드에 실패했습니다.", e);
-            }
+            validateImageFile(updateRequest.getProfileImage());
+            String newProfileImageUrl = profileImageProcessor.processAfterCommit(userId, updateRequest.getProfileImage());
+            log.info("프로필 이미지 변환 예약: 사용자ID {} -> {}", userId, newProfileImageUrl);
         }
 
         // 변경사항이 있으면 새 객체 생성 후 DB 저장 (빌더 패턴)
@@ -128,7 +116,7 @@ public class MyPageServiceSH {
                 .nickname(newNickname)
                 .email(newEmail)
                 .birthDate(user.getBirthDate())
-                .profileImageUrl(newProfileImageUrl)
+                .profileImageUrl(user.getProfileImageUrl())
                 .role(user.getRole())
                 .status(user.getStatus())
                 .createdAt(user.getCreatedAt())
@@ -144,6 +132,16 @@ public class MyPageServiceSH {
 
             usersRepository.save(updatedUser);
             log.info("사용자 정보 업데이트 완료: 사용자ID {}", userId);
+
+            // 새 닉네임/이메일을 회원가입 중복 체크 필터에 반영 (이전 값은 필터 재구성 때 빠짐)
+            if (!newNickname.equals(user.getNickname())) {
+                userAvailabilityIndex.addAfterCommit(UserAvailabilityIndex.Field.NICKNAME, newNickname);
+                // 작가 닉네임이 담긴 소설 피드/상세 캐시 무효화 (커밋 이후)
+                eventPublisher.publishEvent(new UserNicknameChangedEvent(userId));
+            }
+            if (!newEmail.equals(user.getEmail())) {
+                userAvailabilityIndex.addAfterCommit(UserAvailabilityIndex.Field.EMAIL, newEmail);
+            }
         } else {
             log.info("업데이트할 정보가 없습니다: 사용자ID {}", userId);
         }
@@ -159,58 +157,6 @@ public class MyPageServiceSH {
         updateUserProfile(userId, updateRequest, null);
     }
 
-    /**
-     * 프로필 이미지를 로컬에 저장하고 저장된 파일의 절대경로를 반환합니다.
-     *
-     * @param file 업로드된 이미지 파일
-     * @param userId 사용자 ID
-     * @return 저장된 파일의 절대경로
-     */
-    private String saveProfileImage(MultipartFile file, Long userId) {
-        if (file == null || file.isEmpty()) {
-            throw new IllegalArgumentException("파일이 비어있습니다.");
-        }
-
-        validateImageFile(file);
-
-        try {
-            log.info("=== 파일 저장 시작 ===");
-            log.info("파일 이름: {}", file.getOriginalFilename());
-            log.info("파일 크기: {}", file.getSize());
-
-            // 새 파일명 생성 (UUID + 확장자)
-            String originalFilename = file.getOriginalFilename();
-            String extension = getFileExtension(originalFilename);
-            String newFilename = "profile_" + UUID.randomUUID().toString() + extension;
-
-            // 사용자별 폴더 경로 생성: uploads/1/ , uploads/2/ 형태
-            Path uploadPath = Paths.get(fileUploadConfig.getLocation());
-            Path userPath = uploadPath.resolve(userId.toString()); // 사용자 ID로 폴더 생성
-            Path filePath = userPath.resolve(newFilename);
-
-            log.info("사용자 폴더 경로: {}", userPath.toAbsolutePath());
-            log.info("파일 저장 경로: {}", filePath.toAbsolutePath());
-
-            // 사용자별 디렉토리 생성 (없을 경우)
-            Files.createDirectories(userPath);
-
-            // 파일 저장
-            Files.copy(file.getInputStream(), filePath);
-
-            // 웹 URL 반환: /uploads/1/profile_uuid.jpg
-            String webUrl = "/uploads/" + userId + "/" + newFilename;
-
-            log.info("프로필 이미지 저장 완료 - 사용자ID: {}, 폴더: {}, 파일명: {}, URL: {}",
-                userId, userPath.toAbsolutePath(), newFilename, webUrl);
-
-            return webUrl;
-
-        } catch (IOException e) {
-            log.error("파일 저장 실패 - 사용자ID: {}, 파일명: {}", userId, file.getOriginalFilename(), e);
-            throw new RuntimeException("파일 저장에 실패했습니다.", e);
-        }
-    }
-
     /**
      * 이미지 파일 유효성 검사
      *
@@ -249,17 +195,4 @@ public class MyPageServiceSH {
             contentType.equals("image/gif") ||
             contentType.equals("image/webp");
     }
-
-    /**
-     * 파일 확장자 추출
-     *
-     * @param filename 파일명
-     * @return 확장자 (점 포함)
-     */
-    private String getFileExtension(String filename) {
-        if (filename == null || filename.lastIndexOf('.') == -1) {
-            return ".jpg"; // 기본 확장자
-        }
-        return filename.substring(filename.lastIndexOf('.'));
-    }
 }
@@ -0,0 +1,87 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.spring.aidea.vibefiction.event.ChapterCreatedEvent;
+import com.spring.aidea.vibefiction.event.NovelCreatedEvent;
+import com.spring.aidea.vibefiction.event.UserNicknameChangedEvent;
+import com.spring.aidea.vibefiction.event.VotingFinalizedEvent;
+import com.spring.aidea.vibefiction.global.cache.CacheNames;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 소설 관련 도메인 이벤트를 받아 {@link MainPageServiceSH}의 조회 캐시를 무효화하는 리스너입니다.
+ * <p>
+ * 모든 무효화는 트랜잭션 커밋 이후({@link TransactionPhase#AFTER_COMMIT})에 수행됩니다.
+ * 커밋 전에 지우면, 그 사이에 들어온 조회 요청이 커밋 전의 데이터를 다시 캐시에 채울 수 있기 때문입니다.
+ * 롤백된 트랜잭션의 이벤트는 무시됩니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NovelCacheEvictionListener {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 새 소설이 생기면 피드의 모든 페이지가 한 칸씩 밀리므로 피드 캐시 전체를 비웁니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNovelCreated(NovelCreatedEvent event) {
+        clearFeed();
+    }
+
+    /**
+     * 회차가 추가되면 해당 소설의 상세와, 최종 수정일시가 보이는 피드 캐시를 무효화합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChapterCreated(ChapterCreatedEvent event) {
+        evictDetail(event.novelId());
+        clearFeed();
+    }
+
+    /**
+     * 투표가 마감되면 해당 소설의 상세와 피드 캐시를 무효화합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVotingFinalized(VotingFinalizedEvent event) {
+        evictDetail(event.novelId());
+        clearFeed();
+    }
+
+    /**
+     * 닉네임이 바뀌면 작가명이 담긴 소설 상세와 피드 캐시를 모두 비웁니다.
+     * 그 사용자가 참여한 소설을 모두 찾는 것보다 드물게 일어나는 변경에 맞춰 통째로 비우는 편이 단순합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserNicknameChanged(UserNicknameChangedEvent event) {
+        Cache cache = cacheManager.getCache(CacheNames.NOVEL_DETAIL);
+        if (cache != null) {
+            cache.clear();
+            log.debug("닉네임 변경으로 소설 상세 캐시를 비웠습니다. (사용자 ID: {})", event.userId());
+        }
+        clearFeed();
+    }
+
+    private void evictDetail(Long novelId) {
+        Cache cache = cacheManager.getCache(CacheNames.NOVEL_DETAIL);
+        if (cache != null) {
+            cache.evict(novelId);
+            log.debug("소설 상세 캐시를 무효화했습니다. (소설 ID: {})", novelId);
+        }
+    }
+
+    private void clearFeed() {
+        Cache cache = cacheManager.getCache(CacheNames.NOVEL_FEED);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,384 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.spring.aidea.vibefiction.dto.response.search.SearchHitResponseTj;
+import com.spring.aidea.vibefiction.dto.response.search.SearchResponseTj;
+import com.spring.aidea.vibefiction.entity.Chapters;
+import com.spring.aidea.vibefiction.entity.Novels;
+import com.spring.aidea.vibefiction.global.config.SearchProperties;
+import com.spring.aidea.vibefiction.global.exception.BusinessException;
+import com.spring.aidea.vibefiction.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.LockObtainFailedException;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 소설과 회차를 검색하기 위한 내장 전문 검색 색인(Lucene)입니다.
+ * <p>
+ * <b>[색인 대상]</b>
+ * <ul>
+ *   <li><b>소설 ({@link DocumentType#NOVEL}):</b> 제목, 시놉시스, 장르 이름(한글).</li>
+ *   <li><b>회차 ({@link DocumentType#CHAPTER}):</b> 회차 제목, 본문.</li>
+ * </ul>
+ * 한국어는 형태소 분석기(Nori)로 나누어 색인하므로 "마법사의" 같은 활용형으로도 "마법사"가 찾아집니다.
+ * 공개(PUBLIC) 소설과 그 소설의 게시된 회차만 색인하며, 어떤 문서를 넣고 뺄지는 {@link NovelSearchIndexer}가 정합니다.
+ * <p>
+ * <b>[반영 시점]</b>
+ * 색인한 문서는 {@code search.refresh-interval}(기본 1초) 안에 검색 결과에 나타납니다. (near-real-time)
+ * 문서마다 검색용 reader를 다시 열면 작은 세그먼트가 많이 생기므로 주기적으로 모아서 엽니다.
+ * 디스크 커밋은 {@code search.commit-interval}마다 모아서 수행하며, 정상 종료 시에도 커밋합니다.
+ * 커밋 전에 비정상 종료되면 마지막 커밋 이후의 문서가 빠질 수 있습니다.
+ * <p>
+ * <b>[색인 디렉터리]</b>
+ * Lucene은 한 디렉터리에 {@link IndexWriter}를 하나만 열 수 있습니다. (파일 잠금 {@code write.lock})
+ * 같은 {@code search.index-location}을 쓰는 두 번째 인스턴스(다른 서버 프로세스, 같은 JVM의 두 번째 Spring 컨텍스트 등)는
+ * 시작에 실패하므로, 인스턴스마다 경로를 따로 지정해야 합니다. 테스트는 컨텍스트마다 임시 경로를 씁니다.
+ * <p>
+ * <b>[순위]</b>
+ * BM25 점수에 필드별 가중치(제목 &gt; 장르 &gt; 본문)를 곱해 정렬합니다. 검색어는 분석기를 거쳐 단어(OR)로 나뉘므로
+ * 사용자가 입력한 특수문자가 쿼리 문법으로 해석되지 않습니다.
+ * <p>
+ * <b>[지표]</b> {@code search.index.documents}: 색인된 문서 수.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Slf4j
+@Component
+public class NovelSearchIndex {
+
+    /** 검색 결과의 종류입니다. 색인 문서의 {@value #FIELD_TYPE} 필드 값으로도 쓰입니다. */
+    public enum DocumentType { NOVEL, CHAPTER }
+
+    static final String FIELD_KEY = "key";
+    static final String FIELD_TYPE = "type";
+    static final String FIELD_NOVEL_ID = "novelId";
+    static final String FIELD_NOVEL_TITLE = "novelTitle";
+    static final String FIELD_CHAPTER_ID = "chapterId";
+    static final String FIELD_CHAPTER_NUMBER = "chapterNumber";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_BODY = "body";
+    static final String FIELD_GENRES = "genres";
+    static final String FIELD_PREVIEW = "preview";
+
+    /** 검색 대상 필드와 가중치입니다. */
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+        FIELD_TITLE, 3.0f,
+        FIELD_GENRES, 2.0f,
+        FIELD_BODY, 1.0f
+    );
+
+    private final SearchProperties properties;
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    /** 검색마다 최신 색인을 보는 searcher를 빌려줍니다. {@link #refresh()}가 주기적으로 갱신합니다. */
+    private final SearcherManager searcherManager;
+
+    @Autowired
+    public NovelSearchIndex(SearchProperties properties, MeterRegistry meterRegistry) throws IOException {
+        this(properties, openDirectory(properties.getIndexLocation()));
+
+        Gauge.builder("search.index.documents", writer, w -> w.getDocStats().numDocs)
+            .description("검색 색인에 들어 있는 소설/회차 문서 수")
+            .register(meterRegistry);
+        log.info("검색 색인을 열었습니다. (경로: {}, 문서 수: {})", properties.getIndexLocation(), writer.getDocStats().numDocs);
+    }
+
+    private static Directory openDirectory(String indexLocation) throws IOException {
+        Directory directory = FSDirectory.open(Files.createDirectories(Path.of(indexLocation)));
+        try {
+            // IndexWriter를 열기 전에 잠금만 먼저 시험해, 다른 인스턴스가 쓰고 있으면 원인이 드러나는 메시지로 실패합니다.
+            directory.obtainLock(IndexWriter.WRITE_LOCK_NAME).close();
+            return directory;
+        } catch (LockObtainFailedException e) {
+            directory.close();
+            throw new IllegalStateException("검색 색인 디렉터리를 다른 인스턴스가 사용 중입니다. "
+                + "search.index-location을 인스턴스마다 다르게 지정하세요: " + indexLocation, e);
+        }
+    }
+
+    /** 색인 저장소를 직접 지정합니다. (테스트에서 메모리 저장소를 쓰기 위해 사용) */
+    public NovelSearchIndex(SearchProperties properties, Directory directory) throws IOException {
+        this.properties = properties;
+        this.directory = directory;
+        this.analyzer = new KoreanAnalyzer();
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+            .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    /**
+     * 소설 문서를 추가하거나 교체합니다.
+     *
+     * @param novel 장르({@code novelGenres.genre})가 채워진 소설
+     */
+    public void indexNovel(Novels novel) {
+        Document doc = new Document();
+        doc.add(new StringField(FIELD_KEY, key(DocumentType.NOVEL, novel.getNovelId()), Field.Store.YES));
+        doc.add(new StringField(FIELD_TYPE, DocumentType.NOVEL.name(), Field.Store.YES));
+        doc.add(new StoredField(FIELD_NOVEL_ID, novel.getNovelId()));
+        doc.add(new StoredField(FIELD_NOVEL_TITLE, novel.getTitle()));
+        doc.add(new TextField(FIELD_TITLE, novel.getTitle(), Field.Store.YES));
+        if (novel.getSynopsis() != null) {
+            doc.add(new TextField(FIELD_BODY, novel.getSynopsis(), Field.Store.NO));
+            doc.add(new StoredField(FIELD_PREVIEW, preview(novel.getSynopsis())));
+        }
+        novel.getNovelGenres().stream()
+            .map(ng -> ng.getGenre().getName().getDescription())
+            .sorted()
+            .forEach(genre -> doc.add(new TextField(FIELD_GENRES, genre, Field.Store.YES)));
+
+        update(key(DocumentType.NOVEL, novel.getNovelId()), doc);
+    }
+
+    /**
+     * 회차 문서를 추가하거나 교체합니다.
+     *
+     * @param chapter 소설({@code novel})이 채워진 회차
+     */
+    public void indexChapter(Chapters chapter) {
+        Novels novel = chapter.getNovel();
+
+        Document doc = new Document();
+        doc.add(new StringField(FIELD_KEY, key(DocumentType.CHAPTER, chapter.getChapterId()), Field.Store.YES));
+        doc.add(new StringField(FIELD_TYPE, DocumentType.CHAPTER.name(), Field.Store.YES));
+        doc.add(new StoredField(FIELD_NOVEL_ID, novel.getNovelId()));
+        doc.add(new StoredField(FIELD_NOVEL_TITLE, novel.getTitle()));
+        doc.add(new StoredField(FIELD_CHAPTER_ID, chapter.getChapterId()));
+        doc.add(new StoredField(FIELD_CHAPTER_NUMBER, chapter.getChapterNumber()));
+        doc.add(new TextField(FIELD_TITLE, chapter.getTitle(), Field.Store.YES));
+        // 본문은 길어서 저장하지 않고 색인만 하며, 결과 화면에는 앞부분만 보여줍니다.
+        doc.add(new TextField(FIELD_BODY, chapter.getContent(), Field.Store.NO));
+        doc.add(new StoredField(FIELD_PREVIEW, preview(chapter.getContent())));
+
+        update(key(DocumentType.CHAPTER, chapter.getChapterId()), doc);
+    }
+
+    /**
+     * 문서를 색인에서 뺍니다. 없는 문서면 아무 일도 하지 않습니다.
+     *
+     * @param type 문서 종류
+     * @param id   소설 ID 또는 회차 ID
+     */
+    public void delete(DocumentType type, Long id) {
+        try {
+            writer.deleteDocuments(new Term(FIELD_KEY, key(type, id)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인에서 문서를 지우지 못했습니다: " + key(type, id), e);
+        }
+    }
+
+    /**
+     * 색인이 비어 있는지 확인합니다. (처음 실행이거나 색인 디렉터리를 지운 경우)
+     */
+    public boolean isEmpty() {
+        return writer.getDocStats().numDocs == 0;
+    }
+
+    /**
+     * 검색어와 관련도가 높은 순서로 소설/회차를 찾습니다.
+     *
+     * @param queryText 검색어
+     * @param type      결과 종류 필터. {@code null}이면 소설과 회차를 함께 찾습니다.
+     * @param page      페이지 번호 (0부터 시작)
+     * @param size      페이지 크기
+     * @return 검색 결과 페이지
+     * @throws BusinessException 페이지 번호/크기가 범위를 벗어난 경우 ({@link ErrorCode#INVALID_INPUT})
+     */
+    public SearchResponseTj search(String queryText, DocumentType type, int page, int size) {
+        if (page < 0 || size < 1 || size > properties.getMaxPageSize()
+            || (long) (page + 1) * size > properties.getMaxResultWindow()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        int window = (page + 1) * size;
+
+        Query query = buildQuery(queryText, type);
+        if (query == null) {
+            // 검색어가 특수문자나 조사만으로 이루어져 분석 후 남은 단어가 없는 경우
+            return SearchResponseTj.builder()
+                .query(queryText).page(page).size(size)
+                .totalHits(0).totalHitsExact(true).hasNext(false)
+                .hits(List.of())
+                .build();
+        }
+
+        IndexSearcher searcher = acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, window);
+            StoredFields storedFields = searcher.storedFields();
+
+            List<SearchHitResponseTj> hits = new ArrayList<>(size);
+            for (int i = page * size; i < topDocs.scoreDocs.length; i++) {
+                ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                hits.add(toHit(storedFields.document(scoreDoc.doc), scoreDoc.score));
+            }
+
+            TotalHits totalHits = topDocs.totalHits;
+            return SearchResponseTj.builder()
+                .query(queryText)
+                .page(page)
+                .size(size)
+                .totalHits(totalHits.value)
+                .totalHitsExact(totalHits.relation == TotalHits.Relation.EQUAL_TO)
+                .hasNext(totalHits.value > window && window + size <= properties.getMaxResultWindow())
+                .hits(hits)
+                .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인을 읽지 못했습니다.", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * 마지막 갱신 이후 색인된 문서가 있으면 검색용 reader를 다시 열어 검색 결과에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${search.refresh-interval:PT1S}")
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.error("검색 색인을 갱신하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 마지막 커밋 이후 색인된 문서를 디스크에 커밋합니다.
+     */
+    @Scheduled(fixedDelayString = "${search.commit-interval:PT30S}", initialDelayString = "${search.commit-interval:PT30S}")
+    public void commit() {
+        if (!writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            writer.commit();
+        } catch (IOException e) {
+            log.error("검색 색인을 커밋하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 종료 시 색인을 커밋하고 닫습니다.
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        // IndexWriter는 닫을 때 커밋합니다.
+        writer.close();
+        analyzer.close();
+        directory.close();
+    }
+
+    /**
+     * 검색어를 분석기로 나누어, 필드별 가중치를 준 OR 쿼리로 만듭니다.
+     *
+     * @return 분석 후 남은 단어가 없으면 {@code null}
+     */
+    Query buildQuery(String queryText, DocumentType type) {
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        BooleanQuery.Builder fields = new BooleanQuery.Builder();
+        FIELD_BOOSTS.forEach((field, boost) -> {
+            Query fieldQuery = builder.createBooleanQuery(field, queryText, BooleanClause.Occur.SHOULD);
+            if (fieldQuery != null) {
+                fields.add(new BoostQuery(fieldQuery, boost), BooleanClause.Occur.SHOULD);
+            }
+        });
+        BooleanQuery textQuery = fields.build();
+        if (textQuery.clauses().isEmpty()) {
+            return null;
+        }
+        if (type == null) {
+            return textQuery;
+        }
+        return new BooleanQuery.Builder()
+            .add(textQuery, BooleanClause.Occur.MUST)
+            .add(new TermQuery(new Term(FIELD_TYPE, type.name())), BooleanClause.Occur.FILTER)
+            .build();
+    }
+
+    private void update(String key, Document doc) {
+        try {
+            writer.updateDocument(new Term(FIELD_KEY, key), doc);
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인에 문서를 쓰지 못했습니다: " + key, e);
+        }
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인을 열지 못했습니다.", e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("검색 색인 searcher를 반환하지 못했습니다.", e);
+        }
+    }
+
+    private static SearchHitResponseTj toHit(Document doc, float score) {
+        DocumentType type = DocumentType.valueOf(doc.get(FIELD_TYPE));
+        return SearchHitResponseTj.builder()
+            .type(type.name())
+            .novelId(doc.getField(FIELD_NOVEL_ID).numericValue().longValue())
+            .novelTitle(doc.get(FIELD_NOVEL_TITLE))
+            .chapterId(type == DocumentType.CHAPTER ? doc.getField(FIELD_CHAPTER_ID).numericValue().longValue() : null)
+            .chapterNumber(type == DocumentType.CHAPTER ? doc.getField(FIELD_CHAPTER_NUMBER).numericValue().intValue() : null)
+            .title(doc.get(FIELD_TITLE))
+            .preview(doc.get(FIELD_PREVIEW))
+            .genres(Arrays.asList(doc.getValues(FIELD_GENRES)))
+            .score(score)
+            .build();
+    }
+
+    private String preview(String text) {
+        int limit = properties.getPreviewLength();
+        return text.length() <= limit ? text : text.substring(0, limit) + "…";
+    }
+
+    private static String key(DocumentType type, Long id) {
+        return type.name() + ":" + id;
+    }
+}
@@ -0,0 +1,157 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.spring.aidea.vibefiction.entity.Chapters;
+import com.spring.aidea.vibefiction.entity.Novels;
+import com.spring.aidea.vibefiction.event.ChapterCreatedEvent;
+import com.spring.aidea.vibefiction.event.NovelCreatedEvent;
+import com.spring.aidea.vibefiction.global.config.SearchProperties;
+import com.spring.aidea.vibefiction.repository.ChaptersRepository;
+import com.spring.aidea.vibefiction.repository.NovelsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 소설/회차 도메인 이벤트를 받아 {@link NovelSearchIndex}를 갱신하는 리스너입니다.
+ * <p>
+ * <ul>
+ *   <li><b>증분 색인:</b> 소설/회차가 만들어진 트랜잭션이 커밋된 뒤({@link TransactionPhase#AFTER_COMMIT})
+ *       해당 문서만 DB에서 다시 읽어 색인합니다. (소설은 함께 만들어진 1화 포함)
+ *       색인은 전용 스레드({@code searchIndexExecutor})에서 실행되어 요청 응답을 늦추지 않으며,
+ *       색인에 실패해도 원래 요청에는 영향을 주지 않습니다.</li>
+ *   <li><b>전체 재구성:</b> 애플리케이션이 시작되었을 때 색인이 비어 있으면(첫 실행, 색인 디렉터리 삭제 등)
+ *       모든 소설과 회차를 ID 순서로 나누어 읽어 색인합니다.</li>
+ * </ul>
+ * 비공개(PRIVATE) 소설과 그 회차, 삭제된 회차는 색인하지 않습니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Slf4j
+@Component
+public class NovelSearchIndexer {
+
+    private final NovelSearchIndex novelSearchIndex;
+    private final NovelsRepository novelsRepository;
+    private final ChaptersRepository chaptersRepository;
+    private final SearchProperties properties;
+    private final ThreadPoolTaskExecutor searchIndexExecutor;
+
+    public NovelSearchIndexer(NovelSearchIndex novelSearchIndex,
+                              NovelsRepository novelsRepository,
+                              ChaptersRepository chaptersRepository,
+                              SearchProperties properties,
+                              @Qualifier("searchIndexExecutor") ThreadPoolTaskExecutor searchIndexExecutor) {
+        this.novelSearchIndex = novelSearchIndex;
+        this.novelsRepository = novelsRepository;
+        this.chaptersRepository = chaptersRepository;
+        this.properties = properties;
+        this.searchIndexExecutor = searchIndexExecutor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNovelCreated(NovelCreatedEvent event) {
+        searchIndexExecutor.execute(() -> {
+            try {
+                novelsRepository.findByIdWithDetails(event.novelId()).ifPresent(this::indexNovel);
+                // 소설과 함께 만들어진 1화는 회차 생성 이벤트가 발행되지 않으므로 여기서 함께 색인합니다.
+                chaptersRepository.findWithNovelByNovel_NovelId(event.novelId()).forEach(this::indexChapter);
+            } catch (RuntimeException e) {
+                log.warn("소설을 검색 색인에 반영하지 못했습니다. (소설 ID: {})", event.novelId(), e);
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChapterCreated(ChapterCreatedEvent event) {
+        searchIndexExecutor.execute(() -> {
+            try {
+                chaptersRepository.findWithNovelByChapterId(event.chapterId()).ifPresent(this::indexChapter);
+            } catch (RuntimeException e) {
+                log.warn("회차를 검색 색인에 반영하지 못했습니다. (회차 ID: {})", event.chapterId(), e);
+            }
+        });
+    }
+
+    /**
+     * 색인이 비어 있으면 전용 스레드에서 전체 재구성을 시작합니다. 재구성 중 들어온 이벤트는 그 뒤에 순서대로 반영됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (!novelSearchIndex.isEmpty()) {
+            return;
+        }
+        searchIndexExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("검색 색인을 다시 만들지 못했습니다.", e);
+            }
+        });
+    }
+
+    /**
+     * 모든 소설과 회차를 ID 순서로 {@code search.rebuild-batch-size}개씩 읽어 색인합니다.
+     * 같은 문서는 교체되므로, 이미 색인된 문서가 있어도 다시 실행할 수 있습니다.
+     */
+    void rebuild() {
+        int batchSize = properties.getRebuildBatchSize();
+        long novelCount = 0;
+        long chapterCount = 0;
+
+        long lastNovelId = 0;
+        while (true) {
+            List<Long> novelIds = novelsRepository.findNovelIdsAfter(lastNovelId, PageRequest.of(0, batchSize));
+            if (novelIds.isEmpty()) {
+                break;
+            }
+            for (Novels novel : novelsRepository.findAllWithGenresByIdIn(novelIds)) {
+                indexNovel(novel);
+                novelCount++;
+            }
+            lastNovelId = novelIds.get(novelIds.size() - 1);
+        }
+
+        long lastChapterId = 0;
+        while (true) {
+            List<Chapters> chapters = chaptersRepository.findByChapterIdGreaterThanOrderByChapterIdAsc(
+                lastChapterId, PageRequest.of(0, batchSize));
+            if (chapters.isEmpty()) {
+                break;
+            }
+            for (Chapters chapter : chapters) {
+                indexChapter(chapter);
+                chapterCount++;
+            }
+            lastChapterId = chapters.get(chapters.size() - 1).getChapterId();
+        }
+
+        novelSearchIndex.commit();
+        log.info("검색 색인을 다시 만들었습니다. (소설 {}개, 회차 {}개 확인)", novelCount, chapterCount);
+    }
+
+    private void indexNovel(Novels novel) {
+        if (novel.getVisibility() == Novels.NovelVisibility.PUBLIC) {
+            novelSearchIndex.indexNovel(novel);
+        } else {
+            novelSearchIndex.delete(NovelSearchIndex.DocumentType.NOVEL, novel.getNovelId());
+        }
+    }
+
+    private void indexChapter(Chapters chapter) {
+        if (chapter.getStatus() == Chapters.Status.PUBLISHED
+            && chapter.getNovel().getVisibility() == Novels.NovelVisibility.PUBLIC) {
+            novelSearchIndex.indexChapter(chapter);
+        } else {
+            novelSearchIndex.delete(NovelSearchIndex.DocumentType.CHAPTER, chapter.getChapterId());
+        }
+    }
+}
@@ -6,12 +6,14 @@ import com.spring.aidea.vibefiction.entity.Chapters;
 import com.spring.aidea.vibefiction.entity.Genres;
 import com.spring.aidea.vibefiction.entity.Novels;
 import com.spring.aidea.vibefiction.entity.Users;
+import com.spring.aidea.vibefiction.event.NovelCreatedEvent;
 import com.spring.aidea.vibefiction.global.exception.BusinessException;
 import com.spring.aidea.vibefiction.global.exception.ErrorCode;
 import com.spring.aidea.vibefiction.repository.GenresRepository;
 import com.spring.aidea.vibefiction.repository.NovelsRepository;
 import com.spring.aidea.vibefiction.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +33,8 @@ public class NovelServiceTj {
     private final NovelsRepository novelsRepository;
     private final UsersRepository usersRepository;
     private final GenresRepository genresRepository;
+    private final StoryContextServiceTj storyContextServiceTj;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * [리팩토링] 신규 소설을 생성하고, 정책에 따라 첫 번째 회차(1화)를 함께 생성합니다.
@@ -114,7 +118,13 @@ public class NovelServiceTj {
         // [6. 영속화 (Cascade)]
         novelsRepository.save(novel);
 
-        // [7. 결과 반환]
+        // [7. 스토리 컨텍스트 생성] 1화로 AI 이어쓰기용 스토리 컨텍스트를 초기화합니다.
+        storyContextServiceTj.appendChapter(firstChapter);
+
+        // [8. 이벤트 발행] 커밋 이후 메인 피드 캐시 무효화 등에 사용됩니다.
+        eventPublisher.publishEvent(new NovelCreatedEvent(novel.getNovelId()));
+
+        // [9. 결과 반환]
         return new NovelCreateResponseTj(novel.getNovelId(), firstChapter.getChapterId());
     }
 }
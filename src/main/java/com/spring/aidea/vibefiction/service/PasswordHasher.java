@@ -0,0 +1,121 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.spring.aidea.vibefiction.global.exception.BusinessException;
+import com.spring.aidea.vibefiction.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시(BCrypt) 작업을 요청 스레드(Tomcat worker)에서 떼어내 전용 스레드 풀에서 실행하는 컴포넌트입니다.
+ * <p>
+ * <b>[설계 의도]</b>
+ * BCrypt는 일부러 느리게(수백 ms) 만든 CPU 작업입니다. 로그인이 몰릴 때 이를 모든 Tomcat 스레드에서 동시에 실행하면
+ * CPU가 포화되어 해시와 관계없는 조회 요청까지 느려집니다. 이 컴포넌트는 해시를 크기가 정해진 전용 풀
+ * ({@code passwordHashExecutor})에서만 실행하여 CPU 사용을 제한하고, 대기열까지 가득 차면
+ * {@link ErrorCode#TOO_MANY_REQUESTS}(429)로 빠르게 거절합니다.
+ * <ul>
+ *   <li>로그인은 {@link CompletableFuture}를 그대로 컨트롤러까지 돌려주어 Tomcat 스레드를 기다리게 하지 않습니다.</li>
+ *   <li>회원가입/프로필 변경처럼 트랜잭션 안에서 결과가 필요한 곳은 {@link #await}로 기다립니다.
+ *       이때도 해시를 동시에 실행하는 수는 풀 크기로 제한됩니다.</li>
+ * </ul>
+ * <b>[지표]</b> {@code auth.password.hash{op=encode|matches}}: 대기 시간을 포함한 해시 소요 시간,
+ * {@code auth.password.hash.rejected}: 대기열이 가득 차 거절된 수.
+ * 풀의 대기열 길이와 실행 중 스레드 수는 {@code executor.*{name=passwordHashExecutor}}로 확인합니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor passwordHashExecutor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+                          MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashExecutor = passwordHashExecutor;
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+            .description("대기열이 가득 차 거절된 비밀번호 해시 작업 수")
+            .register(meterRegistry);
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String op) {
+        return Timer.builder("auth.password.hash")
+            .description("비밀번호 해시 소요 시간 (대기 시간 포함)")
+            .tag("op", op)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호를 현재 비용으로 해시합니다.
+     *
+     * @throws BusinessException {@code TOO_MANY_REQUESTS}: 해시 대기열이 가득 찬 경우
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호가 저장된 해시와 일치하는지 확인합니다.
+     *
+     * @throws BusinessException {@code TOO_MANY_REQUESTS}: 해시 대기열이 가득 찬 경우
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 비용이 현재 비용보다 낮아 다시 해시해야 하는지 확인합니다. (해시 계산 없이 바로 판단)
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 해시 작업이 끝날 때까지 기다립니다. 작업 중 발생한 예외는 감싸지 않고 그대로 던집니다.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> task) {
+        Timer.Sample sample = Timer.start();
+        try {
+            return CompletableFuture.supplyAsync(task, passwordHashExecutor)
+                .whenComplete((result, error) -> sample.stop(timer));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해시 대기열이 가득 차 요청을 거절합니다. (실행 중: {}, 대기 중: {})",
+                passwordHashExecutor.getActiveCount(), passwordHashExecutor.getQueueSize());
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+    }
+}
@@ -0,0 +1,443 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.spring.aidea.vibefiction.global.config.FileUploadConfig;
+import com.spring.aidea.vibefiction.global.config.ProfileImageProperties;
+import com.spring.aidea.vibefiction.global.exception.BusinessException;
+import com.spring.aidea.vibefiction.global.exception.ErrorCode;
+import com.spring.aidea.vibefiction.repository.UsersRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드된 프로필 이미지를 화면에 필요한 크기의 썸네일로 바꾸어 저장하는 컴포넌트입니다.
+ * <p>
+ * <b>[설계 의도]</b>
+ * 예전에는 업로드한 원본(최대 5MB)을 그대로 저장해 모든 방문자에게 내려주었습니다. 프로필 사진은 128px로 표시되므로,
+ * 표시 크기에 맞춘 썸네일만 저장하고 내려주면 페이지당 전송량이 수십 분의 일로 줄어듭니다.
+ * <ul>
+ *   <li><b>요청 스레드:</b> 파일 헤더만 읽어 이미지인지, 크기가 {@code max-pixels} 이하인지 확인하고 바로 응답합니다.</li>
+ *   <li><b>변환 스레드({@code imageProcessingExecutor}):</b> 트랜잭션이 커밋된 뒤 원본을 디코딩하여
+ *       가운데를 정사각형으로 잘라 {@code sizes}의 크기마다 JPEG과 WebP로 저장하고, 끝나면 회원의 프로필 이미지 URL을 바꿉니다.
+ *       변환이 끝나기 전까지는 이전 프로필 사진이 보입니다.</li>
+ *   <li>픽셀만 다시 인코딩하므로 EXIF(촬영 위치, 기기 정보 등) 메타데이터는 저장되지 않습니다.
+ *       대신 EXIF의 회전 정보는 픽셀에 미리 반영합니다.</li>
+ *   <li>파일 이름은 원본 내용의 SHA-256 해시({@code profile_{hash}})이므로, 같은 URL의 내용은 바뀌지 않습니다.</li>
+ * </ul>
+ * WebP는 ImageIO에 WebP 인코더가 등록되어 있을 때만 만듭니다. 시작 시 인코딩을 한 번 시험해 보고,
+ * 네이티브 라이브러리를 불러올 수 없는 환경이면 JPEG만 만듭니다. 어떤 파일을 내려줄지는
+ * {@code WebpVariantResourceResolver}가 요청의 {@code Accept} 헤더로 고릅니다.
+ * <p>
+ * <b>[지표]</b> {@code profile.image.processing{outcome=success|failure}}: 변환 소요 시간(대기 시간 제외).
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Slf4j
+@Component
+public class ProfileImageProcessor {
+
+    private static final String JPEG = "image/jpeg";
+    private static final String WEBP = "image/webp";
+
+    private final UsersRepository usersRepository;
+    private final FileUploadConfig fileUploadConfig;
+    private final ProfileImageProperties properties;
+    private final ThreadPoolTaskExecutor imageProcessingExecutor;
+
+    /** WebP 인코더를 실제로 사용할 수 있는지 여부 (시작 시 한 번 확인) */
+    private final boolean webpEnabled;
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    public ProfileImageProcessor(UsersRepository usersRepository,
+                                 FileUploadConfig fileUploadConfig,
+                                 ProfileImageProperties properties,
+                                 @Qualifier("imageProcessingExecutor") ThreadPoolTaskExecutor imageProcessingExecutor,
+                                 MeterRegistry meterRegistry) {
+        this.usersRepository = usersRepository;
+        this.fileUploadConfig = fileUploadConfig;
+        this.properties = properties;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+
+        // 실행 jar 안의 의존성에 들어 있는 ImageIO 플러그인(WebP 등)을 등록하고, 디스크 임시 파일 대신 메모리를 사용합니다.
+        ImageIO.scanForPlugins();
+        ImageIO.setUseCache(false);
+        this.webpEnabled = probeWebpEncoder();
+
+        this.successTimer = processingTimer(meterRegistry, "success");
+        this.failureTimer = processingTimer(meterRegistry, "failure");
+    }
+
+    private static Timer processingTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("profile.image.processing")
+            .description("프로필 이미지 썸네일 변환 소요 시간")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 업로드된 이미지를 확인한 뒤, 현재 트랜잭션이 커밋되면 변환 스레드에서 썸네일을 만들도록 예약합니다.
+     * 트랜잭션 밖에서 호출하면 바로 예약합니다.
+     * <p>
+     * 커밋 전에 변환을 시작하면, 변환이 먼저 끝나 바꾼 URL을 현재 트랜잭션의 회원 정보 저장이 덮어쓸 수 있으므로 커밋 이후에 시작합니다.
+     *
+     * @param userId 사용자 ID
+     * @param file   업로드된 이미지 (형식/파일 크기 검사를 마친 파일)
+     * @return 변환이 끝나면 사용할 프로필 이미지 URL ({@code /uploads/{userId}/profile_{hash}.jpg})
+     * @throws BusinessException {@code INVALID_INPUT}: 읽을 수 없는 이미지이거나 픽셀 수가 너무 많은 경우
+     */
+    public String processAfterCommit(Long userId, MultipartFile file) {
+        byte[] source;
+        try {
+            // 요청이 끝나면 업로드 임시 파일이 지워지므로, 변환 스레드에 넘길 내용을 미리 읽어 둡니다. (최대 5MB)
+            source = file.getBytes();
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "업로드한 파일을 읽을 수 없습니다.");
+        }
+        inspect(source);
+
+        String baseName = "profile_" + contentHash(source);
+        String url = "/uploads/" + userId + "/" + baseName + ".jpg";
+        Runnable task = () -> process(userId, source, baseName, url);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    imageProcessingExecutor.execute(task);
+                }
+            });
+        } else {
+            imageProcessingExecutor.execute(task);
+        }
+        return url;
+    }
+
+    private void process(Long userId, byte[] source, String baseName, String url) {
+        long start = System.nanoTime();
+        try {
+            writeVariants(source, Paths.get(fileUploadConfig.getLocation()).resolve(userId.toString()), baseName);
+            usersRepository.updateProfileImageUrl(userId, url);
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.info("프로필 이미지 변환 완료 - 사용자ID: {}, URL: {}", userId, url);
+        } catch (IOException | RuntimeException e) {
+            failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            // 이전 프로필 사진을 그대로 사용합니다.
+            log.warn("프로필 이미지를 변환하지 못했습니다. (사용자ID: {})", userId, e);
+        }
+    }
+
+    /**
+     * 원본 이미지로 {@code sizes}의 크기마다 썸네일을 만들어 {@code directory}에 저장합니다.
+     * 첫 번째 크기는 {@code {baseName}.jpg}, 나머지는 {@code {baseName}_{size}.jpg}이며,
+     * WebP를 사용할 수 있으면 같은 이름의 {@code .webp}도 만듭니다.
+     */
+    void writeVariants(byte[] source, Path directory, String baseName) throws IOException {
+        List<Integer> sizes = properties.getSizes();
+        BufferedImage decoded = decode(source, Collections.max(sizes));
+        int orientation = readJpegOrientation(source);
+
+        Files.createDirectories(directory);
+        for (int i = 0; i < sizes.size(); i++) {
+            int size = sizes.get(i);
+            BufferedImage thumbnail = orient(resizeSquare(decoded, size), orientation);
+            String name = i == 0 ? baseName : baseName + "_" + size;
+            if (webpEnabled) {
+                write(thumbnail, WEBP, properties.getWebpQuality(), directory.resolve(name + ".webp"));
+            }
+            write(thumbnail, JPEG, properties.getJpegQuality(), directory.resolve(name + ".jpg"));
+        }
+    }
+
+    boolean isWebpEnabled() {
+        return webpEnabled;
+    }
+
+    /**
+     * 디코딩 없이 헤더만 읽어 지원하는 이미지인지, 픽셀 수가 한도 이하인지 확인합니다.
+     */
+    private void inspect(byte[] source) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            ImageReader reader = firstReader(in);
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > properties.getMaxPixels()) {
+                    throw new BusinessException(ErrorCode.INVALID_INPUT, "이미지 해상도가 너무 큽니다.");
+                }
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "이미지 파일을 읽을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 원본을 디코딩합니다. 원본이 목표 크기보다 훨씬 크면 디코딩 단계에서 건너뛰며 읽어(subsampling)
+     * 목표 크기의 2배 이상만 남기므로, 큰 사진도 적은 메모리와 시간으로 읽습니다.
+     */
+    private static BufferedImage decode(byte[] source, int targetSize) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            ImageReader reader = firstReader(in);
+            try {
+                reader.setInput(in, true, true);
+                int side = Math.min(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, side / (targetSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                // 움직이는 GIF는 첫 프레임만 사용합니다.
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static ImageReader firstReader(ImageInputStream in) throws IOException {
+        if (in == null) {
+            throw new IOException("이미지 스트림을 열 수 없습니다.");
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+        if (!readers.hasNext()) {
+            throw new IOException("지원하지 않는 이미지 형식입니다.");
+        }
+        return readers.next();
+    }
+
+    /**
+     * 가운데를 정사각형으로 잘라 {@code size}로 줄입니다. 한 번에 크게 줄이면 계단 현상이 생기므로
+     * 절반씩 여러 번 줄이고(bilinear), 투명 배경은 흰색으로 채웁니다.
+     */
+    static BufferedImage resizeSquare(BufferedImage source, int size) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        BufferedImage current = source.getSubimage(
+            (source.getWidth() - side) / 2, (source.getHeight() - side) / 2, side, side);
+        int currentSize = side;
+        do {
+            currentSize = Math.max(size, currentSize / 2);
+            BufferedImage next = new BufferedImage(currentSize, currentSize, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, currentSize, currentSize);
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, currentSize, currentSize, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (currentSize != size);
+        return current;
+    }
+
+    /**
+     * EXIF 방향 값(1~8)에 따라 정사각형 이미지를 돌리거나 뒤집습니다.
+     * 가운데를 정사각형으로 자른 결과는 회전 전후가 같으므로, 작게 줄인 뒤에 돌려 계산량을 줄입니다.
+     */
+    static BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation <= 1 || orientation > 8) {
+            return image;
+        }
+        int n = image.getWidth();
+        int last = n - 1;
+        BufferedImage rotated = new BufferedImage(n, n, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < n; y++) {
+            for (int x = 0; x < n; x++) {
+                int rgb = switch (orientation) {
+                    case 2 -> image.getRGB(last - x, y);
+                    case 3 -> image.getRGB(last - x, last - y);
+                    case 4 -> image.getRGB(x, last - y);
+                    case 5 -> image.getRGB(y, x);
+                    case 6 -> image.getRGB(y, last - x);
+                    case 7 -> image.getRGB(last - y, last - x);
+                    default -> image.getRGB(last - y, x);
+                };
+                rotated.setRGB(x, y, rgb);
+            }
+        }
+        return rotated;
+    }
+
+    /**
+     * JPEG의 EXIF(APP1) 세그먼트에서 방향(Orientation, 0x0112) 값을 읽습니다.
+     * JPEG이 아니거나 값이 없으면 1(회전 없음)을 반환합니다.
+     */
+    static int readJpegOrientation(byte[] data) {
+        if (data.length < 4 || (data[0] & 0xFF) != 0xFF || (data[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+        int pos = 2;
+        while (pos + 4 <= data.length) {
+            if ((data[pos] & 0xFF) != 0xFF) {
+                return 1;
+            }
+            int marker = data[pos + 1] & 0xFF;
+            if (marker == 0xFF) {
+                pos++;
+                continue;
+            }
+            if (marker == 0xDA || marker == 0xD9) {
+                // 이미지 데이터(SOS)가 시작되면 더 이상 메타데이터 세그먼트가 없습니다.
+                return 1;
+            }
+            int length = readUnsignedShort(data, pos + 2, true);
+            int segment = pos + 4;
+            if (marker == 0xE1 && segment + 6 <= data.length && startsWithExifHeader(data, segment)) {
+                return readTiffOrientation(data, segment + 6, Math.min(data.length, pos + 2 + length));
+            }
+            pos += 2 + length;
+        }
+        return 1;
+    }
+
+    private static boolean startsWithExifHeader(byte[] data, int offset) {
+        return data[offset] == 'E' && data[offset + 1] == 'x' && data[offset + 2] == 'i' && data[offset + 3] == 'f'
+            && data[offset + 4] == 0 && data[offset + 5] == 0;
+    }
+
+    private static int readTiffOrientation(byte[] data, int tiff, int end) {
+        if (tiff + 8 > end) {
+            return 1;
+        }
+        boolean bigEndian;
+        if (data[tiff] == 'M' && data[tiff + 1] == 'M') {
+            bigEndian = true;
+        } else if (data[tiff] == 'I' && data[tiff + 1] == 'I') {
+            bigEndian = false;
+        } else {
+            return 1;
+        }
+        long ifd = tiff + readUnsignedInt(data, tiff + 4, bigEndian);
+        if (ifd + 2 > end) {
+            return 1;
+        }
+        int count = readUnsignedShort(data, (int) ifd, bigEndian);
+        for (int i = 0; i < count; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return 1;
+            }
+            if (readUnsignedShort(data, entry, bigEndian) == 0x0112) {
+                int value = readUnsignedShort(data, entry + 8, bigEndian);
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readUnsignedShort(byte[] data, int offset, boolean bigEndian) {
+        int a = data[offset] & 0xFF;
+        int b = data[offset + 1] & 0xFF;
+        return bigEndian ? (a << 8) | b : (b << 8) | a;
+    }
+
+    private static long readUnsignedInt(byte[] data, int offset, boolean bigEndian) {
+        long high = readUnsignedShort(data, bigEndian ? offset : offset + 2, bigEndian);
+        long low = readUnsignedShort(data, bigEndian ? offset + 2 : offset, bigEndian);
+        return (high << 16) | low;
+    }
+
+    /**
+     * 임시 파일에 인코딩한 뒤 이름을 바꾸어, 쓰는 중인 파일이 내려가지 않게 합니다.
+     */
+    private static void write(BufferedImage image, String mimeType, float quality, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".profile-", ".tmp");
+        try {
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                encode(image, mimeType, quality, out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void encode(BufferedImage image, String mimeType, float quality, ImageOutputStream out)
+        throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByMIMEType(mimeType);
+        if (!writers.hasNext()) {
+            throw new IOException(mimeType + " 인코더가 없습니다.");
+        }
+        ImageWriter writer = writers.next();
+        try {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                String[] types = param.getCompressionTypes();
+                if (types != null && types.length > 0) {
+                    // WebP 인코더는 Lossy/Lossless를 지원하며, 사진에는 손실 압축이 훨씬 작습니다.
+                    param.setCompressionType(Arrays.asList(types).contains("Lossy") ? "Lossy" : types[0]);
+                }
+                param.setCompressionQuality(quality);
+            }
+            // 메타데이터 없이 픽셀만 씁니다.
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private boolean probeWebpEncoder() {
+        if (!ImageIO.getImageWritersByMIMEType(WEBP).hasNext()) {
+            log.warn("WebP 인코더가 없어 프로필 이미지를 JPEG으로만 변환합니다.");
+            return false;
+        }
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(new ByteArrayOutputStream())) {
+            encode(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB), WEBP, properties.getWebpQuality(), out);
+            return true;
+        } catch (IOException | RuntimeException | LinkageError e) {
+            // 네이티브 WebP 라이브러리를 불러올 수 없는 플랫폼
+            log.warn("WebP 인코더를 사용할 수 없어 프로필 이미지를 JPEG으로만 변환합니다.", e);
+            return false;
+        }
+    }
+
+    /** 원본 내용의 SHA-256 앞 16자리(64비트)입니다. 같은 이미지를 다시 올리면 같은 이름이 됩니다. */
+    private static String contentHash(byte[] source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source);
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
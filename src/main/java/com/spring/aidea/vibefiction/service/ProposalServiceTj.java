@@ -7,6 +7,7 @@ import com.spring.aidea.vibefiction.entity.AiInteractionLogs;
 import com.spring.aidea.vibefiction.entity.Chapters;
 import com.spring.aidea.vibefiction.entity.Proposals;
 import com.spring.aidea.vibefiction.entity.Users;
+import com.spring.aidea.vibefiction.event.ProposalCreatedEvent;
 import com.spring.aidea.vibefiction.global.exception.BusinessException;
 import com.spring.aidea.vibefiction.global.exception.ErrorCode;
 import com.spring.aidea.vibefiction.repository.AiInteractionLogsRepository;
@@ -14,6 +15,7 @@ import com.spring.aidea.vibefiction.repository.ChaptersRepository;
 import com.spring.aidea.vibefiction.repository.ProposalsRepository;
 import com.spring.aidea.vibefiction.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,11 +44,15 @@ public class ProposalServiceTj {
     private final UsersRepository usersRepository;
     /** 제안의 출처가 되는 AI 상호작용 로그({@link AiInteractionLogs})를 조회하고 연결하기 위해 사용됩니다. */
     private final AiInteractionLogsRepository aiInteractionLogsRepository;
+    /** 아직 기록되지 않은 AI 로그를 제안 등록 전에 기록하기 위해 사용됩니다. */
+    private final AiInteractionLogSink aiInteractionLogSink;
     /**
      투표 마감일(voteDeadline) 설정 로직을 위해 VoteServiceMj 추가
      @songeky06(송민재)
      */
     private final VoteServiceMj voteServiceMj;
+    /** 제안 등록 이벤트({@link ProposalCreatedEvent})를 발행하기 위해 사용됩니다. */
+    private final ApplicationEventPublisher eventPublisher;
     /**
      * 새로운 이어쓰기 제안을 생성하고, 필요 시 AI 상호작용 로그와 연결합니다.
      * <p>
@@ -61,6 +67,12 @@ public class ProposalServiceTj {
      */
     @Transactional
     public ProposalCreateResponseTj create(Long chapterId, Long proposerId, ProposalCreateRequestTj req) {
+        // [0. AI 로그 기록 보장] 방금 받은 AI 로그가 아직 기록 대기 중이면 먼저 기록합니다.
+        // 이 트랜잭션의 첫 조회보다 먼저 커밋되어야 아래 조회에서 보입니다.
+        if (req.getAiLogId() != null) {
+            aiInteractionLogSink.flushIfPending(req.getAiLogId());
+        }
+
         // [1. 선행 조건 검증: 연관 엔티티 조회]
         Users proposer = usersRepository.findById(proposerId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -93,8 +105,10 @@ public class ProposalServiceTj {
         // ✅ [추가] chapter 엔티티에서 novelId를 가져옵니다.
         Long novelId = chapter.getNovel().getNovelId();
 
+        // [5. 이벤트 발행] 커밋 이후 투표 순위표 갱신 등에 사용됩니다.
+        eventPublisher.publishEvent(new ProposalCreatedEvent(novelId, chapterId, proposal.getProposalId()));
 
-        // [5. 결과 반환] 클라이언트에게 생성된 리소스의 고유 ID를 전달
+        // [6. 결과 반환] 클라이언트에게 생성된 리소스의 고유 ID를 전달
         return new ProposalCreateResponseTj(proposal.getProposalId(), novelId);
     }
 
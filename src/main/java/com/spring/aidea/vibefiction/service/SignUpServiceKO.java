@@ -8,7 +8,7 @@ import com.spring.aidea.vibefiction.global.exception.ErrorCode;
 import com.spring.aidea.vibefiction.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,24 +23,26 @@ import org.springframework.transaction.annotation.Transactional;
 public class SignUpServiceKO {
 
     private final UsersRepository usersRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final UserAvailabilityIndex userAvailabilityIndex;
 
     @Transactional
     public UserResponseKO signUp(SignUpRequestKO requestDto) {
 
-        // 1. 중복 검사
-        if (usersRepository.existsByLoginId(requestDto.getLoginId())) {
+        // 1. 중복 검사 (블룸 필터에 있을 수도 있는 값만 DB에서 확인)
+        if (userAvailabilityIndex.isTaken(UserAvailabilityIndex.Field.LOGIN_ID, requestDto.getLoginId())) {
             throw new BusinessException(ErrorCode.DUPLICATE_USERNAME);
         }
-        if (usersRepository.existsByEmail(requestDto.getEmail())) {
+        if (userAvailabilityIndex.isTaken(UserAvailabilityIndex.Field.EMAIL, requestDto.getEmail())) {
             throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
         }
-        if (usersRepository.existsByNickname(requestDto.getNickname())) {
-            throw new BusinessException(ErrorCode.DUPLICATE_USERNAME);
+        if (userAvailabilityIndex.isTaken(UserAvailabilityIndex.Field.NICKNAME, requestDto.getNickname())) {
+            throw new BusinessException(ErrorCode.DUPLICATE_NICKNAME);
         }
 
         // 2. 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(requestDto.getPassword());
+        // 해시는 전용 스레드에서 실행 (동시 실행 수 제한), 저장을 위해 결과를 기다림
+        String encodedPassword = PasswordHasher.await(passwordHasher.encode(requestDto.getPassword()));
 
         // 3. DTO를 Users 엔티티로 변환
         Users newUser = Users.builder()
@@ -52,9 +54,20 @@ public class SignUpServiceKO {
                 .build();
 
         // 4. 리포지토리를 통해 DB에 저장
-        Users saved = usersRepository.save(newUser);
+        // 같은 값으로 동시에 가입한 경우 위의 검사를 함께 통과할 수 있으므로, 최종 판단은 DB의 UNIQUE 제약에 맡김
+        Users saved;
+        try {
+            saved = usersRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(ErrorCode.DUPLICATE_RESOURCE);
+        }
         log.info("새로운 사용자 가입{}",saved);
 
+        // 5. 커밋 이후 중복 체크 필터에 새 값 추가
+        userAvailabilityIndex.addAfterCommit(UserAvailabilityIndex.Field.LOGIN_ID, saved.getLoginId());
+        userAvailabilityIndex.addAfterCommit(UserAvailabilityIndex.Field.EMAIL, saved.getEmail());
+        userAvailabilityIndex.addAfterCommit(UserAvailabilityIndex.Field.NICKNAME, saved.getNickname());
+
         return UserResponseKO.from(saved);
     }
     }
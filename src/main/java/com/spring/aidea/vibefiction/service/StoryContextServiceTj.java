@@ -0,0 +1,182 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.spring.aidea.vibefiction.entity.Chapters;
+import com.spring.aidea.vibefiction.entity.NovelStoryContexts;
+import com.spring.aidea.vibefiction.entity.Novels;
+import com.spring.aidea.vibefiction.repository.ChaptersRepository;
+import com.spring.aidea.vibefiction.repository.NovelStoryContextsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * AI 이어쓰기 프롬프트에 들어갈 소설별 스토리 컨텍스트({@link NovelStoryContexts})를 관리하는 서비스입니다.
+ * <p>
+ * 컨텍스트는 "오래된 회차들의 누적 요약 + 최근 {@value #RECENT_CHAPTER_COUNT}개 회차의 원문"으로 구성됩니다.
+ * <ul>
+ *   <li><b>쓰기 시점:</b> 회차가 추가될 때 {@link #appendChapter}가 호출되어, 최근 구간에서 밀려난 회차 하나를
+ *       요약에 덧붙이고 최근 구간만 다시 구성합니다. 전체 회차를 다시 읽지 않습니다.</li>
+ *   <li><b>읽기 시점:</b> AI 요청은 {@link #getStoryContext}로 미리 계산된 레코드 하나만 읽습니다.
+ *       이 기능 이전에 만들어진 소설처럼 컨텍스트가 없거나 뒤처진 경우에만 전체 회차로 한 번 다시 만듭니다.</li>
+ * </ul>
+ * 요약은 AI 호출 없이 각 회차의 제목과 본문 앞부분을 발췌하여 만들며, 전체 길이가
+ * {@value #MAX_SUMMARY_LENGTH}자를 넘으면 1화(작품의 도입부)를 남기고 오래된 줄부터 덜어냅니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoryContextServiceTj {
+
+    /** 원문 그대로 컨텍스트에 포함할 최근 회차 수입니다. */
+    static final int RECENT_CHAPTER_COUNT = 3;
+    /** 요약에 넣을 회차 본문 발췌 길이(자)입니다. */
+    static final int DIGEST_LENGTH = 300;
+    /** 누적 요약의 최대 길이(자)입니다. */
+    static final int MAX_SUMMARY_LENGTH = 8000;
+
+    /** 회차 사이를 구분하기 위해 사용하는 구분자입니다. 기존 프롬프트 형식과 동일합니다. */
+    private static final String CHAPTER_SEPARATOR = "\n\n---\n\n";
+
+    private final NovelStoryContextsRepository novelStoryContextsRepository;
+    private final ChaptersRepository chaptersRepository;
+
+    /**
+     * 새로 추가된 회차를 소설의 스토리 컨텍스트에 반영합니다.
+     * <p>
+     * 회차를 저장한 트랜잭션 안에서 호출되어야 하며, 회차 저장과 함께 커밋됩니다.
+     * 기존 컨텍스트가 직전 회차까지 반영된 상태라면 최근 {@value #RECENT_CHAPTER_COUNT}+1개 회차만 읽어 점진적으로 갱신하고,
+     * 그렇지 않으면 전체 회차로 다시 만듭니다.
+     *
+     * @param newChapter 방금 저장된 새 회차.
+     */
+    @Transactional
+    public void appendChapter(Chapters newChapter) {
+        Novels novel = newChapter.getNovel();
+        int newNumber = newChapter.getChapterNumber();
+
+        NovelStoryContexts context = novelStoryContextsRepository.findById(novel.getNovelId()).orElse(null);
+        if (context == null || context.getLastChapterNumber() != newNumber - 1) {
+            rebuild(novel, context);
+            return;
+        }
+
+        // 최근 구간에서 밀려나는 회차(newNumber - N)부터 새 회차까지만 조회
+        List<Chapters> window = chaptersRepository
+            .findByNovel_NovelIdAndChapterNumberGreaterThanEqualOrderByChapterNumberAsc(
+                novel.getNovelId(), newNumber - RECENT_CHAPTER_COUNT);
+
+        String summary = context.getSummary();
+        if (!window.isEmpty() && window.get(0).getChapterNumber() == newNumber - RECENT_CHAPTER_COUNT) {
+            summary = appendDigest(summary, toDigest(window.get(0)));
+            window = window.subList(1, window.size());
+        }
+
+        context.update(summary, formatChapters(window), newNumber);
+        log.debug("스토리 컨텍스트를 갱신했습니다. (소설 ID: {}, 마지막 회차: {})", novel.getNovelId(), newNumber);
+    }
+
+    /**
+     * AI 프롬프트에 사용할 스토리 컨텍스트 문자열을 반환합니다.
+     * <p>
+     * 컨텍스트가 없거나 기준 회차보다 뒤처진 경우에는 전체 회차로 다시 만들어 저장한 뒤 반환합니다.
+     *
+     * @param baseChapter 이어쓰기의 기준이 되는 회차.
+     * @return 누적 요약과 최근 회차 원문이 조합된 컨텍스트 문자열.
+     */
+    @Transactional
+    public String getStoryContext(Chapters baseChapter) {
+        Novels novel = baseChapter.getNovel();
+        NovelStoryContexts context = novelStoryContextsRepository.findById(novel.getNovelId()).orElse(null);
+        if (context == null || context.getLastChapterNumber() < baseChapter.getChapterNumber()) {
+            context = rebuild(novel, context);
+        }
+
+        if (context.getSummary().isEmpty()) {
+            return context.getRecentChapters();
+        }
+        return "[이전 회차 요약]\n" + context.getSummary() + CHAPTER_SEPARATOR + context.getRecentChapters();
+    }
+
+    /**
+     * 소설의 전체 회차를 읽어 스토리 컨텍스트를 처음부터 다시 만듭니다.
+     *
+     * @param novel   대상 소설.
+     * @param context 기존 컨텍스트. 없으면 {@code null}이며, 이 경우 새로 생성하여 저장합니다.
+     * @return 다시 만들어진 컨텍스트.
+     */
+    private NovelStoryContexts rebuild(Novels novel, NovelStoryContexts context) {
+        List<Chapters> chapters = chaptersRepository.findByNovel_NovelIdOrderByChapterNumberAsc(novel.getNovelId());
+
+        int recentFrom = Math.max(0, chapters.size() - RECENT_CHAPTER_COUNT);
+        String summary = "";
+        for (Chapters chapter : chapters.subList(0, recentFrom)) {
+            summary = appendDigest(summary, toDigest(chapter));
+        }
+        String recentChapters = formatChapters(chapters.subList(recentFrom, chapters.size()));
+        int lastChapterNumber = chapters.isEmpty() ? 0 : chapters.get(chapters.size() - 1).getChapterNumber();
+
+        log.info("스토리 컨텍스트를 전체 회차로 다시 만듭니다. (소설 ID: {}, 회차 수: {})", novel.getNovelId(), chapters.size());
+        if (context == null) {
+            return novelStoryContextsRepository.save(NovelStoryContexts.builder()
+                .novel(novel)
+                .summary(summary)
+                .recentChapters(recentChapters)
+                .lastChapterNumber(lastChapterNumber)
+                .build());
+        }
+        context.update(summary, recentChapters, lastChapterNumber);
+        return context;
+    }
+
+    /**
+     * 회차 목록을 AI가 읽기 쉬운 형식("제N화: 제목\n본문")으로 이어 붙입니다.
+     */
+    static String formatChapters(List<Chapters> chapters) {
+        return chapters.stream()
+            .map(c -> String.format("제%d화: %s\n%s", c.getChapterNumber(), c.getTitle(), c.getContent()))
+            .collect(Collectors.joining(CHAPTER_SEPARATOR));
+    }
+
+    /**
+     * 회차 하나를 요약 한 줄로 만듭니다. 본문의 공백을 정리한 뒤 앞부분 {@value #DIGEST_LENGTH}자를 발췌합니다.
+     */
+    static String toDigest(Chapters chapter) {
+        String body = chapter.getContent().replaceAll("\\s+", " ").trim();
+        if (body.length() > DIGEST_LENGTH) {
+            body = body.substring(0, DIGEST_LENGTH) + "…";
+        }
+        return String.format("제%d화 「%s」: %s", chapter.getChapterNumber(), chapter.getTitle(), body);
+    }
+
+    /**
+     * 누적 요약 끝에 한 줄을 덧붙입니다. 최대 길이를 넘으면 첫 줄(1화)을 남기고 그다음 줄부터 덜어냅니다.
+     */
+    static String appendDigest(String summary, String digest) {
+        String appended = summary.isEmpty() ? digest : summary + "\n" + digest;
+        if (appended.length() <= MAX_SUMMARY_LENGTH) {
+            return appended;
+        }
+
+        int firstLineEnd = appended.indexOf('\n');
+        if (firstLineEnd < 0) {
+            return appended;
+        }
+        String firstLine = appended.substring(0, firstLineEnd);
+        String rest = appended.substring(firstLineEnd + 1);
+        while (firstLine.length() + 1 + rest.length() > MAX_SUMMARY_LENGTH) {
+            int nextLine = rest.indexOf('\n');
+            if (nextLine < 0) {
+                break;
+            }
+            rest = rest.substring(nextLine + 1);
+        }
+        return firstLine + "\n" + rest;
+    }
+}
@@ -0,0 +1,235 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.spring.aidea.vibefiction.dto.response.user.AvailabilityResponseKO;
+import com.spring.aidea.vibefiction.global.cache.BloomFilter;
+import com.spring.aidea.vibefiction.global.common.FixedWindowRateLimiter;
+import com.spring.aidea.vibefiction.global.config.UserAvailabilityProperties;
+import com.spring.aidea.vibefiction.global.exception.BusinessException;
+import com.spring.aidea.vibefiction.global.exception.ErrorCode;
+import com.spring.aidea.vibefiction.repository.UsersRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원가입 시 아이디/이메일/닉네임이 이미 사용 중인지 빠르게 판단하는 인덱스입니다.
+ * <p>
+ * <b>[동작 방식]</b>
+ * <ul>
+ *   <li>필드별 {@link BloomFilter}에 사용 중인 값을 담아 두고, 필터에 <b>없으면</b> DB를 조회하지 않고 사용 가능으로 답합니다.
+ *       필터에 있을 수도 있으면(오탐 포함) DB의 {@code existsBy...}로 확인합니다.
+ *       입력 중인 값은 대부분 사용 가능한 값이므로, 실시간 중복 체크 요청 대부분이 DB에 닿지 않습니다.</li>
+ *   <li>가입/프로필 변경으로 새 값이 생기면 커밋 이후 필터에 추가합니다. ({@link #addAfterCommit})</li>
+ *   <li>필터는 값을 지울 수 없으므로, 프로필 변경으로 풀린 값과 회원 수 증가에 맞춘 크기 조정을 위해
+ *       {@code auth.availability.rebuild-interval}마다 DB에서 다시 만듭니다. 시작 직후 첫 필터가 만들어지기 전까지는 DB로 확인합니다.</li>
+ * </ul>
+ * DB 컬럼의 대소문자 무시 비교(collation)와 맞추기 위해, 필터에는 앞뒤 공백을 없애고 소문자로 바꾼 값을 넣습니다.
+ * 필터는 판단을 빠르게 할 뿐 최종 보장은 아니며, 동시에 같은 값으로 가입하는 경우는 DB의 UNIQUE 제약이 막습니다.
+ * <p>
+ * <b>[지표]</b> {@code auth.availability.checks{result=filtered|taken|false_positive}}:
+ * 필터만으로 답한 수 / DB 확인 결과 사용 중 / DB 확인 결과 사용 가능(오탐).
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Slf4j
+@Component
+public class UserAvailabilityIndex {
+
+    /** 중복 검사 대상 필드입니다. */
+    public enum Field { LOGIN_ID, EMAIL, NICKNAME }
+
+    private final UsersRepository usersRepository;
+    private final UserAvailabilityProperties properties;
+    /** 일괄 확인 API의 클라이언트별 호출 제한기입니다. */
+    private final FixedWindowRateLimiter batchLimiter;
+
+    /** 현재 사용 중인 필터. 첫 재구성이 끝나기 전에는 {@code null}이며, 이때는 항상 DB로 확인합니다. */
+    private volatile Filters filters;
+    /** 재구성 중에 추가된 값. 재구성이 DB를 읽은 뒤에 커밋된 값을 새 필터에 옮겨 담기 위해 사용합니다. */
+    private volatile Set<String> addedDuringRebuild;
+
+    private final Counter filteredCounter;
+    private final Counter takenCounter;
+    private final Counter falsePositiveCounter;
+
+    public UserAvailabilityIndex(UsersRepository usersRepository, UserAvailabilityProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.usersRepository = usersRepository;
+        this.properties = properties;
+        this.batchLimiter = new FixedWindowRateLimiter(properties.getBatchRequestsPerMinute(), Duration.ofMinutes(1));
+
+        this.filteredCounter = checkCounter(meterRegistry, "filtered");
+        this.takenCounter = checkCounter(meterRegistry, "taken");
+        this.falsePositiveCounter = checkCounter(meterRegistry, "false_positive");
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.availability.checks")
+            .description("회원가입 중복 체크 결과 (filtered: DB 조회 없이 사용 가능)")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 값이 이미 사용 중인지 확인합니다. 필터가 확실히 없다고 하면 DB를 조회하지 않습니다.
+     *
+     * @param field 확인할 필드
+     * @param value 사용자가 입력한 값
+     * @return 이미 사용 중이면 {@code true}
+     */
+    public boolean isTaken(Field field, String value) {
+        Filters current = filters;
+        if (current != null && !current.of(field).mightContain(normalize(value))) {
+            filteredCounter.increment();
+            return false;
+        }
+
+        boolean taken = switch (field) {
+            case LOGIN_ID -> usersRepository.existsByLoginId(value);
+            case EMAIL -> usersRepository.existsByEmail(value);
+            case NICKNAME -> usersRepository.existsByNickname(value);
+        };
+        if (taken) {
+            takenCounter.increment();
+        } else if (current != null) {
+            falsePositiveCounter.increment();
+        }
+        return taken;
+    }
+
+    /**
+     * 여러 필드를 한 번에 확인합니다. 클라이언트별로 분당 {@code auth.availability.batch-requests-per-minute}회까지 허용합니다.
+     *
+     * @param clientKey 호출 제한 단위 (클라이언트 IP)
+     * @param loginId   확인할 아이디 (선택)
+     * @param email     확인할 이메일 (선택)
+     * @param nickname  확인할 닉네임 (선택)
+     * @return 요청한 필드별 사용 중 여부
+     * @throws BusinessException 확인할 값이 하나도 없거나({@link ErrorCode#INVALID_INPUT}),
+     *                           호출 한도를 넘은 경우({@link ErrorCode#TOO_MANY_REQUESTS})
+     */
+    public AvailabilityResponseKO checkAll(String clientKey, String loginId, String email, String nickname) {
+        if (isBlank(loginId) && isBlank(email) && isBlank(nickname)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        if (!batchLimiter.tryAcquire(clientKey)) {
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+        return AvailabilityResponseKO.builder()
+            .loginIdTaken(isBlank(loginId) ? null : isTaken(Field.LOGIN_ID, loginId))
+            .emailTaken(isBlank(email) ? null : isTaken(Field.EMAIL, email))
+            .nicknameTaken(isBlank(nickname) ? null : isTaken(Field.NICKNAME, nickname))
+            .build();
+    }
+
+    /**
+     * 새로 사용하게 된 값을 현재 트랜잭션이 커밋된 뒤 필터에 추가합니다. 트랜잭션 밖에서 호출하면 바로 추가합니다.
+     * <p>
+     * 커밋 전에 추가하면, 재구성이 아직 커밋되지 않은 행을 읽지 못한 채 이 값을 놓칠 수 있으므로 커밋 이후에 추가합니다.
+     *
+     * @param field 필드
+     * @param value 새로 사용하게 된 값
+     */
+    public void addAfterCommit(Field field, String value) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(field, value);
+                }
+            });
+        } else {
+            add(field, value);
+        }
+    }
+
+    void add(Field field, String value) {
+        String normalized = normalize(value);
+        // 재구성 기록을 먼저 남긴 뒤 필터에 넣어야, 재구성이 필터를 교체하는 사이에 추가된 값도 새 필터에 옮겨집니다.
+        Set<String> pending = addedDuringRebuild;
+        if (pending != null) {
+            pending.add(field.name() + ":" + normalized);
+        }
+        Filters current = filters;
+        if (current != null) {
+            current.of(field).put(normalized);
+        }
+    }
+
+    /**
+     * 모든 회원의 아이디/이메일/닉네임으로 필터를 새로 만들어 교체합니다.
+     * 시작 직후 한 번 실행되고, 이후 {@code auth.availability.rebuild-interval}마다 실행됩니다.
+     */
+    @Scheduled(fixedDelayString = "${auth.availability.rebuild-interval:PT6H}")
+    public void rebuild() {
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        addedDuringRebuild = pending;
+        try {
+            long expected = Math.max(properties.getExpectedInsertions(), usersRepository.count() * 2);
+            Filters next = new Filters(
+                new BloomFilter(expected, properties.getFalsePositiveProbability()),
+                new BloomFilter(expected, properties.getFalsePositiveProbability()),
+                new BloomFilter(expected, properties.getFalsePositiveProbability()));
+
+            long lastUserId = 0;
+            long count = 0;
+            while (true) {
+                List<UsersRepository.Identifiers> batch = usersRepository.findByUserIdGreaterThanOrderByUserIdAsc(
+                    lastUserId, PageRequest.of(0, properties.getRebuildBatchSize()));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (UsersRepository.Identifiers user : batch) {
+                    next.loginIds().put(normalize(user.getLoginId()));
+                    next.emails().put(normalize(user.getEmail()));
+                    next.nicknames().put(normalize(user.getNickname()));
+                }
+                count += batch.size();
+                lastUserId = batch.get(batch.size() - 1).getUserId();
+            }
+
+            filters = next;
+            addedDuringRebuild = null;
+            for (String entry : pending) {
+                int separator = entry.indexOf(':');
+                next.of(Field.valueOf(entry.substring(0, separator))).put(entry.substring(separator + 1));
+            }
+            log.info("회원가입 중복 체크 필터를 만들었습니다. (회원 {}명, 필드당 {}비트, 해시 {}개)",
+                count, next.loginIds().bitSize(), next.loginIds().hashCount());
+        } catch (RuntimeException e) {
+            addedDuringRebuild = null;
+            // 기존 필터(또는 DB 확인)를 그대로 사용하고 다음 주기에 다시 시도합니다.
+            log.error("회원가입 중복 체크 필터를 만들지 못했습니다.", e);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private record Filters(BloomFilter loginIds, BloomFilter emails, BloomFilter nicknames) {
+        BloomFilter of(Field field) {
+            return switch (field) {
+                case LOGIN_ID -> loginIds;
+                case EMAIL -> emails;
+                case NICKNAME -> nicknames;
+            };
+        }
+    }
+}
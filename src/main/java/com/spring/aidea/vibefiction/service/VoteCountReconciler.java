@@ -0,0 +1,50 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.spring.aidea.vibefiction.event.VoteCountsReconciledEvent;
+import com.spring.aidea.vibefiction.repository.ProposalsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 제안의 투표 수({@code proposals.vote_count})를 투표 기록({@code votes})과 주기적으로 맞추는 보정 작업입니다.
+ * <p>
+ * 투표 수는 {@link VoteServiceMj}에서 원자적 UPDATE로 증감되지만, 트랜잭션 밖의 장애나 수동 데이터 수정으로
+ * 어긋날 가능성이 남아 있습니다. {@code votes} 테이블을 원본으로 보고, 투표가 진행 중인 제안만 다시 집계합니다.
+ * 보정한 회차는 {@link VoteCountsReconciledEvent}로 알려, 메모리 순위표({@link VoteLeaderboard})가 다시 만들어지게 합니다.
+ * 실행 주기는 {@code vote.reconcile.fixed-delay}로 설정합니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteCountReconciler {
+
+    private final ProposalsRepository proposalsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 투표 진행 중인 제안 중 투표 수가 어긋난 제안을 찾아 보정합니다.
+     */
+    @Scheduled(fixedDelayString = "${vote.reconcile.fixed-delay:PT10M}",
+        initialDelayString = "${vote.reconcile.initial-delay:PT1M}")
+    @Transactional
+    public void reconcile() {
+        List<Long> chapterIds = proposalsRepository.findChapterIdsWithDriftedVoteCounts();
+        if (chapterIds.isEmpty()) {
+            return;
+        }
+        int repaired = proposalsRepository.reconcileVotingVoteCounts();
+        log.warn("투표 수가 투표 기록과 달라 {}건의 제안을 보정했습니다. (회차 ID: {})", repaired, chapterIds);
+
+        // 커밋 이후 해당 회차의 메모리 순위표를 다시 만들도록 알림 (VoteLeaderboard)
+        eventPublisher.publishEvent(new VoteCountsReconciledEvent(chapterIds));
+    }
+}
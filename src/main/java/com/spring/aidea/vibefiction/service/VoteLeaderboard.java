@@ -0,0 +1,197 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spring.aidea.vibefiction.dto.response.vote.VoteProposalResponseMj;
+import com.spring.aidea.vibefiction.entity.Chapters;
+import com.spring.aidea.vibefiction.entity.Proposals;
+import com.spring.aidea.vibefiction.event.ProposalCreatedEvent;
+import com.spring.aidea.vibefiction.event.VoteChangedEvent;
+import com.spring.aidea.vibefiction.event.VoteCountsReconciledEvent;
+import com.spring.aidea.vibefiction.event.VotingFinalizedEvent;
+import com.spring.aidea.vibefiction.global.config.VoteLeaderboardProperties;
+import com.spring.aidea.vibefiction.global.exception.BusinessException;
+import com.spring.aidea.vibefiction.global.exception.ErrorCode;
+import com.spring.aidea.vibefiction.repository.ChaptersRepository;
+import com.spring.aidea.vibefiction.repository.ProposalsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 회차별 제안 투표 순위표를 메모리에 유지하는 컴포넌트입니다.
+ * <p>
+ * <b>[설계 의도]</b>
+ * 투표 페이지는 순위를 계속 다시 조회(polling)하므로, 요청마다 제안을 투표 수로 정렬하는 쿼리를 실행하지 않도록
+ * 회차마다 투표 수 내림차순으로 정렬된 순위표를 메모리에 두고 투표/취소 이벤트로 증분 갱신합니다.
+ * <ul>
+ *   <li><b>조회:</b> 정렬된 순위표에서 필요한 구간만 꺼내므로 DB 조회 없이 O(offset + K)로 응답합니다.</li>
+ *   <li><b>갱신:</b> 투표/취소가 커밋된 뒤 해당 제안의 순위만 옮깁니다(O(log N)). 새 제안 등록과 투표 마감 시에는
+ *       해당 회차의 순위표를 버리고 다음 조회 때 다시 만듭니다.</li>
+ *   <li><b>재구성:</b> 순위표가 없으면(서버 재시작, 만료 등) {@link Proposals}에서 다시 만듭니다.
+ *       재구성 도중 커밋된 투표는 반영이 누락될 수 있으므로, {@code vote.leaderboard.rebuild-interval}마다
+ *       DB 기준으로 다시 만들어 오차를 바로잡습니다.</li>
+ * </ul>
+ * 순위표는 인스턴스마다 따로 유지되며, 다른 인스턴스의 투표는 재구성 주기 안에 반영됩니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Component
+public class VoteLeaderboard {
+
+    /** Micrometer 지표에 사용되는 캐시 이름입니다. */
+    private static final String CACHE_NAME = "voteLeaderboard";
+
+    private final ChaptersRepository chaptersRepository;
+    private final ProposalsRepository proposalsRepository;
+    private final Cache<Long, ChapterBoard> boards;
+
+    public VoteLeaderboard(ChaptersRepository chaptersRepository, ProposalsRepository proposalsRepository,
+                           VoteLeaderboardProperties properties, MeterRegistry meterRegistry) {
+        this.chaptersRepository = chaptersRepository;
+        this.proposalsRepository = proposalsRepository;
+        this.boards = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumChapters())
+            .expireAfterAccess(properties.getExpireAfterAccess())
+            .expireAfterWrite(properties.getRebuildInterval())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, boards, CACHE_NAME);
+    }
+
+    /**
+     * 회차의 제안을 투표 수 내림차순(동률이면 먼저 등록된 제안 우선)으로 한 페이지 조회합니다.
+     *
+     * @param chapterId 제안을 조회할 회차 ID
+     * @param page      페이지 번호 (0부터 시작)
+     * @param size      페이지당 제안 개수
+     * @return 투표 제안 응답 DTO 목록
+     * @throws IllegalArgumentException 회차가 존재하지 않는 경우
+     * @throws BusinessException 페이지 번호가 음수이거나 크기가 0 이하인 경우 ({@link ErrorCode#INVALID_INPUT})
+     */
+    public List<VoteProposalResponseMj> getPage(Long chapterId, int page, int size) {
+        // 음수 offset은 순위표 탐색에서 예외가, 큰 page * size는 int 오버플로가 나므로 미리 거름
+        if (page < 0 || size <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        ChapterBoard board = boards.get(chapterId, this::build);
+        return board.page(chapterId, (int) Math.min((long) page * size, Integer.MAX_VALUE), size);
+    }
+
+    /**
+     * 투표/취소가 커밋되면 순위표에서 해당 제안의 투표 수와 순위를 갱신합니다.
+     * 순위표가 메모리에 없으면 다음 조회 때 DB에서 최신 값으로 만들어지므로 아무것도 하지 않습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVoteChanged(VoteChangedEvent event) {
+        // getIfPresent는 쓰기로 취급되지 않으므로 재구성 주기(expireAfterWrite)를 늦추지 않음
+        ChapterBoard board = boards.getIfPresent(event.chapterId());
+        if (board != null) {
+            board.apply(event.proposalId(), event.delta());
+        }
+    }
+
+    /**
+     * 보정 작업으로 투표 수가 바뀐 회차의 순위표를 버려, 다음 조회 때 보정된 값으로 다시 만들도록 합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVoteCountsReconciled(VoteCountsReconciledEvent event) {
+        boards.invalidateAll(event.chapterIds());
+    }
+
+    /**
+     * 새 제안이 등록되면 해당 회차의 순위표를 버려, 다음 조회 때 새 제안을 포함해 다시 만들도록 합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProposalCreated(ProposalCreatedEvent event) {
+        boards.invalidate(event.chapterId());
+    }
+
+    /**
+     * 투표가 마감되면 해당 회차의 순위표는 더 이상 갱신되지 않으므로 메모리에서 내립니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVotingFinalized(VotingFinalizedEvent event) {
+        boards.invalidate(event.chapterId());
+    }
+
+    private ChapterBoard build(Long chapterId) {
+        Chapters chapter = chaptersRepository.findById(chapterId)
+            .orElseThrow(() -> new IllegalArgumentException("챕터가 존재하지 않습니다."));
+        return new ChapterBoard(chapter.getNovel().getTitle(),
+            proposalsRepository.findWithProposerByChapterId(chapterId));
+    }
+
+    /** 순위표의 한 줄. 투표 수가 바뀌면 새 인스턴스로 교체합니다. */
+    private record Entry(Long proposalId, String title, String author, String content, int voteCount) {
+
+        Entry withVoteCount(int voteCount) {
+            return new Entry(proposalId, title, author, content, voteCount);
+        }
+    }
+
+    /** 한 회차의 순위표. 모든 접근은 인스턴스 단위로 동기화됩니다. */
+    private static final class ChapterBoard {
+
+        private static final Comparator<Entry> RANKING = Comparator
+            .comparingInt(Entry::voteCount).reversed()
+            .thenComparing(Entry::proposalId);
+
+        private final String novelName;
+        private final Map<Long, Entry> byProposalId = new HashMap<>();
+        private final TreeSet<Entry> ranked = new TreeSet<>(RANKING);
+
+        ChapterBoard(String novelName, List<Proposals> proposals) {
+            this.novelName = novelName;
+            for (Proposals p : proposals) {
+                Entry entry = new Entry(p.getProposalId(), p.getTitle(), p.getProposer().getNickname(),
+                    p.getContent(), p.getVoteCount());
+                byProposalId.put(entry.proposalId(), entry);
+                ranked.add(entry);
+            }
+        }
+
+        synchronized void apply(Long proposalId, int delta) {
+            Entry current = byProposalId.get(proposalId);
+            if (current == null) {
+                return;
+            }
+            Entry updated = current.withVoteCount(Math.max(0, current.voteCount() + delta));
+            ranked.remove(current);
+            ranked.add(updated);
+            byProposalId.put(proposalId, updated);
+        }
+
+        synchronized List<VoteProposalResponseMj> page(Long chapterId, int offset, int size) {
+            List<VoteProposalResponseMj> result = new ArrayList<>(Math.min(size, ranked.size()));
+            Iterator<Entry> iterator = ranked.iterator();
+            for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+                iterator.next();
+            }
+            while (result.size() < size && iterator.hasNext()) {
+                Entry e = iterator.next();
+                result.add(VoteProposalResponseMj.builder()
+                    .proposalId(e.proposalId())
+                    .chapterId(chapterId)
+                    .novelName(novelName)
+                    .proposalTitle(e.title())
+                    .proposalAuthor(e.author())
+                    .proposalContent(e.content())
+                    .voteCount(e.voteCount())
+                    .build());
+            }
+            return result;
+        }
+    }
+}
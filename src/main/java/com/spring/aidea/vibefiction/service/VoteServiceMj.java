@@ -2,13 +2,17 @@ package com.spring.aidea.vibefiction.service;
 
 import com.spring.aidea.vibefiction.dto.request.chapter.ChapterCreateRequestTj;
 import com.spring.aidea.vibefiction.dto.response.vote.VoteClosingResponseMj;
+import com.spring.aidea.vibefiction.dto.response.vote.VoteContextMj;
 import com.spring.aidea.vibefiction.dto.response.vote.VoteListAndClosingResponseMj;
 import com.spring.aidea.vibefiction.dto.response.vote.VoteProposalResponseMj;
 import com.spring.aidea.vibefiction.entity.*;
+import com.spring.aidea.vibefiction.event.VoteChangedEvent;
+import com.spring.aidea.vibefiction.event.VotingFinalizedEvent;
 import com.spring.aidea.vibefiction.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +35,8 @@ public class VoteServiceMj {
     private final UsersRepository usersRepository;
     private final VotesRepository votesRepository;
     private final ChapterServiceTj chapterServiceTj;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VoteLeaderboard voteLeaderboard;
 
 
     /**
@@ -47,18 +53,12 @@ public class VoteServiceMj {
         List<VoteProposalResponseMj> proposals = Collections.emptyList();
         VoteClosingResponseMj deadlineResponse = null;
         Long latestChapterId = null;
-        boolean isVotingClosed = false; // 기본값
 
         if (lastChapter != null) {
-            proposals = getTopProposalsAndConvertToDto(lastChapter.getChapterId(), page, size);
             latestChapterId = lastChapter.getChapterId();
 
-
-            // 마감되지 않았을 때만 제안 목록을 조회
-            if (!isVotingClosed) {
-                proposals = getTopProposalsAndConvertToDto(lastChapter.getChapterId(), page, size);
-            }
-
+            // DB 정렬 없이 메모리 순위표에서 필요한 구간만 꺼냄
+            proposals = voteLeaderboard.getPage(lastChapter.getChapterId(), page, size);
 
             // 제안 유무와 관계없이 마감 시간 정보 생성
             LocalDateTime deadline = getVotingDeadline(lastChapter);
@@ -73,7 +73,7 @@ public class VoteServiceMj {
             .proposals(proposals)
             .deadlineInfo(deadlineResponse)
             .latestChapterId(latestChapterId)
-            .isVotingClosed(isVotingClosed) // 필드 추가
+            .isVotingClosed(false)
             .build();
 
 
@@ -84,53 +84,59 @@ public class VoteServiceMj {
 
     /**
      * 투표 기능: 로그인 확인, 중복 투표 방지 후 투표 기록
+     * <p>
+     * 사용자, 제안, 회차 생성일시(마감 계산), 제안자, 기존 투표 여부를 {@link VotesRepository#findVoteContext}
+     * 한 번의 쿼리로 확인한 뒤, 투표 수 증가(UPDATE)와 투표 기록(INSERT)만 추가로 실행합니다.
+     * 검증과 저장 사이에 같은 사용자의 요청이 동시에 들어온 경우는 (user_id, chapter_id) 유니크 제약이 막습니다.
+     *
      * @param proposalId 투표할 제안 ID
      * @param loginId 현재 로그인한 사용자의 ID
      */
     @Transactional
     public void createVote(Long proposalId, String loginId) {
-        Users user = usersRepository.findByLoginId(loginId)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        Proposals proposal = proposalsRepository.findById(proposalId)
-            .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 제안입니다."));
-
-        Chapters chapter = proposal.getChapter();
-        LocalDateTime deadline = getVotingDeadline(chapter);
-
+        VoteContextMj context = votesRepository.findVoteContext(proposalId, loginId)
+            .orElseThrow(() -> usersRepository.existsByLoginId(loginId)
+                ? new IllegalArgumentException("유효하지 않은 제안입니다.")
+                : new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         // 투표마감 시간 후 투표 방지
-        if (LocalDateTime.now().isAfter(deadline)) {
+        if (LocalDateTime.now().isAfter(getVotingDeadline(context.getChapterCreatedAt()))) {
             throw new IllegalStateException("투표 기간이 마감되었습니다.");
         }
 
-        // 1. 중복 투표 방지 (동일 제안에 대한 재투표 방지)
-        boolean hasVotedOnThisProposal = votesRepository.existsByUserAndProposal(user, proposal);
-        if (hasVotedOnThisProposal) {
-            throw new IllegalStateException("이미 투표에 참여했습니다.");
-        }
-
-        // 2. 해당 챕터 내 다른 제안에 투표했는지 확인
-        // 이 기능을 구현하려면 Vote 엔티티에 chapter 필드를 추가하거나,
-        // VotesRepository에 사용자 ID와 챕터 ID로 투표 기록을 찾는 커스텀 쿼리를 추가해야 합니다.
-        // 예를 들어, votesRepository.existsByUserIdAndChapterId(user.getUserId(), chapter.getChapterId()) 와 같은 메서드가 필요합니다.
-        boolean hasVotedInThisChapter = votesRepository.existsByUser_UserIdAndProposal_Chapter_ChapterId(user.getUserId(), chapter.getChapterId());
-        if (hasVotedInThisChapter) {
+        // 1. 중복 투표 방지 (동일 제안 재투표 / 같은 챕터 내 다른 제안 투표)
+        if (context.hasVotedInChapter()) {
+            if (context.getVotedProposalId().equals(proposalId)) {
+                throw new IllegalStateException("이미 투표에 참여했습니다.");
+            }
             throw new IllegalStateException("해당 챕터의 다른 제안에 이미 투표했습니다.");
         }
 
-        // 자신의 제안에 투표하는 것을 방지
-        if (proposal.getProposer().getUserId().equals(user.getUserId())) {
+        // 2. 자신의 제안에 투표하는 것을 방지
+        if (context.isProposer()) {
             throw new IllegalStateException("자신의 제안에는 투표할 수 없습니다.");
         }
 
+        // 엔티티 값을 바꾸지 않고 DB에서 원자적으로 증가시켜, 동시 투표 시 증가분이 유실되지 않도록 함
+        // 투표 기록 INSERT보다 먼저 실행해 제안 행의 배타 잠금을 먼저 잡음
+        // (INSERT의 외래키 검사가 잡는 공유 잠금을 여러 트랜잭션이 쥔 채 UPDATE로 올리려 하면 교착 상태가 발생함)
+        proposalsRepository.incrementVoteCount(proposalId);
+
+        // 연관 엔티티는 조회하지 않고 ID만 가진 프록시로 연결
         Votes newVote = Votes.builder()
-            .user(user)
-            .proposal(proposal)
+            .user(usersRepository.getReferenceById(context.getUserId()))
+            .proposal(proposalsRepository.getReferenceById(proposalId))
+            .chapter(chaptersRepository.getReferenceById(context.getChapterId()))
             .build();
-        votesRepository.save(newVote);
+        try {
+            votesRepository.saveAndFlush(newVote);
+        } catch (DataIntegrityViolationException e) {
+            // 검증 이후 같은 사용자의 다른 투표가 먼저 커밋된 경우 (트랜잭션은 롤백되어 투표 수 증가도 취소됨)
+            throw new IllegalStateException("이미 투표에 참여했습니다.");
+        }
 
-        proposal.incrementVoteCount();
+        // 커밋 이후 투표 순위표 갱신에 사용
+        eventPublisher.publishEvent(new VoteChangedEvent(context.getChapterId(), proposalId, 1));
     }
 
 
@@ -141,27 +147,43 @@ public class VoteServiceMj {
      */
     @Transactional
     public void cancelVote(Long proposalId, String loginId) {
-        Users user = usersRepository.findByLoginId(loginId)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        Proposals proposal = proposalsRepository.findById(proposalId)
-            .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 제안입니다."));
-
-        // 1. 해당 사용자의 해당 제안에 대한 투표 기록을 찾습니다.
-        Votes vote = votesRepository.findByUserAndProposal(user, proposal)
+        // 1. 해당 사용자의 해당 제안에 대한 투표 기록을 찾습니다. (사용자/제안을 따로 조회하지 않음)
+        Votes vote = votesRepository.findByUser_LoginIdAndProposal_ProposalId(loginId, proposalId)
             .orElseThrow(() -> new IllegalArgumentException("취소할 투표 기록이 존재하지 않습니다."));
 
-        // 2. 투표 기록을 삭제합니다.
+        // 2. 해당 제안의 투표 수를 DB에서 원자적으로 1 감소시킵니다. (투표와 같은 순서로 제안 행을 먼저 잠금)
+        proposalsRepository.decrementVoteCount(proposalId);
+
+        // 3. 투표 기록을 삭제합니다.
+        // chapter_id가 채워지기 전의 투표 행은 제안을 통해 회차를 찾음
+        Long chapterId = (vote.getChapter() != null)
+            ? vote.getChapter().getChapterId()
+            : vote.getProposal().getChapter().getChapterId();
         votesRepository.delete(vote);
 
-        // 3. 해당 제안의 투표 수를 1 감소시킵니다.
-        proposal.decrementVoteCount();
+        // 커밋 이후 투표 순위표 갱신에 사용
+        eventPublisher.publishEvent(new VoteChangedEvent(chapterId, proposalId, -1));
     }
 
 
+    /**
+     * 회차의 투표 마감 시간을 조회합니다. (실시간 투표 현황 구독 시 사용)
+     * @param chapterId 회차 ID
+     * @return 투표 마감 시간
+     */
+    public LocalDateTime getVotingDeadline(Long chapterId) {
+        Chapters chapter = chaptersRepository.findById(chapterId)
+            .orElseThrow(() -> new IllegalArgumentException("챕터가 존재하지 않습니다."));
+        return getVotingDeadline(chapter);
+    }
+
     //lastChapter의 생성일로부터 2일을 더하고, 시간을 23:59:58로 설정합니다.
     private LocalDateTime getVotingDeadline(Chapters lastChapter) {
-        LocalDateTime deadline = lastChapter.getCreatedAt()
+        return getVotingDeadline(lastChapter.getCreatedAt());
+    }
+
+    private LocalDateTime getVotingDeadline(LocalDateTime chapterCreatedAt) {
+        LocalDateTime deadline = chapterCreatedAt
             .plusDays(3)
             .withHour(0)
             .withMinute(0)
@@ -184,6 +206,11 @@ public class VoteServiceMj {
     public Long finalizeVoting(Long novelId) {
         log.info("소설 ID {}에 대한 투표 마감 처리 시작", novelId);
 
+        // 0. 같은 소설의 마감이 동시에 두 번 처리되지 않도록 소설 행을 잠급니다.
+        //    트랜잭션의 첫 조회여야 이후 조회가 앞선 마감 처리의 커밋 결과를 봅니다.
+        novelsRepository.lockForFinalization(novelId)
+            .orElseThrow(() -> new IllegalArgumentException("소설을 찾을 수 없습니다."));
+
         // 1. 소설의 마지막 챕터 조회
         Chapters lastChapter = chaptersRepository.findTopByNovel_NovelIdOrderByChapterNumberDesc(novelId)
             .orElseThrow(() -> new IllegalArgumentException("소설의 마지막 챕터를 찾을 수 없습니다."));
@@ -200,15 +227,7 @@ public class VoteServiceMj {
         }
 
         // 3. 최다 득표 제안(들) 찾기
-        Integer maxVotes = allProposals.stream()
-            .map(Proposals::getVoteCount)
-            .max(Comparator.naturalOrder())
-            .orElse(0);
-
-        // 투표수가 0인 제안을 제외하고 최다 득표 제안을 찾습니다.
-        List<Proposals> topProposals = allProposals.stream()
-            .filter(p -> p.getVoteCount().equals(maxVotes) && p.getVoteCount() > 0)
-            .collect(Collectors.toList());
+        List<Proposals> topProposals = findTopProposals(allProposals);
 
         // 4. `relay_automation_rules.md`의 규칙 적용
         if (topProposals.size() == 1) { // 4-1. 단독 최다 득표
@@ -234,6 +253,7 @@ public class VoteServiceMj {
                 adoptedProposal.getProposalId()
             );
 
+            eventPublisher.publishEvent(new VotingFinalizedEvent(novelId, lastChapter.getChapterId(), adoptedProposal.getProposalId()));
             return novelId;
 
         } else if (topProposals.size() > 1) { // 4-2. 동률(복수 최다)
@@ -243,40 +263,49 @@ public class VoteServiceMj {
             allProposals.stream()
                 .filter(p -> !topProposals.contains(p))
                 .forEach(p -> p.setStatus(Proposals.Status.REJECTED));
+            eventPublisher.publishEvent(new VotingFinalizedEvent(novelId, lastChapter.getChapterId(), null));
             return null;
         } else { // 4-3. 무투표 동률 (모든 제안 투표수 0)
             // 이 경우, 모든 제안이 투표수 0이므로 모두 REJECTED 또는 PENDING으로 처리
             allProposals.forEach(p -> p.setStatus(Proposals.Status.PENDING));
             log.info("채택할 제안이 없습니다. 모든 제안을 PENDING 상태로 변경합니다.");
+            eventPublisher.publishEvent(new VotingFinalizedEvent(novelId, lastChapter.getChapterId(), null));
             return null;
         }
     }
 
 
 
-    //JSOM안에 내용 담는 함수
-    private List<VoteProposalResponseMj> getTopProposalsAndConvertToDto(Long chapterId, int page, int size) {
-        if (chapterId == null) {
-            return Collections.emptyList();
+    /**
+     * 다른 트랜잭션(다른 인스턴스의 스케줄러 포함)이 처리 중이 아니면 소설의 투표를 마감합니다.
+     * {@link VotingFinalizationScheduler}가 소설마다 별도 트랜잭션으로 호출합니다.
+     *
+     * @param novelId 마감할 소설 ID
+     * @return 잠금을 얻어 마감 처리를 수행했으면 {@code true}, 다른 트랜잭션이 처리 중이어서 건너뛰었으면 {@code false}
+     */
+    @Transactional
+    public boolean finalizeVotingIfClaimable(Long novelId) {
+        if (novelsRepository.tryLockForFinalization(novelId).isEmpty()) {
+            return false;
         }
+        finalizeVoting(novelId);
+        return true;
+    }
 
-        Novels novel = chaptersRepository.findById(chapterId)
-            .map(Chapters::getNovel)
-            .orElseThrow(() -> new IllegalArgumentException("챕터가 존재하지 않습니다."));
-
-        List<Proposals> proposals = proposalsRepository.findByChapter_ChapterIdOrderByVoteCountDesc(chapterId, PageRequest.of(page, size));
+    /**
+     * 제안 목록에서 최다 득표 제안(들)을 찾습니다. 투표수가 0인 제안은 후보에서 제외합니다.
+     *
+     * @param proposals 같은 챕터의 투표 중인 제안 목록
+     * @return 최다 득표 제안 목록. 동점이면 여러 개, 모두 0표이면 빈 목록
+     */
+    static List<Proposals> findTopProposals(List<Proposals> proposals) {
+        Integer maxVotes = proposals.stream()
+            .map(Proposals::getVoteCount)
+            .max(Comparator.naturalOrder())
+            .orElse(0);
 
         return proposals.stream()
-            .map(p -> VoteProposalResponseMj.builder()
-                .proposalId(p.getProposalId())
-                .chapterId(chapterId)
-                .novelName(novel.getTitle())
-                .proposalTitle(p.getTitle())
-                .proposalAuthor(p.getProposer().getNickname())
-                .proposalContent(p.getContent())
-                .voteCount(p.getVoteCount())
-                .build())
+            .filter(p -> p.getVoteCount().equals(maxVotes) && p.getVoteCount() > 0)
             .collect(Collectors.toList());
     }
 }
-
@@ -0,0 +1,182 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.spring.aidea.vibefiction.event.VoteChangedEvent;
+import com.spring.aidea.vibefiction.event.VotingFinalizedEvent;
+import com.spring.aidea.vibefiction.global.config.VoteTallyProperties;
+import com.spring.aidea.vibefiction.global.exception.BusinessException;
+import com.spring.aidea.vibefiction.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * 회차별 투표 현황을 SSE(Server-Sent Events)로 투표 페이지에 밀어주는 컴포넌트입니다.
+ * <p>
+ * <b>[설계 의도]</b>
+ * 투표가 몰리는 회차에서 투표 한 건마다 모든 구독자에게 메시지를 보내지 않도록,
+ * 커밋된 투표/취소의 변화량을 제안별로 모아 두었다가 {@code vote.tally.flush-interval}(기본 250ms)마다
+ * 회차당 한 번만 전송합니다.
+ * <ul>
+ *   <li>{@code deadline}: 구독 직후 한 번. 투표 마감 시간 ({@code yyyy-MM-dd HH:mm:ss})</li>
+ *   <li>{@code tally}: 전송 주기 동안 모인 제안별 투표 수 변화량 목록 ({@code [{proposalId, delta}]})</li>
+ *   <li>{@code closed}: 투표가 마감되면 한 번. 이후 연결을 닫습니다.</li>
+ * </ul>
+ * 변화량만 보내므로, 클라이언트는 연결이 끊겼다가 다시 연결되면 목록을 새로 조회해야 합니다.
+ * 구독은 인스턴스마다 따로 관리되며, 각 인스턴스는 자신이 처리한 투표만 전송합니다.
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Slf4j
+@Component
+public class VoteTallyBroadcaster {
+
+    private static final DateTimeFormatter DEADLINE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final VoteTallyProperties properties;
+
+    /** 회차 ID -> 구독 중인 SSE 연결 */
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    /**
+     * 회차 ID -> (제안 ID -> 아직 전송하지 않은 투표 수 변화량).
+     * 안쪽 맵은 {@code compute} 안에서만 바뀌고, {@code remove}로 떼어낸 뒤에는 전송하는 쪽만 읽습니다.
+     */
+    private final Map<Long, Map<Long, Integer>> pendingDeltas = new ConcurrentHashMap<>();
+
+    public VoteTallyBroadcaster(VoteTallyProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 회차의 투표 현황을 구독합니다.
+     *
+     * @param chapterId 구독할 회차 ID
+     * @param deadline  해당 회차의 투표 마감 시간 (구독 직후 {@code deadline} 이벤트로 전송)
+     * @return 응답으로 반환할 {@link SseEmitter}
+     * @throws BusinessException {@code TOO_MANY_REQUESTS}: 회차의 구독자 수가 한도를 넘은 경우
+     */
+    public SseEmitter subscribe(Long chapterId, LocalDateTime deadline) {
+        SseEmitter emitter = new SseEmitter(properties.getEmitterTimeout().toMillis());
+        // 마지막 구독자가 빠지며 집합이 맵에서 제거되는 것과 겹치지 않도록, 추가도 compute 안에서 수행
+        subscribers.compute(chapterId, (id, emitters) -> {
+            Set<SseEmitter> target = (emitters != null) ? emitters : new CopyOnWriteArraySet<>();
+            if (target.size() >= properties.getMaxSubscribersPerChapter()) {
+                throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "실시간 투표 현황 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+            target.add(emitter);
+            return target;
+        });
+        Runnable remove = () -> unsubscribe(chapterId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        send(chapterId, emitter, SseEmitter.event().name("deadline").data(deadline.format(DEADLINE_FORMAT)));
+        return emitter;
+    }
+
+    /**
+     * 커밋된 투표/취소의 변화량을 다음 전송 때까지 모아 둡니다. 구독자가 없는 회차는 무시합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVoteChanged(VoteChangedEvent event) {
+        if (!subscribers.containsKey(event.chapterId())) {
+            return;
+        }
+        // 맵을 꺼낸 뒤 merge하면 그 사이 flush가 맵을 떼어가 변화량이 유실될 수 있으므로, merge도 compute 안에서 수행
+        pendingDeltas.compute(event.chapterId(), (id, deltas) -> {
+            Map<Long, Integer> target = (deltas != null) ? deltas : new HashMap<>();
+            target.merge(event.proposalId(), event.delta(), Integer::sum);
+            return target;
+        });
+    }
+
+    /**
+     * 투표가 마감되면 남은 변화량을 먼저 보내고 {@code closed} 이벤트를 보낸 뒤 연결을 닫습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVotingFinalized(VotingFinalizedEvent event) {
+        flush(event.chapterId());
+        Set<SseEmitter> emitters = subscribers.remove(event.chapterId());
+        if (emitters == null) {
+            return;
+        }
+        Map<String, Object> closed = new HashMap<>();
+        closed.put("novelId", event.novelId());
+        closed.put("adoptedProposalId", event.adoptedProposalId());
+        for (SseEmitter emitter : emitters) {
+            send(event.chapterId(), emitter, SseEmitter.event().name("closed").data(closed, MediaType.APPLICATION_JSON));
+            emitter.complete();
+        }
+    }
+
+    /**
+     * 전송 주기 동안 모인 변화량을 회차별로 한 번에 전송합니다.
+     */
+    @Scheduled(fixedDelayString = "${vote.tally.flush-interval:PT0.25S}")
+    public void flushAll() {
+        for (Long chapterId : pendingDeltas.keySet()) {
+            flush(chapterId);
+        }
+    }
+
+    /**
+     * 변화가 없는 연결도 프록시/로드밸런서의 유휴 타임아웃으로 끊기지 않도록 주석 이벤트를 보냅니다.
+     * 이미 끊어진 연결은 이 과정에서 정리됩니다.
+     */
+    @Scheduled(fixedDelayString = "${vote.tally.heartbeat-interval:PT20S}")
+    public void heartbeat() {
+        subscribers.forEach((chapterId, emitters) -> emitters.forEach(emitter ->
+            send(chapterId, emitter, SseEmitter.event().comment("keep-alive"))));
+    }
+
+    private void flush(Long chapterId) {
+        // 맵을 통째로 떼어내므로(onVoteChanged의 compute와 원자적으로 교대), 전송 중에 들어온 변화량은 다음 주기에 새 맵으로 모임
+        Map<Long, Integer> deltas = pendingDeltas.remove(chapterId);
+        Set<SseEmitter> emitters = subscribers.get(chapterId);
+        if (deltas == null || deltas.isEmpty() || emitters == null) {
+            return;
+        }
+        List<Map<String, Object>> tally = deltas.entrySet().stream()
+            .filter(entry -> entry.getValue() != 0)
+            .map(entry -> Map.<String, Object>of("proposalId", entry.getKey(), "delta", entry.getValue()))
+            .toList();
+        if (tally.isEmpty()) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            send(chapterId, emitter, SseEmitter.event().name("tally").data(tally, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void send(Long chapterId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 연결
+            log.debug("투표 현황 SSE 전송 실패로 구독을 해제합니다. (회차 ID: {}): {}", chapterId, e.getMessage());
+            unsubscribe(chapterId, emitter);
+        }
+    }
+
+    private void unsubscribe(Long chapterId, SseEmitter emitter) {
+        subscribers.computeIfPresent(chapterId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
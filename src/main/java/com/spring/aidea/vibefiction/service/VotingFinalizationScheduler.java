@@ -0,0 +1,125 @@
+package com.spring.aidea.vibefiction.service;
+
+import com.spring.aidea.vibefiction.global.config.VoteFinalizerProperties;
+import com.spring.aidea.vibefiction.repository.ProposalsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 마감 시간이 지난 투표를 주기적으로 찾아 자동으로 마감하는 스케줄러입니다.
+ * <p>
+ * <b>[처리 방식]</b>
+ * <ul>
+ *   <li>마감이 가장 오래 밀린 소설부터 {@code vote.finalizer.batch-size}개씩 조회하고,
+ *       한 번의 실행에서 최대 {@code vote.finalizer.max-batches-per-run}개 배치까지 처리합니다.</li>
+ *   <li>소설마다 {@link VoteServiceMj#finalizeVotingIfClaimable(Long)}를 별도 트랜잭션으로 호출합니다.
+ *       소설 행을 {@code FOR UPDATE SKIP LOCKED}로 잠그므로, 여러 인스턴스가 동시에 실행되어도 같은 소설을
+ *       두 번 마감하지 않고 서로 다른 소설을 나누어 처리합니다.</li>
+ *   <li>한 소설의 처리가 실패해도 나머지 소설은 계속 처리하며, 실패한 소설은 다음 실행에서 다시 시도합니다.</li>
+ * </ul>
+ * <b>[지표]</b>
+ * <ul>
+ *   <li>{@code vote.finalizer.lag}: 처리되지 않은 가장 오래된 마감 시간과 현재의 차이(초). 밀린 투표가 없으면 0.</li>
+ *   <li>{@code vote.finalizer.finalized} / {@code vote.finalizer.failed}: 마감 처리 성공/실패 횟수.</li>
+ * </ul>
+ *
+ * @author 왕택준
+ * @since 2025.08
+ */
+@Slf4j
+@Component
+public class VotingFinalizationScheduler {
+
+    private final VoteServiceMj voteServiceMj;
+    private final ProposalsRepository proposalsRepository;
+    private final VoteFinalizerProperties properties;
+
+    /** 마지막 실행 기준의 마감 지연(초). 스크래핑마다 DB를 조회하지 않도록 실행 시점에 갱신한 값을 노출합니다. */
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter finalizedCounter;
+    private final Counter failedCounter;
+
+    public VotingFinalizationScheduler(VoteServiceMj voteServiceMj, ProposalsRepository proposalsRepository,
+                                       VoteFinalizerProperties properties, MeterRegistry meterRegistry) {
+        this.voteServiceMj = voteServiceMj;
+        this.proposalsRepository = proposalsRepository;
+        this.properties = properties;
+
+        Gauge.builder("vote.finalizer.lag", lagSeconds, AtomicLong::get)
+            .description("처리되지 않은 가장 오래된 투표 마감 시간으로부터 지난 시간")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        this.finalizedCounter = Counter.builder("vote.finalizer.finalized")
+            .description("자동 마감 처리된 소설 투표 수")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("vote.finalizer.failed")
+            .description("자동 마감 처리 중 실패한 소설 투표 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 마감 시간이 지난 투표를 배치 단위로 마감 처리하고, 남은 지연 시간을 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${vote.finalizer.fixed-delay:PT30S}",
+        initialDelayString = "${vote.finalizer.initial-delay:PT30S}")
+    public void finalizeExpiredVotes() {
+        // 이번 실행에서 실패한 소설은 다시 조회되어도 건너뛰어, 같은 소설의 실패가 배치를 막지 않도록 함
+        Set<Long> failedNovelIds = new HashSet<>();
+        int finalized = 0;
+
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            int limit = properties.getBatchSize() + failedNovelIds.size();
+            List<Long> novelIds = proposalsRepository.findNovelIdsWithExpiredVoting(
+                    LocalDateTime.now(), PageRequest.of(0, limit)).stream()
+                .filter(novelId -> !failedNovelIds.contains(novelId))
+                .limit(properties.getBatchSize())
+                .toList();
+            if (novelIds.isEmpty()) {
+                break;
+            }
+
+            int claimed = 0;
+            for (Long novelId : novelIds) {
+                try {
+                    if (voteServiceMj.finalizeVotingIfClaimable(novelId)) {
+                        claimed++;
+                        finalizedCounter.increment();
+                    }
+                } catch (Exception e) {
+                    failedNovelIds.add(novelId);
+                    failedCounter.increment();
+                    log.error("소설 ID {}의 투표 자동 마감 중 오류가 발생했습니다: {}", novelId, e.getMessage(), e);
+                }
+            }
+            finalized += claimed;
+
+            // 남은 소설이 모두 다른 인스턴스에서 처리 중이면, 같은 목록을 반복 조회하지 않고 다음 실행으로 넘김
+            if (claimed == 0) {
+                break;
+            }
+        }
+
+        updateLag();
+        if (finalized > 0 || !failedNovelIds.isEmpty()) {
+            log.info("투표 자동 마감: 처리 {}건, 실패 {}건, 남은 지연 {}초", finalized, failedNovelIds.size(), lagSeconds.get());
+        }
+    }
+
+    private void updateLag() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime oldestDeadline = proposalsRepository.findOldestExpiredVotingDeadline(now);
+        lagSeconds.set(oldestDeadline == null ? 0 : Duration.between(oldestDeadline, now).toSeconds());
+    }
+}
@@ -1,6 +1,7 @@
 package com.spring.aidea.vibefiction.service.impl;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spring.aidea.vibefiction.global.config.GeminiProperties;
 import com.spring.aidea.vibefiction.service.GeminiApiService;
 import lombok.RequiredArgsConstructor;
@@ -9,8 +10,12 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * GeminiApiService 인터페이스의 RestTemplate 기반 구현 클래스입니다.
@@ -26,25 +31,20 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class GeminiApiServiceImpl implements GeminiApiService {
 
+    /** SSE 응답에서 실제 데이터가 담긴 줄을 식별하기 위한 접두사입니다. */
+    private static final String SSE_DATA_PREFIX = "data:";
+
     private final RestTemplate restTemplate;
     private final GeminiProperties geminiProperties;
+    private final ObjectMapper objectMapper;
 
     /**
      * {@inheritDoc}
      */
     @Override
     public String generateContent(String prompt) {
-        // 1. HTTP 헤더 생성 (Content-Type: application/json)
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        // 2. HTTP 요청 Body 생성 (Gemini API가 요구하는 JSON 형식)
-        Map<String, Object> parts = Map.of("text", prompt);
-        Map<String, Object> contents = Map.of("parts", Collections.singletonList(parts));
-        Map<String, Object> requestBody = Map.of("contents", Collections.singletonList(contents));
-
-        // 3. HttpEntity 객체로 헤더와 바디를 캡슐화
-        HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
+        // 1~3. 헤더와 바디를 HttpEntity 객체로 캡슐화
+        HttpEntity<Map<String, Object>> requestEntity = buildRequestEntity(prompt);
 
         // 4. RestTemplate을 사용하여 POST 요청 전송 및 응답 받기
         try {
@@ -59,11 +59,7 @@ public class GeminiApiServiceImpl implements GeminiApiService {
 
             // 5. JsonNode를 사용한 안전한 응답 파싱
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                JsonNode root = response.getBody();
-                // Gemini 응답 구조: candidates -> [0] -> content -> parts -> [0] -> text
-                String generatedText = root.path("candidates").get(0)
-                    .path("content").path("parts").get(0)
-                    .path("text").asText();
+                String generatedText = requireText(extractText(response.getBody()), response.getBody());
                 log.info("Gemini API로부터 성공적으로 응답을 받았습니다.");
                 return generatedText;
             } else {
@@ -76,4 +72,114 @@ public class GeminiApiServiceImpl implements GeminiApiService {
             throw new RuntimeException("AI 서비스 호출에 실패했습니다.", e);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>[구현]</b> {@code streamGenerateContent?alt=sse} 엔드포인트는 응답 본문을
+     * {@code data: {...}} 형식의 줄 단위 이벤트로 흘려보냅니다. 응답 전체를 버퍼링하지 않도록
+     * {@link RestTemplate#execute}로 원본 스트림을 직접 읽으며, 이벤트 하나가 도착할 때마다 텍스트를 추출해 전달합니다.
+     */
+    @Override
+    public String streamContent(String prompt, Consumer<String> chunkConsumer) {
+        HttpEntity<Map<String, Object>> requestEntity = buildRequestEntity(prompt);
+
+        try {
+            log.info("Gemini 스트리밍 API 호출 시작. URL: {}", geminiProperties.getStreamUrl());
+            String fullText = restTemplate.execute(
+                geminiProperties.getStreamUrl(),
+                HttpMethod.POST,
+                restTemplate.httpEntityCallback(requestEntity),
+                response -> {
+                    StringBuilder aggregated = new StringBuilder();
+                    JsonNode lastChunk = null;
+                    try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            // SSE 규격상 빈 줄은 이벤트 구분자, 그 외 필드(event:, id: 등)는 Gemini가 사용하지 않음
+                            if (!line.startsWith(SSE_DATA_PREFIX)) {
+                                continue;
+                            }
+                            String payload = line.substring(SSE_DATA_PREFIX.length()).trim();
+                            if (payload.isEmpty()) {
+                                continue;
+                            }
+                            lastChunk = objectMapper.readTree(payload);
+                            String chunk = extractText(lastChunk);
+                            if (!chunk.isEmpty()) {
+                                aggregated.append(chunk);
+                                chunkConsumer.accept(chunk);
+                            }
+                        }
+                    }
+                    // 안전 차단 등으로 텍스트 조각이 하나도 없었다면, 마지막 청크의 종료 사유와 함께 실패 처리
+                    return requireText(aggregated.toString(), lastChunk);
+                },
+                geminiProperties.getKey() // URL의 ?key={apiKey} 부분을 이 값으로 치환
+            );
+            log.info("Gemini 스트리밍 응답을 모두 수신했습니다. (총 {}자)", fullText.length());
+            return fullText;
+
+        } catch (Exception e) {
+            log.error("Gemini 스트리밍 API 호출 중 오류 발생", e);
+            throw new RuntimeException("AI 서비스 호출에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * Gemini API가 요구하는 JSON 형식의 요청 본문과 헤더를 구성합니다.
+     *
+     * @param prompt AI에게 전달할 프롬프트
+     * @return 헤더(Content-Type: application/json)와 바디가 담긴 {@link HttpEntity}
+     */
+    private HttpEntity<Map<String, Object>> buildRequestEntity(String prompt) {
+        // 1. HTTP 헤더 생성 (Content-Type: application/json)
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // 2. HTTP 요청 Body 생성 (Gemini API가 요구하는 JSON 형식)
+        Map<String, Object> parts = Map.of("text", prompt);
+        Map<String, Object> contents = Map.of("parts", Collections.singletonList(parts));
+        Map<String, Object> requestBody = Map.of("contents", Collections.singletonList(contents));
+
+        // 3. HttpEntity 객체로 헤더와 바디를 캡슐화
+        return new HttpEntity<>(requestBody, headers);
+    }
+
+    /**
+     * Gemini 응답(또는 스트리밍 청크) JSON에서 생성된 텍스트만 추출합니다.
+     * <p>
+     * 응답 구조: candidates -> [0] -> content -> parts -> [0] -> text.
+     * 스트리밍의 마지막 청크처럼 텍스트 없이 메타데이터만 담긴 경우에는 빈 문자열을 반환합니다.
+     * 응답 <b>전체</b>에 텍스트가 없는지는 {@link #requireText}로 따로 확인합니다.
+     *
+     * @param root Gemini 응답 JSON의 루트 노드
+     * @return 추출된 텍스트. 없으면 빈 문자열.
+     */
+    private String extractText(JsonNode root) {
+        return root.path("candidates").path(0)
+            .path("content").path("parts").path(0)
+            .path("text").asText("");
+    }
+
+    /**
+     * 생성된 텍스트가 비어 있으면 예외를 던집니다.
+     * <p>
+     * 안전 필터에 걸린 경우({@code promptFeedback.blockReason}, {@code finishReason=SAFETY})처럼 Gemini가 200 응답에
+     * 후보나 텍스트를 담지 않으면, 빈 문자열을 정상 결과로 넘기지 않고 호출 실패로 처리합니다.
+     *
+     * @param text     추출(또는 스트림 전체를 이어 붙인) 텍스트
+     * @param response 종료 사유를 기록할 응답 JSON (스트리밍은 마지막 청크, 없으면 {@code null})
+     * @return 비어 있지 않은 텍스트
+     */
+    private String requireText(String text, JsonNode response) {
+        if (!text.isBlank()) {
+            return text;
+        }
+        String finishReason = response == null ? "" : response.path("candidates").path(0).path("finishReason").asText("");
+        String blockReason = response == null ? "" : response.path("promptFeedback").path("blockReason").asText("");
+        log.error("Gemini 응답에 생성된 텍스트가 없습니다. (finishReason: {}, blockReason: {})", finishReason, blockReason);
+        throw new IllegalStateException("AI 응답에 생성된 텍스트가 없습니다.");
+    }
 }
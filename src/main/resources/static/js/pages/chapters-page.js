@@ -18,8 +18,8 @@ const ChaptersPage = () => {
             // Promise.all을 사용해 소설 정보와 챕터 목록을 병렬로 동시에 요청합니다.
             const [novelResponse, chaptersResponse] = await Promise.all([
                 fetch(`/api/novels/${novelId}`),
-                // ChapterControllerSH의 주소에 맞게 API 엔드포인트를 사용합니다.
-                fetch(`/api/chapters/${novelId}`)
+                // 목차는 본문 없이 메타데이터만 받고, 본문은 회차를 열 때 한 회차씩 요청합니다.
+                fetch(`/api/chapters/${novelId}/toc`)
             ]);
 
             if (!novelResponse.ok || !chaptersResponse.ok) {
@@ -95,7 +95,7 @@ const ChaptersPage = () => {
             const li = document.createElement('li');
             li.className = 'chapter-item';
             li.setAttribute('data-chapter-index', index);
-            li.setAttribute('data-chapter-content', chapter.content);
+            li.setAttribute('data-chapter-id', chapter.chapterId);
 
             li.innerHTML = `
                 <div class="chapter-info">
@@ -118,26 +118,56 @@ const ChaptersPage = () => {
         const prevBtn = document.querySelector('.fiction-nav-btn.prev-btn');
         const nextBtn = document.querySelector('.fiction-nav-btn.next-btn');
         let currentChapterIndex = -1;
+        /** @type {Map<string, string>} 이미 연 회차의 본문 (chapterId -> content). 이전/다음 이동 시 재요청 방지 */
+        const contentCache = new Map();
+
+        /**
+         * 회차 본문을 조회합니다. 브라우저는 ETag로 재검증하므로, 바뀌지 않은 본문은 304로 빠르게 받아옵니다.
+         * @param {string} chapterId
+         * @returns {Promise<string>} 회차 본문
+         */
+        const fetchChapterContent = async (chapterId) => {
+            if (contentCache.has(chapterId)) return contentCache.get(chapterId);
+            const response = await fetch(`/api/chapters/${chapterId}/content`);
+            if (!response.ok) throw new Error(`본문 로드 실패: ${response.status}`);
+            const { content } = await response.json();
+            contentCache.set(chapterId, content);
+            return content;
+        };
 
-        const openModal = (chapterEl) => {
+        const openModal = async (chapterEl) => {
             const novelTitle = novelTitleEl.textContent;
             const chapterNum = chapterEl.querySelector('.chapter-num').textContent;
             const chapterTitle = chapterEl.querySelector('.chapter-title').textContent;
             const chapterAuthor = chapterEl.querySelector('.chapter-author').textContent;
-            const storyContent = chapterEl.getAttribute('data-chapter-content');
+            const chapterId = chapterEl.getAttribute('data-chapter-id');
 
             currentChapterIndex = parseInt(chapterEl.getAttribute('data-chapter-index'));
+            const storyContentEl = modalContainer.querySelector('.fiction-modal-story-content');
 
             modalContainer.querySelector('.fiction-modal-novel-title').textContent = novelTitle;
             modalContainer.querySelector('.fiction-modal-chapter-num').textContent = chapterNum;
             modalContainer.querySelector('.fiction-modal-chapter-title').textContent = chapterTitle;
             modalContainer.querySelector('.fiction-modal-chapter-author').textContent = chapterAuthor;
-            modalContainer.querySelector('.fiction-modal-story-content').innerHTML = `<p>${storyContent.replace(/\n/g, '</p><p>')}</p>`;
+            storyContentEl.innerHTML = '<p>본문을 불러오는 중...</p>';
             modalContainer.style.display = 'flex';
             document.body.style.overflow = 'hidden';
 
             prevBtn.disabled = currentChapterIndex === 0;
             nextBtn.disabled = currentChapterIndex === chapterItems.length - 1;
+
+            const requestedIndex = currentChapterIndex;
+            try {
+                const storyContent = await fetchChapterContent(chapterId);
+                // 본문을 받는 사이에 다른 회차로 이동했다면 늦게 도착한 본문은 무시
+                if (requestedIndex !== currentChapterIndex) return;
+                storyContentEl.innerHTML = `<p>${storyContent.replace(/\n/g, '</p><p>')}</p>`;
+            } catch (error) {
+                console.error('회차 본문 로드 중 오류 발생:', error);
+                if (requestedIndex === currentChapterIndex) {
+                    storyContentEl.innerHTML = '<p>본문을 불러올 수 없습니다. 나중에 다시 시도해주세요.</p>';
+                }
+            }
         };
 
         const closeModal = () => {
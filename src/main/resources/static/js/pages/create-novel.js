@@ -29,6 +29,8 @@ const createNovelPage = () => {
     // --- 페이지 상태 관리 ---
     /** @type {Set<string>} 선택된 장르의 Enum 상수명(e.g., "FANTASY")을 저장하는 Set */
     let selectedGenres = new Set();
+    /** @type {string|null} 마지막으로 AI 추천을 받은 장르/시놉시스 조합. 같은 입력으로 다시 요청하면 재생성으로 처리합니다. */
+    let lastRecommendInput = null;
 
     /**
      * 페이지 로드 시, 장르 목록 API를 호출하여 드롭다운 메뉴를 동적으로 생성합니다.
@@ -108,9 +110,14 @@ const createNovelPage = () => {
             return;
         }
 
+        // 같은 입력으로 다시 누른 경우는 다른 초안을 원하는 것이므로, 캐시된 결과 대신 새로 생성을 요청
+        const inputKey = `${genre}\n${synopsis}`;
+        const regenerate = inputKey === lastRecommendInput;
+
         toggleLoading(true, aiHelpBtn, 'AI 생각 중...');
         try {
-            const response = await recommendNovelApi(genre, synopsis);
+            const response = await recommendNovelApi(genre, synopsis, regenerate);
+            lastRecommendInput = inputKey;
             populateFormWithAiData(response);
             alert('AI 추천이 완료되었습니다!');
         } catch (error) {
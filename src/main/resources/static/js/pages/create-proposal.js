@@ -5,7 +5,7 @@
  * @since 2025.08.18
  */
 
-import { continueChapterApi, createProposalApi } from '../utils/api.js';
+import { continueChapterStreamApi, createProposalApi } from '../utils/api.js';
 
 /**
  * '이어쓰기 제안' 페이지의 모든 기능을 캡슐화하는 모듈 함수입니다.
@@ -49,7 +49,13 @@ const createProposalPage = () => {
 
         toggleLoading(true, aiHelpBtn, 'AI 생각 중...');
         try {
-            const aiResponse = await continueChapterApi(chapterId, instruction);
+            // AI가 생성하는 원문(제목 --- 내용)을 도착하는 대로 본문 영역에 보여주고, 완료되면 제목/내용으로 나눠 채웁니다.
+            titleInput.value = '';
+            contentTextarea.value = '';
+            const aiResponse = await continueChapterStreamApi(chapterId, instruction, (chunk) => {
+                contentTextarea.value += chunk;
+                contentTextarea.scrollTop = contentTextarea.scrollHeight;
+            });
             populateFormWithAiData(aiResponse);
             alert('AI 이어쓰기 추천이 완료되었습니다!');
         } catch (error) {
@@ -3,6 +3,7 @@ const HomePage = () => {
     const state = {
         user: null,
         currentPage: 0,
+        nextCursor: null, // 서버가 내려준 다음 페이지 커서 (첫 페이지는 null)
         isLoading: false,
         hasMoreData: true,
         totalLoadedNovels: 0
@@ -48,9 +49,12 @@ const HomePage = () => {
             if (loadingIndicator) loadingIndicator.style.display = 'block';
 
             try {
-                const response = await fetch(`/api/novels?page=${page}&size=8`);
+                // 커서 기반 피드: 페이지 번호 대신 직전 응답의 nextCursor로 다음 페이지를 요청 (깊이 스크롤해도 조회 비용 일정)
+                const cursorParam = state.nextCursor ? `&cursor=${encodeURIComponent(state.nextCursor)}` : '';
+                const response = await fetch(`/api/novels/feed?size=8${cursorParam}`);
                 if (!response.ok) throw new Error(`서버 오류: ${response.status}`);
-                const novels = await response.json();
+                const feed = await response.json();
+                const novels = feed?.novels;
 
                 if (!Array.isArray(novels)) {
                     // ✅ 데이터 형식이 배열이 아닐 경우에도 더 이상 요청하지 않도록 상태 변경
@@ -74,7 +78,8 @@ const HomePage = () => {
                     return;
                 }
 
-                if (novels.length < 8) state.hasMoreData = false;
+                state.nextCursor = feed.nextCursor;
+                if (!feed.hasNext) state.hasMoreData = false;
                 state.totalLoadedNovels += novels.length;
                 renderNovels(novels, append);
 
@@ -178,6 +183,7 @@ const HomePage = () => {
     const init = () => {
         // 상태 초기화
         state.currentPage = 0;
+        state.nextCursor = null;
         state.isLoading = false;
         state.hasMoreData = true;
         state.totalLoadedNovels = 0;
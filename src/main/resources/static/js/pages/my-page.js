@@ -77,8 +77,16 @@ const MyPage = () => {
             profileImage.src = imageUrl;
             profileImage.alt = `${user.nickname} 프로필 사진`;
 
+            // 변환된 프로필 썸네일(profile_{hash}.jpg)이면 일반 화면에는 128px, 고해상도 화면에는 256px 파일 사용
+            if (/\/profile_[0-9a-f]{16}\.jpg$/.test(imageUrl)) {
+                profileImage.srcset = `${imageUrl.replace(/\.jpg$/, '_128.jpg')} 1x, ${imageUrl} 2x`;
+            } else {
+                profileImage.removeAttribute('srcset');
+            }
+
             // 이미지 로드 실패 시 기본 이미지로 변경
             profileImage.onerror = function () {
+                this.removeAttribute('srcset');
                 this.src = '/img/default-profile.webp';
                 this.onerror = null; // 무한 루프 방지
             };
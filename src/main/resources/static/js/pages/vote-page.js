@@ -28,6 +28,8 @@ const VotePage = () => {
     const proposalsMap = new Map();
     // 1위 제안의 chapterId 대신 소설의 최신 chapterId를 저장할 변수
     let latestChapterId = null;
+    // 실시간 투표 현황(SSE) 연결. 최신 챕터가 확인된 뒤 한 번만 연결합니다.
+    let tallySource = null;
 
     // URL 경로에서 novelId를 추출하는 로직
     const novelId = (() => {
@@ -181,12 +183,18 @@ const VotePage = () => {
             }
 
             // 제안 목록을 순회하며 각 항목을 HTML 요소로 생성하고 DOM에 추가합니다.
+            proposalsMap.clear();
             proposals.forEach((proposal, index) => {
                 const proposalItem = createProposalElement(proposal, index + 1);
                 proposalsContainer.appendChild(proposalItem);
                 proposalsMap.set(proposal.proposalId, proposal);
             });
 
+            // 목록을 다시 조회하지 않도록, 이후 투표 수 변화는 서버가 밀어주는 이벤트로 반영합니다.
+            if (latestChapterId) {
+                subscribeTally(latestChapterId);
+            }
+
             // 11. 마감 시간이 존재하는 경우, 카운트다운 타이머를 시작합니다.
             // 제안 목록의 유무와 관계없이 마감 시간이 존재하면 타이머를 시작합니다.
             const deadlineTime = deadlineInfo.closingTime;
@@ -204,6 +212,61 @@ const VotePage = () => {
     }
 
 
+    /**
+     * @description 회차의 실시간 투표 현황(SSE)을 구독합니다.
+     * 서버는 250ms 동안 모인 투표 수 변화량(tally)을 한 번에 보내고, 투표가 마감되면 closed 이벤트를 보냅니다.
+     * 변화량만 전달되므로, 연결이 끊겼다가 다시 연결되면 목록을 새로 조회해 기준값을 맞춥니다.
+     * @param {number} chapterId 구독할 챕터 ID
+     */
+    function subscribeTally(chapterId) {
+        if (tallySource || typeof EventSource === 'undefined') return;
+
+        let connectedOnce = false;
+        tallySource = new EventSource(`/api/vote/chapters/${chapterId}/stream`);
+
+        tallySource.addEventListener('open', () => {
+            if (connectedOnce) {
+                // 재연결: 끊긴 동안의 변화량은 받을 수 없으므로 목록을 새로 조회
+                loadProposals();
+            }
+            connectedOnce = true;
+        });
+
+        tallySource.addEventListener('tally', (event) => {
+            const deltas = JSON.parse(event.data);
+            let changed = false;
+            deltas.forEach(({ proposalId, delta }) => {
+                const proposal = proposalsMap.get(proposalId);
+                if (proposal) {
+                    proposal.voteCount = Math.max(0, proposal.voteCount + delta);
+                    changed = true;
+                }
+            });
+            if (changed) renderRanking();
+        });
+
+        tallySource.addEventListener('closed', () => {
+            tallySource.close();
+            tallySource = null;
+            if (timerInterval) clearInterval(timerInterval);
+            countdownDisplay.textContent = '투표가 마감되었습니다.';
+            document.querySelectorAll('.btn-vote').forEach(btn => btn.disabled = true);
+            alert('투표가 마감되었습니다. 소설 페이지로 이동합니다.');
+            window.location.href = `/chapters?novelId=${novelId}`;
+        });
+    }
+
+    /**
+     * @description 메모리에 보관 중인 제안들을 현재 투표 수 기준으로 다시 정렬해 화면에 그립니다.
+     */
+    function renderRanking() {
+        const ranked = [...proposalsMap.values()].sort((a, b) => b.voteCount - a.voteCount || a.proposalId - b.proposalId);
+        const fragment = document.createDocumentFragment();
+        ranked.forEach((proposal, index) => fragment.appendChild(createProposalElement(proposal, index + 1)));
+        proposalsContainer.replaceChildren(fragment);
+    }
+
+
     /**
      * @description 마감 시간을 기준으로 카운트다운 타이머를 시작합니다.
      * @param {string} deadlineTime - ISO 8601 형식의 마감 시간 문자열 (예: '2025-08-23T10:00:00Z')
@@ -108,15 +108,28 @@ export const login = (credentials) => {
 };
 
 export const checkUsername = (loginId) => {
-    return request(`/api/auth/check-username?loginId=${loginId}`);
+    return request(`/api/auth/check-username?loginId=${encodeURIComponent(loginId)}`);
 };
 
 export const checkEmail = (email) => {
-    return request(`/api/auth/check-email?email=${email}`);
+    return request(`/api/auth/check-email?email=${encodeURIComponent(email)}`);
 };
 
 export const checkNickname = (nickname) => {
-    return request(`/api/auth/check-nickname?nickname=${nickname}`);
+    return request(`/api/auth/check-nickname?nickname=${encodeURIComponent(nickname)}`);
+};
+
+/**
+ * 아이디/이메일/닉네임 중복 여부를 한 번에 확인합니다. (IP당 호출 수 제한 있음)
+ * @param {{loginId?: string, email?: string, nickname?: string}} fields 확인할 항목
+ * @returns {Promise<Object>} data: { loginIdTaken, emailTaken, nicknameTaken } (요청하지 않은 항목은 null)
+ */
+export const checkAvailability = (fields) => {
+    const params = new URLSearchParams();
+    Object.entries(fields).forEach(([key, value]) => {
+        if (value) params.append(key, value);
+    });
+    return request(`/api/auth/check-availability?${params}`);
 };
 
 /**
@@ -136,12 +149,13 @@ export const getGenres = () => {
  * @author 왕택준
  * @param {string} genre - 사용자가 입력한 장르.
  * @param {string} synopsis - 사용자가 입력한 시놉시스.
+ * @param {boolean} [regenerate=false] - true이면 캐시된 추천 결과 대신 새로 생성을 요청합니다.
  * @returns {Promise<Object>} AI가 생성한 추천 데이터 (ApiResponse의 data 부분).
  */
-export const recommendNovelApi = (genre, synopsis) => {
+export const recommendNovelApi = (genre, synopsis, regenerate = false) => {
     return request('/api/ai/novels/recommend', {
         method: 'POST',
-        body: JSON.stringify({ genre, synopsis }),
+        body: JSON.stringify({ genre, synopsis, regenerate }),
     }).then(response => response.data);
 };
 
@@ -172,6 +186,76 @@ export const continueChapterApi = (chapterId, instruction) => {
     }).then(response => response.data);
 };
 
+/**
+ * AI에게 이어쓰기 초안을 스트리밍 방식(SSE)으로 추천받습니다. (인증 필요)
+ * <p>
+ * EventSource는 POST 요청과 Authorization 헤더를 지원하지 않으므로, fetch의 ReadableStream으로
+ * `text/event-stream` 응답을 직접 읽어 이벤트 단위로 분리합니다.
+ * @author 왕택준
+ * @param {number|string} chapterId - 이어쓰기의 기준이 될 회차 ID.
+ * @param {string} instruction - AI에게 전달할 구체적인 지시사항.
+ * @param {function(string): void} onChunk - AI가 생성한 텍스트 조각이 도착할 때마다 호출되는 콜백.
+ * @returns {Promise<Object>} 스트림 종료 후 제목/내용이 분리된 최종 추천 데이터.
+ */
+export const continueChapterStreamApi = async (chapterId, instruction, onChunk) => {
+    const headers = { 'Content-Type': 'application/json', 'Accept': 'text/event-stream, application/json' };
+    const token = getToken();
+    if (token) {
+        headers['Authorization'] = `Bearer ${token}`;
+    }
+
+    const response = await fetch(`${BASE_URL}/api/ai/chapters/${chapterId}/continue/stream`, {
+        method: 'POST',
+        headers,
+        body: JSON.stringify({ instruction }),
+    });
+    if (!response.ok || !response.body) {
+        const data = await safeJson(response);
+        const errorMessage = data?.message || data?.detail || `HTTP 에러! 상태 코드: ${response.status}`;
+        throw { success: false, message: errorMessage, status: response.status };
+    }
+
+    const reader = response.body.getReader();
+    const decoder = new TextDecoder('utf-8');
+    let buffer = '';
+    let result = null;
+
+    while (true) {
+        const { value, done } = await reader.read();
+        if (done) break;
+        buffer += decoder.decode(value, { stream: true });
+
+        // SSE 이벤트는 빈 줄(\n\n)로 구분됩니다.
+        let boundary;
+        while ((boundary = buffer.indexOf('\n\n')) !== -1) {
+            const rawEvent = buffer.slice(0, boundary);
+            buffer = buffer.slice(boundary + 2);
+
+            let eventName = 'message';
+            const dataLines = [];
+            rawEvent.split('\n').forEach(line => {
+                if (line.startsWith('event:')) eventName = line.slice(6).trim();
+                else if (line.startsWith('data:')) dataLines.push(line.slice(5));
+            });
+            if (dataLines.length === 0) continue;
+            const payload = JSON.parse(dataLines.join('\n'));
+
+            if (eventName === 'chunk') {
+                onChunk(payload.text);
+            } else if (eventName === 'done') {
+                result = payload;
+            } else if (eventName === 'error') {
+                throw { success: false, message: payload.message };
+            }
+        }
+    }
+
+    if (!result) {
+        throw { success: false, message: 'AI 응답이 완료되기 전에 연결이 종료되었습니다.' };
+    }
+    return result;
+};
+
 /**
  * 새로운 이어쓰기 제안을 생성합니다. (인증 필요)
  * @author 왕택준
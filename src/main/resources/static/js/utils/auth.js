@@ -43,6 +43,33 @@ function debounce(callback, delay = 500) {
     };
 }
 
+/**
+ * 중복 체크 응답을 입력값별로 잠시 보관하여, 같은 값을 다시 입력했을 때 서버에 다시 묻지 않습니다.
+ * 마지막으로 입력한 값의 응답만 화면에 반영하여, 늦게 도착한 이전 응답이 결과를 덮어쓰지 않도록 합니다.
+ */
+const DUPLICATE_CHECK_TTL_MS = 30 * 1000;
+
+function createDuplicateChecker(checkFn) {
+    const cache = new Map();
+    let latestValue = null;
+    return async (value) => {
+        latestValue = value;
+        const cached = cache.get(value);
+        let response;
+        if (cached && Date.now() - cached.at < DUPLICATE_CHECK_TTL_MS) {
+            response = cached.response;
+        } else {
+            response = await checkFn(value);
+            cache.set(value, {response, at: Date.now()});
+        }
+        return value === latestValue ? response : null;
+    };
+}
+
+const checkUsernameCached = createDuplicateChecker(api.checkUsername);
+const checkEmailCached = createDuplicateChecker(api.checkEmail);
+const checkNicknameCached = createDuplicateChecker(api.checkNickname);
+
 /**
  * 피드백 메시지를 UI에 표시합니다.
  */
@@ -103,8 +130,8 @@ const handleUsernameCheck = debounce(async (e) => {
 
     // 2. 형식이 맞을 경우에만 서버에 중복 검사를 요청합니다.
     try {
-        const response = await api.checkUsername(loginId);
-        showFeedback(feedbackEl, response.message, !response.data);
+        const response = await checkUsernameCached(loginId);
+        if (response) showFeedback(feedbackEl, response.message, !response.data);
     } catch (error) {
         showFeedback(feedbackEl, getErrorMessage(error), false);
     }
@@ -123,8 +150,8 @@ const handleEmailCheck = debounce(async (e) => {
         return;
     }
     try {
-        const response = await api.checkEmail(email);
-        showFeedback(feedbackEl, response.message, !response.data);
+        const response = await checkEmailCached(email);
+        if (response) showFeedback(feedbackEl, response.message, !response.data);
     } catch (error) {
         showFeedback(feedbackEl, getErrorMessage(error), false);
     }
@@ -143,8 +170,8 @@ const handleNicknameCheck = debounce(async (e) => {
         return;
     }
     try {
-        const response = await api.checkNickname(nickname);
-        showFeedback(feedbackEl, response.message, !response.data);
+        const response = await checkNicknameCached(nickname);
+        if (response) showFeedback(feedbackEl, response.message, !response.data);
     } catch (error) {
         showFeedback(feedbackEl, getErrorMessage(error), false);
     }
@@ -196,6 +223,23 @@ async function handleSignUp(e) {
         return;
     }
     try {
+        // 제출 전에 세 항목의 중복 여부를 한 번의 요청으로 확인
+        const {data: taken} = await api.checkAvailability({
+            loginId: userData.loginId,
+            email: userData.email,
+            nickname: userData.nickname,
+        });
+        const takenFields = [
+            [taken.loginIdTaken, 'loginId-feedback', '이미 사용 중인 사용자명입니다.'],
+            [taken.emailTaken, 'email-feedback', '이미 사용 중인 이메일입니다.'],
+            [taken.nicknameTaken, 'nickname-feedback', '이미 사용 중인 닉네임입니다.'],
+        ].filter(([isTaken]) => isTaken);
+        if (takenFields.length > 0) {
+            takenFields.forEach(([, feedbackId, message]) =>
+                showFeedback(document.getElementById(feedbackId), message, false));
+            return;
+        }
+
         const response = await api.signUp(userData);
         if (response.success) {
             alert('회원가입에 성공했습니다! 로그인 해주세요.');
@@ -0,0 +1,151 @@
+package com.spring.aidea.ai;
+
+import com.spring.aidea.vibefiction.dto.request.proposal.ProposalCreateRequestTj;
+import com.spring.aidea.vibefiction.dto.response.proposal.ProposalCreateResponseTj;
+import com.spring.aidea.vibefiction.entity.AiInteractionLogs;
+import com.spring.aidea.vibefiction.entity.Chapters;
+import com.spring.aidea.vibefiction.entity.Novels;
+import com.spring.aidea.vibefiction.entity.Users;
+import com.spring.aidea.vibefiction.repository.AiInteractionLogsRepository;
+import com.spring.aidea.vibefiction.repository.NovelsRepository;
+import com.spring.aidea.vibefiction.repository.UsersRepository;
+import com.spring.aidea.vibefiction.service.AiInteractionLogSink;
+import com.spring.aidea.vibefiction.service.AiPrompt;
+import com.spring.aidea.vibefiction.service.ProposalServiceTj;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link AiInteractionLogSink}가 제출된 로그를 배치로 기록하고, 실패한 로그만 골라 버리며,
+ * 제안 등록 전에 대기 중인 로그를 기록하는지 검증하는 테스트 클래스입니다.
+ * <p>
+ * 기록 시점을 테스트가 정하도록 스케줄 주기를 길게 두고 {@link AiInteractionLogSink#flush()}를 직접 호출합니다.
+ * 로그는 별도 트랜잭션으로 커밋되므로 테스트 클래스에 {@code @Transactional}을 걸지 않고,
+ * 생성한 데이터는 {@link #tearDown()}에서 직접 삭제합니다.
+ */
+@SpringBootTest(properties = "ai.log-sink.flush-interval=PT1H")
+public class AiInteractionLogSinkTest {
+
+    private static final String PREFIX = "ls" + System.currentTimeMillis() % 100000;
+    /** 존재하지 않는 사용자 ID. user_id 외래 키 제약을 위반하여 기록에 실패합니다. */
+    private static final long UNKNOWN_USER_ID = -1L;
+
+    @Autowired
+    AiInteractionLogSink aiInteractionLogSink;
+    @Autowired
+    ProposalServiceTj proposalServiceTj;
+    @Autowired
+    AiInteractionLogsRepository aiInteractionLogsRepository;
+    @Autowired
+    UsersRepository usersRepository;
+    @Autowired
+    NovelsRepository novelsRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    Users user;
+    Novels novel;
+    Chapters chapter;
+
+    @BeforeEach
+    void setUp() {
+        //given: 사용자 1명, 소설 1편, 1화
+        user = usersRepository.save(Users.builder()
+            .loginId(PREFIX)
+            .password("Test1234@")
+            .nickname(PREFIX)
+            .email(PREFIX + "@test.com")
+            .birthDate(LocalDate.of(2000, 1, 1))
+            .build());
+
+        novel = Novels.create(user, "로그 기록 테스트 소설", "시놉시스", Novels.NovelVisibility.PUBLIC, List.of());
+        chapter = Chapters.create(novel, user, "1화", "1화 내용", null);
+        novel.addChapter(chapter);
+        novel = novelsRepository.save(novel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 로그가 제안/회차를 참조하므로 로그부터 삭제
+        jdbcTemplate.update("DELETE FROM ai_interaction_logs WHERE user_id = ?", user.getUserId());
+        novelsRepository.deleteById(novel.getNovelId());
+        usersRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("제출된 로그는 flush 전까지 기록되지 않고, flush 한 번에 모두 기록되어야 한다")
+    void flushWritesSubmittedLogsInBatch() {
+        //given
+        double written = count("ai.log.sink.written");
+        List<Long> logIds = List.of(submit(user.getUserId()), submit(user.getUserId()), submit(user.getUserId()));
+        assertThat(aiInteractionLogsRepository.findAllById(logIds)).isEmpty();
+
+        //when
+        aiInteractionLogSink.flush();
+
+        //then
+        assertThat(aiInteractionLogsRepository.findAllById(logIds)).hasSize(3);
+        assertThat(count("ai.log.sink.written") - written).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("배치 중 한 건이 실패하면 한 건씩 다시 기록하여, 실패한 로그만 버려야 한다")
+    void failedRowFallsBackToRowByRow() {
+        //given: 가운데 로그만 외래 키 제약을 위반
+        double written = count("ai.log.sink.written");
+        double dropped = count("ai.log.sink.dropped");
+        Long first = submit(user.getUserId());
+        Long bad = submit(UNKNOWN_USER_ID);
+        Long last = submit(user.getUserId());
+
+        //when
+        aiInteractionLogSink.flush();
+
+        //then
+        assertThat(aiInteractionLogsRepository.existsById(first)).isTrue();
+        assertThat(aiInteractionLogsRepository.existsById(bad)).isFalse();
+        assertThat(aiInteractionLogsRepository.existsById(last)).isTrue();
+        assertThat(count("ai.log.sink.written") - written).isEqualTo(2);
+        assertThat(count("ai.log.sink.dropped") - dropped).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("방금 받은 로그 ID로 제안을 등록하면, 로그를 먼저 기록하고 제안과 연결해야 한다")
+    void proposalCreateSeesPendingLog() {
+        //given: 아직 기록되지 않은 로그
+        Long logId = submit(user.getUserId());
+        assertThat(aiInteractionLogsRepository.existsById(logId)).isFalse();
+
+        //when
+        ProposalCreateResponseTj response = proposalServiceTj.create(chapter.getChapterId(), user.getUserId(),
+            ProposalCreateRequestTj.builder().title("제안").content("제안 내용").aiLogId(logId).build());
+
+        //then
+        Long relatedProposalId = jdbcTemplate.queryForObject(
+            "SELECT related_proposal_id FROM ai_interaction_logs WHERE log_id = ?", Long.class, logId);
+        assertThat(relatedProposalId).isEqualTo(response.getProposalId());
+    }
+
+    private Long submit(Long userId) {
+        AiPrompt prompt = AiPrompt.of("템플릿 %s", AiPrompt.NO_CONTEXT, "인자");
+        return aiInteractionLogSink.submit(userId, AiInteractionLogs.AiInteractionType.PROPOSAL_GENERATION,
+            prompt, "결과", null, false);
+    }
+
+    private double count(String counterName) {
+        return meterRegistry.get(counterName).counter().count();
+    }
+}
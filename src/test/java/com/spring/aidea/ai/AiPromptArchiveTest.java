@@ -0,0 +1,123 @@
+package com.spring.aidea.ai;
+
+import com.spring.aidea.vibefiction.entity.AiInteractionLogs;
+import com.spring.aidea.vibefiction.entity.Users;
+import com.spring.aidea.vibefiction.repository.AiInteractionLogsRepository;
+import com.spring.aidea.vibefiction.repository.UsersRepository;
+import com.spring.aidea.vibefiction.service.AiInteractionLogSink;
+import com.spring.aidea.vibefiction.service.AiPrompt;
+import com.spring.aidea.vibefiction.service.AiPromptArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link AiPromptArchive} 형식으로 기록된 로그에서 프롬프트와 결과 원문을 그대로 되살릴 수 있는지,
+ * 여러 로그가 같은 템플릿/컨텍스트 블록을 공유하는지 검증하는 테스트 클래스입니다.
+ * <p>
+ * 로그는 {@link AiInteractionLogSink}를 통해 별도 트랜잭션으로 기록되므로 테스트 클래스에 {@code @Transactional}을 걸지 않고,
+ * 생성한 데이터는 {@link #tearDown()}에서 직접 삭제합니다.
+ */
+@SpringBootTest(properties = "ai.log-sink.flush-interval=PT1H")
+public class AiPromptArchiveTest {
+
+    private static final String PREFIX = "pa" + System.currentTimeMillis() % 100000;
+
+    /**
+     * 다른 테스트의 블록과 섞이지 않도록 테스트마다 다른 템플릿/컨텍스트를 사용합니다.
+     * (싱크는 이미 저장한 블록 해시를 기억하므로, 삭제한 블록과 같은 내용은 다시 저장하지 않습니다.)
+     */
+    private final String marker = UUID.randomUUID().toString();
+    private final String template = "[" + marker + "] 제목: %s%n이전 줄거리:%n%s%n지시문: %s";
+    private final String context = "[" + marker + "] 주인공은 오래된 지도를 발견했다.\n지도에는 % 기호와 \"따옴표\"가 적혀 있었다.";
+
+    @Autowired
+    AiInteractionLogSink aiInteractionLogSink;
+    @Autowired
+    AiPromptArchive aiPromptArchive;
+    @Autowired
+    AiInteractionLogsRepository aiInteractionLogsRepository;
+    @Autowired
+    UsersRepository usersRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    Users user;
+
+    @BeforeEach
+    void setUp() {
+        user = usersRepository.save(Users.builder()
+            .loginId(PREFIX)
+            .password("Test1234@")
+            .nickname(PREFIX)
+            .email(PREFIX + "@test.com")
+            .birthDate(LocalDate.of(2000, 1, 1))
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM ai_interaction_logs WHERE user_id = ?", user.getUserId());
+        jdbcTemplate.update("DELETE FROM ai_prompt_blocks WHERE block_hash IN (?, ?)",
+            AiPromptArchive.hash(template), AiPromptArchive.hash(context));
+        usersRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("기록된 로그에서 되살린 프롬프트와 결과는 원문과 같아야 한다")
+    void promptAndResultRoundTrip() {
+        //given
+        AiPrompt prompt = AiPrompt.of(template, 1, "지도의 비밀", context, "긴장감 있게 이어 주세요.");
+        String result = "2화 제목\n---\n결과 본문 ".repeat(50);
+
+        //when
+        AiInteractionLogs log = record(prompt, result);
+
+        //then
+        assertThat(log.getPrompt()).isNull();
+        assertThat(log.getResult()).isNull();
+        assertThat(aiPromptArchive.promptOf(log)).isEqualTo(prompt.render());
+        assertThat(aiPromptArchive.resultOf(log)).isEqualTo(result);
+    }
+
+    @Test
+    @DisplayName("같은 템플릿과 컨텍스트를 쓰는 로그는 블록 하나를 공유하고, 각자의 인자로 원문을 되살려야 한다")
+    void sharedBlocksAreReused() {
+        //given: 같은 템플릿/컨텍스트에 지시문만 다른 두 요청 (각각 다른 배치로 기록)
+        AiPrompt first = AiPrompt.of(template, 1, "지도의 비밀", context, "첫 번째 지시문");
+        AiPrompt second = AiPrompt.of(template, 1, "지도의 비밀", context, "두 번째 지시문");
+
+        //when
+        AiInteractionLogs firstLog = record(first, "첫 번째 결과");
+        AiInteractionLogs secondLog = record(second, "두 번째 결과");
+
+        //then
+        assertThat(secondLog.getTemplateHash()).isEqualTo(firstLog.getTemplateHash());
+        assertThat(secondLog.getContextHash()).isEqualTo(firstLog.getContextHash());
+        assertThat(countBlocks(firstLog.getTemplateHash())).isEqualTo(1);
+        assertThat(countBlocks(firstLog.getContextHash())).isEqualTo(1);
+        assertThat(aiPromptArchive.promptOf(firstLog)).isEqualTo(first.render());
+        assertThat(aiPromptArchive.promptOf(secondLog)).isEqualTo(second.render());
+    }
+
+    private AiInteractionLogs record(AiPrompt prompt, String result) {
+        Long logId = aiInteractionLogSink.submit(user.getUserId(),
+            AiInteractionLogs.AiInteractionType.PROPOSAL_GENERATION, prompt, result, null, false);
+        aiInteractionLogSink.flush();
+        return aiInteractionLogsRepository.findById(logId).orElseThrow();
+    }
+
+    private int countBlocks(String hash) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM ai_prompt_blocks WHERE block_hash = ?", Integer.class, hash);
+    }
+}
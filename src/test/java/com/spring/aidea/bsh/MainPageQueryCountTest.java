@@ -0,0 +1,107 @@
+package com.spring.aidea.bsh;
+
+import com.spring.aidea.vibefiction.dto.response.novel.NovelFeedResponseSH;
+import com.spring.aidea.vibefiction.dto.response.novel.NovelsResponseDtoSH;
+import com.spring.aidea.vibefiction.entity.Genres;
+import com.spring.aidea.vibefiction.entity.Novels;
+import com.spring.aidea.vibefiction.entity.Users;
+import com.spring.aidea.vibefiction.repository.GenresRepository;
+import com.spring.aidea.vibefiction.repository.NovelsRepository;
+import com.spring.aidea.vibefiction.repository.UsersRepository;
+import com.spring.aidea.vibefiction.service.MainPageServiceSH;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메인 피드 조회 시 실행되는 SQL 수를 Hibernate 통계로 검증하는 테스트 클래스입니다.
+ * 소설 카드 수와 관계없이 "DTO Projection 1번 + 장르 일괄 조회 1번"으로 끝나야 합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+public class MainPageQueryCountTest {
+
+    private static final int PAGE_SIZE = 8;
+
+    @Autowired
+    MainPageServiceSH mainPageServiceSH;
+    @Autowired
+    NovelsRepository novelsRepository;
+    @Autowired
+    UsersRepository usersRepository;
+    @Autowired
+    GenresRepository genresRepository;
+    @Autowired
+    CacheManager cacheManager;
+    @Autowired
+    EntityManager em;
+    @Autowired
+    EntityManagerFactory emf;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        //given: 장르가 2개씩 달린 소설을 한 페이지 분량만큼 생성
+        Users author = usersRepository.save(Users.builder()
+                .loginId("querycount")
+                .password("Test1234@")
+                .nickname("쿼리카운트")
+                .email("querycount@test.com")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .build());
+        List<Genres> genres = genresRepository.findAll().stream().limit(2).toList();
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            novelsRepository.save(Novels.create(author, "쿼리 카운트 소설 " + i, "시놉시스",
+                    Novels.NovelVisibility.PUBLIC, genres));
+        }
+
+        // 1차 캐시에 남은 엔티티가 지연 로딩을 가리지 않도록 비우고, 조회 캐시가 쿼리를 가리지 않도록 비움
+        em.flush();
+        em.clear();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("소설 목록(OFFSET) 조회는 카드 수와 관계없이 쿼리 2번으로 끝나야 한다")
+    void findAllNovelsStatementCount() {
+        //when
+        List<NovelsResponseDtoSH> novels = mainPageServiceSH.findAllNovels(PageRequest.of(0, PAGE_SIZE));
+        //then
+        assertThat(novels).hasSize(PAGE_SIZE);
+        assertThat(novels).allSatisfy(novel -> {
+            assertThat(novel.getAuthorName()).isNotNull();
+            assertThat(novel.getGenres()).isNotEmpty();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("메인 피드(커서) 조회는 카드 수와 관계없이 쿼리 2번으로 끝나야 한다")
+    void findNovelsFeedStatementCount() {
+        //when
+        NovelFeedResponseSH feed = mainPageServiceSH.findNovelsFeed(null, PAGE_SIZE);
+        //then
+        assertThat(feed.getNovels()).hasSize(PAGE_SIZE);
+        assertThat(feed.getNovels()).allSatisfy(novel -> assertThat(novel.getGenres()).isNotEmpty());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,48 @@
+package com.spring.aidea.cache;
+
+import com.spring.aidea.vibefiction.global.cache.BloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원가입 중복 체크에 쓰는 {@link BloomFilter}가 누락 없이 동작하고, 오탐 확률이 목표 근처인지 확인하는 테스트 클래스입니다.
+ */
+public class BloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+
+    @Test
+    @DisplayName("추가한 값은 항상 있을 수도 있다고 답해야 한다 (누락 없음)")
+    void noFalseNegatives() {
+        //given
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("user" + i);
+        }
+        //then
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertThat(filter.mightContain("user" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐 비율은 목표 확률의 두 배를 넘지 않아야 한다")
+    void falsePositiveRateNearTarget() {
+        //given
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("user" + i);
+        }
+        //when
+        int falsePositives = 0;
+        for (int i = 0; i < INSERTIONS; i++) {
+            if (filter.mightContain("닉네임" + i)) {
+                falsePositives++;
+            }
+        }
+        //then
+        assertThat((double) falsePositives / INSERTIONS).isLessThan(0.02);
+    }
+}
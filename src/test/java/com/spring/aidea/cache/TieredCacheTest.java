@@ -0,0 +1,45 @@
+package com.spring.aidea.cache;
+
+import com.spring.aidea.vibefiction.global.cache.TieredCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link TieredCache}가 L2에서 찾은 값을 L1에 채우고, 형식이 맞지 않는 값은 캐시 미스로 처리하는지 확인하는 테스트 클래스입니다.
+ */
+public class TieredCacheTest {
+
+    @Test
+    @DisplayName("L2에서 찾은 값은 L1에 채워야 한다")
+    void remoteHitFillsLocal() {
+        //given
+        ConcurrentMapCache local = new ConcurrentMapCache("test");
+        ConcurrentMapCache remote = new ConcurrentMapCache("test");
+        remote.put("key", "value");
+        TieredCache cache = new TieredCache(local, remote);
+        //when
+        String value = cache.get("key", String.class);
+        //then
+        assertThat(value).isEqualTo("value");
+        assertThat(local.get("key", String.class)).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("캐시된 값의 타입이 요청한 타입과 다르면 예외 없이 미스로 처리하고 두 단계 모두에서 지워야 한다")
+    void typeMismatchIsTreatedAsMiss() {
+        //given: 이전 형식으로 저장된 값
+        ConcurrentMapCache local = new ConcurrentMapCache("test");
+        ConcurrentMapCache remote = new ConcurrentMapCache("test");
+        TieredCache cache = new TieredCache(local, remote);
+        cache.put("key", "old format");
+        //when
+        Integer value = cache.get("key", Integer.class);
+        //then
+        assertThat(value).isNull();
+        assertThat(local.get("key")).isNull();
+        assertThat(remote.get("key")).isNull();
+    }
+}
@@ -0,0 +1,163 @@
+package com.spring.aidea.image;
+
+import com.spring.aidea.vibefiction.global.config.FileUploadConfig;
+import com.spring.aidea.vibefiction.global.config.ProfileImageProperties;
+import com.spring.aidea.vibefiction.global.exception.BusinessException;
+import com.spring.aidea.vibefiction.repository.UsersRepository;
+import com.spring.aidea.vibefiction.service.ProfileImageProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * {@link ProfileImageProcessor}가 업로드 이미지를 메타데이터 없는 정사각형 썸네일로 바꾸어 저장하는지 확인하는 테스트 클래스입니다.
+ */
+public class ProfileImageProcessorTest {
+
+    private static final long USER_ID = 7L;
+
+    @TempDir
+    Path uploadRoot;
+
+    private UsersRepository usersRepository;
+    private ThreadPoolTaskExecutor executor;
+    private ProfileImageProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        usersRepository = mock(UsersRepository.class);
+
+        FileUploadConfig fileUploadConfig = new FileUploadConfig();
+        fileUploadConfig.setLocation(uploadRoot.toString());
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.initialize();
+
+        processor = new ProfileImageProcessor(usersRepository, fileUploadConfig, new ProfileImageProperties(),
+            executor, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("직사각형 이미지는 가운데를 잘라 크기별 정사각형 JPEG으로 저장하고, 끝나면 프로필 URL을 바꿔야 한다")
+    void writesSquareThumbnails() throws Exception {
+        //given
+        BufferedImage source = new BufferedImage(800, 400, BufferedImage.TYPE_INT_ARGB);
+
+        //when
+        String url = processor.processAfterCommit(USER_ID, upload(encode(source, "png"), "image/png"));
+        awaitProcessing();
+
+        //then
+        assertThat(url).matches("/uploads/7/profile_[0-9a-f]{16}\\.jpg");
+        Path large = uploadRoot.resolve(url.substring("/uploads/".length()));
+        Path small = Path.of(large.toString().replace(".jpg", "_128.jpg"));
+        assertThat(dimensions(large)).containsExactly(256, 256);
+        assertThat(dimensions(small)).containsExactly(128, 128);
+        verify(usersRepository).updateProfileImageUrl(USER_ID, url);
+    }
+
+    @Test
+    @DisplayName("EXIF 회전 정보는 픽셀에 반영하고, EXIF 자체는 저장하지 않아야 한다")
+    void appliesOrientationAndStripsMetadata() throws Exception {
+        //given: 왼쪽은 빨강, 오른쪽은 파랑이며 '시계 방향 90도 회전'(6) 태그가 붙은 JPEG
+        BufferedImage source = new BufferedImage(400, 400, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = source.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, 200, 400);
+        g.setColor(Color.BLUE);
+        g.fillRect(200, 0, 200, 400);
+        g.dispose();
+        byte[] jpeg = withExifOrientation(encode(source, "jpeg"), 6);
+
+        //when
+        String url = processor.processAfterCommit(USER_ID, upload(jpeg, "image/jpeg"));
+        awaitProcessing();
+
+        //then: 회전 후에는 위쪽이 빨강, 아래쪽이 파랑
+        Path stored = uploadRoot.resolve(url.substring("/uploads/".length()));
+        BufferedImage result = ImageIO.read(stored.toFile());
+        assertThat(new Color(result.getRGB(128, 20)).getRed()).isGreaterThan(200);
+        assertThat(new Color(result.getRGB(128, 236)).getBlue()).isGreaterThan(200);
+        assertThat(new String(Files.readAllBytes(stored), StandardCharsets.ISO_8859_1)).doesNotContain("Exif");
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일은 변환을 예약하지 않고 거절해야 한다")
+    void rejectsNonImage() {
+        MockMultipartFile file = upload("not an image".getBytes(StandardCharsets.UTF_8), "image/png");
+
+        assertThatThrownBy(() -> processor.processAfterCommit(USER_ID, file))
+            .isInstanceOf(BusinessException.class);
+    }
+
+    private void awaitProcessing() throws InterruptedException {
+        executor.getThreadPoolExecutor().shutdown();
+        assertThat(executor.getThreadPoolExecutor().awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static MockMultipartFile upload(byte[] content, String contentType) {
+        return new MockMultipartFile("profileImage", "profile.img", contentType, content);
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private static int[] dimensions(Path file) throws IOException {
+        BufferedImage image = ImageIO.read(file.toFile());
+        return new int[]{image.getWidth(), image.getHeight()};
+    }
+
+    /** SOI 바로 뒤에 Orientation 태그 하나만 담은 EXIF(APP1) 세그먼트를 끼워 넣습니다. (빅 엔디언 TIFF) */
+    private static byte[] withExifOrientation(byte[] jpeg, int orientation) throws IOException {
+        byte[] tiff = {
+            'M', 'M', 0, 42, 0, 0, 0, 8,        // TIFF 헤더, IFD0 오프셋 8
+            0, 1,                               // 항목 1개
+            0x01, 0x12, 0, 3, 0, 0, 0, 1,       // Orientation, SHORT, 1개
+            0, (byte) orientation, 0, 0,        // 값
+            0, 0, 0, 0                          // 다음 IFD 없음
+        };
+        ByteArrayOutputStream app1 = new ByteArrayOutputStream();
+        app1.write(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        app1.write(tiff);
+        int length = app1.size() + 2;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(new byte[]{(byte) 0xFF, (byte) 0xE1, (byte) (length >> 8), (byte) length});
+        app1.writeTo(out);
+        out.write(jpeg, 2, jpeg.length - 2);
+        assertThat(ImageIO.read(new ByteArrayInputStream(out.toByteArray()))).isNotNull();
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,84 @@
+package com.spring.aidea.jwt;
+
+import com.spring.aidea.vibefiction.global.jwt.JwtProperties;
+import com.spring.aidea.vibefiction.global.jwt.JwtProvider;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link JwtProvider}의 검증 경로(서명 키/파서 재사용, 검증된 토큰 캐시)를 확인하는 테스트 클래스입니다.
+ */
+public class JwtProviderTest {
+
+    private static final String SECRET = "oIirSuZv9VNydoYp4h2ARrqwxRyPVZW82XGB2MovuKs=";
+
+    private JwtProvider provider(long verifiedCacheSize, long expiration) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(expiration);
+        properties.setVerifiedCacheSize(verifiedCacheSize);
+        return new JwtProvider(properties);
+    }
+
+    @Test
+    @DisplayName("한 번 검증한 Claims에서 사용자명과 권한을 모두 꺼낼 수 있어야 한다")
+    void parseVerifiedClaims() {
+        //given
+        JwtProvider jwtProvider = provider(100, 60_000);
+        String token = jwtProvider.generateToken("tester", "USER");
+        //when
+        Claims claims = jwtProvider.parseVerifiedClaims(token);
+        //then
+        assertThat(claims).isNotNull();
+        assertThat(claims.getSubject()).isEqualTo("tester");
+        assertThat(claims.get("role", String.class)).isEqualTo("USER");
+        assertThat(jwtProvider.parseVerifiedClaims(token)).isSameAs(claims);
+    }
+
+    @Test
+    @DisplayName("로그인 토큰에는 인증 주체를 만드는 데 필요한 userId와 권한이 모두 들어 있어야 한다")
+    void loginTokenCarriesUserIdAndRole() {
+        //given
+        JwtProvider jwtProvider = provider(0, 60_000);
+        String token = jwtProvider.generateToken("tester", 42L, "USER");
+        //when
+        Claims claims = jwtProvider.parseVerifiedClaims(token);
+        //then
+        assertThat(claims.getSubject()).isEqualTo("tester");
+        assertThat(claims.get("userId", Long.class)).isEqualTo(42L);
+        assertThat(claims.get("role", String.class)).isEqualTo("USER");
+    }
+
+    @Test
+    @DisplayName("정상 토큰이 캐시된 뒤에도 서명이 변조된 토큰은 거부해야 한다")
+    void rejectTamperedTokenAfterCaching() {
+        //given
+        JwtProvider jwtProvider = provider(100, 60_000);
+        String token = jwtProvider.generateToken("tester", "USER");
+        assertThat(jwtProvider.validateToken(token)).isTrue();
+        //when: 서명의 가운데 글자를 바꿈
+        // (마지막 글자는 base64url 패딩 비트만 바뀌어 같은 서명으로 디코딩될 수 있으므로 쓰지 않음)
+        int signatureStart = token.lastIndexOf('.') + 1;
+        int middle = signatureStart + (token.length() - signatureStart) / 2;
+        char original = token.charAt(middle);
+        String tampered = token.substring(0, middle) + (original == 'A' ? 'B' : 'A') + token.substring(middle + 1);
+        //then
+        assertThat(jwtProvider.validateToken(tampered)).isFalse();
+        assertThat(jwtProvider.parseVerifiedClaims(tampered)).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰과 빈 토큰은 캐시 사용 여부와 관계없이 거부해야 한다")
+    void rejectExpiredAndEmptyToken() {
+        for (long cacheSize : new long[]{0, 100}) {
+            JwtProvider jwtProvider = provider(cacheSize, -1_000);
+            String expired = jwtProvider.generateToken("tester", "USER");
+
+            assertThat(jwtProvider.validateToken(expired)).isFalse();
+            assertThat(jwtProvider.validateToken("")).isFalse();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.spring.aidea.mj;
+
+import com.spring.aidea.vibefiction.entity.Chapters;
+import com.spring.aidea.vibefiction.entity.Novels;
+import com.spring.aidea.vibefiction.entity.Proposals;
+import com.spring.aidea.vibefiction.entity.Users;
+import com.spring.aidea.vibefiction.repository.NovelsRepository;
+import com.spring.aidea.vibefiction.repository.ProposalsRepository;
+import com.spring.aidea.vibefiction.repository.UsersRepository;
+import com.spring.aidea.vibefiction.repository.VotesRepository;
+import com.spring.aidea.vibefiction.service.VoteServiceMj;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 제안에 동시에 투표가 몰릴 때 투표 수가 유실되지 않는지 검증하는 테스트 클래스입니다.
+ * 각 투표가 별도 트랜잭션으로 커밋되어야 하므로 테스트 클래스에 {@code @Transactional}을 걸지 않고,
+ * 생성한 데이터는 {@link #tearDown()}에서 직접 삭제합니다.
+ */
+@SpringBootTest
+public class VoteConcurrencyTest {
+
+    private static final int VOTER_COUNT = 2000;
+    private static final int THREAD_COUNT = 32;
+    private static final String PREFIX = "vc" + System.currentTimeMillis() % 100000;
+
+    @Autowired
+    VoteServiceMj voteServiceMj;
+    @Autowired
+    UsersRepository usersRepository;
+    @Autowired
+    NovelsRepository novelsRepository;
+    @Autowired
+    ProposalsRepository proposalsRepository;
+    @Autowired
+    VotesRepository votesRepository;
+
+    Users author;
+    List<Users> voters;
+    Novels novel;
+    Proposals proposal;
+
+    @BeforeEach
+    void setUp() {
+        //given: 소설 1편, 1화, 1화에 대한 제안 1개, 서로 다른 투표자 VOTER_COUNT명
+        author = usersRepository.save(user(PREFIX + "a"));
+
+        novel = Novels.create(author, "동시 투표 테스트 소설", "시놉시스", Novels.NovelVisibility.PUBLIC, List.of());
+        Chapters chapter = Chapters.create(novel, author, "1화", "1화 내용", null);
+        novel.addChapter(chapter);
+        novel = novelsRepository.save(novel);
+
+        proposal = proposalsRepository.save(Proposals.create(chapter, author, "제안", "제안 내용", null));
+
+        List<Users> newVoters = new ArrayList<>(VOTER_COUNT);
+        for (int i = 0; i < VOTER_COUNT; i++) {
+            newVoters.add(user(PREFIX + "v" + i));
+        }
+        voters = usersRepository.saveAll(newVoters);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 소설 삭제 시 회차 -> 제안 -> 투표 순으로 함께 삭제됨
+        novelsRepository.deleteById(novel.getNovelId());
+        usersRepository.deleteAllInBatch(voters);
+        usersRepository.delete(author);
+    }
+
+    @Test
+    @DisplayName("한 제안에 동시에 들어온 투표는 하나도 유실되지 않아야 한다")
+    void concurrentVotesAreNotLost() throws InterruptedException {
+        //when: 모든 투표자가 동시에 같은 제안에 투표
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(VOTER_COUNT);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (Users voter : voters) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    voteServiceMj.createVote(proposal.getProposalId(), voter.getLoginId());
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+        executor.shutdown();
+
+        //then: 비정규화된 투표 수와 투표 기록 수가 모두 투표자 수와 같아야 함
+        assertThat(failures).isEmpty();
+        Proposals reloaded = proposalsRepository.findById(proposal.getProposalId()).orElseThrow();
+        assertThat(reloaded.getVoteCount()).isEqualTo(VOTER_COUNT);
+        assertThat(votesRepository.countByProposal_ProposalId(proposal.getProposalId())).isEqualTo(VOTER_COUNT);
+    }
+
+    @Test
+    @DisplayName("동시에 투표와 취소가 섞여도 투표 수는 투표 기록 수와 같아야 한다")
+    void concurrentVoteAndCancelStayConsistent() throws InterruptedException {
+        //given: 절반은 미리 투표해 둠
+        List<Users> cancelers = voters.subList(0, VOTER_COUNT / 2);
+        List<Users> newVoters = voters.subList(VOTER_COUNT / 2, VOTER_COUNT);
+        cancelers.forEach(voter -> voteServiceMj.createVote(proposal.getProposalId(), voter.getLoginId()));
+
+        //when: 미리 투표한 절반은 취소하고, 나머지 절반은 새로 투표
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(VOTER_COUNT);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < VOTER_COUNT / 2; i++) {
+            Users canceler = cancelers.get(i);
+            Users voter = newVoters.get(i);
+            executor.submit(() -> runAfter(start, done, failures,
+                () -> voteServiceMj.cancelVote(proposal.getProposalId(), canceler.getLoginId())));
+            executor.submit(() -> runAfter(start, done, failures,
+                () -> voteServiceMj.createVote(proposal.getProposalId(), voter.getLoginId())));
+        }
+        start.countDown();
+        assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+        executor.shutdown();
+
+        //then
+        assertThat(failures).isEmpty();
+        Proposals reloaded = proposalsRepository.findById(proposal.getProposalId()).orElseThrow();
+        assertThat(reloaded.getVoteCount()).isEqualTo(newVoters.size());
+        assertThat(votesRepository.countByProposal_ProposalId(proposal.getProposalId())).isEqualTo(newVoters.size());
+    }
+
+    private void runAfter(CountDownLatch start, CountDownLatch done,
+                          ConcurrentLinkedQueue<Throwable> failures, Runnable task) {
+        try {
+            start.await();
+            task.run();
+        } catch (Throwable e) {
+            failures.add(e);
+        } finally {
+            done.countDown();
+        }
+    }
+
+    private Users user(String loginId) {
+        return Users.builder()
+            .loginId(loginId)
+            .password("Test1234@")
+            .nickname(loginId)
+            .email(loginId + "@test.com")
+            .birthDate(LocalDate.of(2000, 1, 1))
+            .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.spring.aidea.mj;
+
+import com.spring.aidea.vibefiction.global.config.VoteLeaderboardProperties;
+import com.spring.aidea.vibefiction.global.exception.BusinessException;
+import com.spring.aidea.vibefiction.global.exception.ErrorCode;
+import com.spring.aidea.vibefiction.repository.ChaptersRepository;
+import com.spring.aidea.vibefiction.repository.ProposalsRepository;
+import com.spring.aidea.vibefiction.service.VoteLeaderboard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * {@link VoteLeaderboard}가 범위를 벗어난 페이지 요청을 순위표를 만들기 전에 거절하는지 확인하는 테스트 클래스입니다.
+ */
+public class VoteLeaderboardTest {
+
+    private ChaptersRepository chaptersRepository;
+    private ProposalsRepository proposalsRepository;
+    private VoteLeaderboard voteLeaderboard;
+
+    @BeforeEach
+    void setUp() {
+        chaptersRepository = mock(ChaptersRepository.class);
+        proposalsRepository = mock(ProposalsRepository.class);
+        voteLeaderboard = new VoteLeaderboard(chaptersRepository, proposalsRepository,
+            new VoteLeaderboardProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("음수 페이지 번호는 INVALID_INPUT으로 거절해야 한다")
+    void rejectNegativePage() {
+        assertThatThrownBy(() -> voteLeaderboard.getPage(1L, -1, 10))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT);
+        verifyNoInteractions(chaptersRepository, proposalsRepository);
+    }
+
+    @Test
+    @DisplayName("0 이하의 페이지 크기는 INVALID_INPUT으로 거절해야 한다")
+    void rejectNonPositiveSize() {
+        assertThatThrownBy(() -> voteLeaderboard.getPage(1L, 0, 0))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT);
+        verifyNoInteractions(chaptersRepository, proposalsRepository);
+    }
+}
@@ -0,0 +1,117 @@
+package com.spring.aidea.search;
+
+import com.spring.aidea.vibefiction.dto.response.search.SearchHitResponseTj;
+import com.spring.aidea.vibefiction.dto.response.search.SearchResponseTj;
+import com.spring.aidea.vibefiction.entity.Chapters;
+import com.spring.aidea.vibefiction.entity.Genres;
+import com.spring.aidea.vibefiction.entity.NovelGenres;
+import com.spring.aidea.vibefiction.entity.Novels;
+import com.spring.aidea.vibefiction.global.config.SearchProperties;
+import com.spring.aidea.vibefiction.global.exception.BusinessException;
+import com.spring.aidea.vibefiction.service.NovelSearchIndex;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link NovelSearchIndex}의 한국어 색인, 관련도 순위, 종류 필터, 페이지 처리를 메모리 색인으로 확인하는 테스트 클래스입니다.
+ */
+public class NovelSearchIndexTest {
+
+    private NovelSearchIndex index;
+    private Novels novel;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new NovelSearchIndex(new SearchProperties(), new ByteBuffersDirectory());
+
+        //given: "마법사"가 제목에 있는 소설과, 본문에만 있는 회차
+        novel = Novels.builder()
+            .novelId(1L)
+            .title("마법사의 탑")
+            .synopsis("견습생이 탑을 오르는 이야기")
+            .visibility(Novels.NovelVisibility.PUBLIC)
+            .build();
+        novel.getNovelGenres().add(NovelGenres.create(novel, Genres.builder().name(Genres.GenreType.FANTASY).build()));
+        index.indexNovel(novel);
+
+        index.indexChapter(Chapters.builder()
+            .chapterId(10L)
+            .novel(novel)
+            .chapterNumber(1)
+            .title("첫 번째 계단")
+            .content("늙은 마법사는 견습생에게 지팡이를 건넸다.")
+            .build());
+        index.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 제목도 형태소 단위로 찾아지고, 제목 일치가 본문 일치보다 앞에 와야 한다")
+    void titleMatchRanksFirst() {
+        //when
+        SearchResponseTj result = index.search("마법사", null, 0, 10);
+        //then
+        assertThat(result.getTotalHits()).isEqualTo(2);
+        assertThat(result.getHits()).extracting(SearchHitResponseTj::getType)
+            .containsExactly("NOVEL", "CHAPTER");
+        SearchHitResponseTj chapterHit = result.getHits().get(1);
+        assertThat(chapterHit.getNovelTitle()).isEqualTo("마법사의 탑");
+        assertThat(chapterHit.getChapterNumber()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한글 장르 이름으로 소설을 찾을 수 있어야 한다")
+    void searchByGenreName() {
+        //when
+        SearchResponseTj result = index.search("판타지", null, 0, 10);
+        //then
+        assertThat(result.getHits()).singleElement()
+            .satisfies(hit -> assertThat(hit.getGenres()).containsExactly("판타지"));
+    }
+
+    @Test
+    @DisplayName("종류 필터와 페이지 크기를 적용하고, 다음 페이지 여부를 알려야 한다")
+    void typeFilterAndPaging() {
+        //when
+        SearchResponseTj chaptersOnly = index.search("마법사", NovelSearchIndex.DocumentType.CHAPTER, 0, 10);
+        SearchResponseTj firstPage = index.search("견습생", null, 0, 1);
+        SearchResponseTj secondPage = index.search("견습생", null, 1, 1);
+        //then
+        assertThat(chaptersOnly.getHits()).extracting(SearchHitResponseTj::getChapterId).containsExactly(10L);
+        assertThat(firstPage.getHits()).hasSize(1);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.getHits()).hasSize(1);
+        assertThat(secondPage.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 문서를 다시 색인하면 교체되고, 삭제한 문서는 결과에서 빠져야 한다")
+    void reindexAndDelete() {
+        //when
+        index.indexNovel(novel);
+        index.delete(NovelSearchIndex.DocumentType.CHAPTER, 10L);
+        index.refresh();
+        //then
+        assertThat(index.search("마법사", null, 0, 10).getHits()).extracting(SearchHitResponseTj::getType)
+            .containsExactly("NOVEL");
+    }
+
+    @Test
+    @DisplayName("최대 조회 범위를 넘는 페이지는 거절해야 한다")
+    void rejectsDeepPage() {
+        assertThatThrownBy(() -> index.search("마법사", null, 100, 50))
+            .isInstanceOf(BusinessException.class);
+    }
+}